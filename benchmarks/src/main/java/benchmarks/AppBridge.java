@@ -0,0 +1,333 @@
+/*************************************************************************
+ * Title: App Bridge
+ * File: AppBridge.java
+ * Date: 10/18/2026
+ *
+ * The application classes live in the default package, which can't be
+ * imported, while JMH insists benchmarks live in a named package. This
+ * class resolves the application methods once as constant MethodHandles,
+ * which the JIT inlines, so calls through it cost the same as direct
+ * calls.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Added readEmployees.
+ *   10/18/2026: Added updateFirstName and the table columns, for the scale test.
+ *   10/18/2026: Added the query service and its client, for the service test.
+ *************************************************************************/
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.InetSocketAddress;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public final class AppBridge {
+  private final static MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+  public final static Class<?> EMPLOYEE = load( "Employee" );
+  public final static Class<?> UTILITY = load( "EmployeeTableViewUtility" );
+  public final static Class<?> REFERENCE_DATA = load( "ReferenceData" );
+  public final static Class<?> EMPLOYEE_CACHE = load( "EmployeeCache" );
+  public final static Class<?> QUERY_SERVICE = load( "EmployeeQueryService" );
+  public final static Class<?> SERVICE_CLIENT = load( "EmployeeServiceClient" );
+
+  private final static MethodHandle TO_TITLE_CASE = findStatic( UTILITY, "toTitleCase", String.class, String.class );
+  private final static MethodHandle NEW_EMPLOYEE = findConstructor( EMPLOYEE,
+    int.class, String.class, String.class, int.class, int.class, long.class, String.class, String.class );
+  private final static MethodHandle GET_EMPLOYEE = findStatic( UTILITY, "getEmployee", EMPLOYEE, ResultSet.class );
+  private final static MethodHandle READ_EMPLOYEES = findStatic( UTILITY, "readEmployees", int.class, ResultSet.class, Collection.class );
+  private final static MethodHandle EMPLOYEE_GET_LIST = findStatic( UTILITY, "EmployeeGetList", load( "javafx.collections.ObservableList" ), int.class );
+  private final static MethodHandle GET_JOB_DESCRIPTION = findStatic( UTILITY, "getJobDescription", String.class, int.class );
+  private final static MethodHandle GET_PAY_FREQUENCY = findStatic( UTILITY, "getPayFrequency", String.class, int.class );
+  private final static MethodHandle OPEN_DB = findStatic( UTILITY, "openDB", boolean.class, String.class, String.class, String.class );
+  private final static MethodHandle CLOSE_DB = findStatic( UTILITY, "closeDB", void.class );
+  private final static MethodHandle SET_REFERENCE_DATA = findStatic( UTILITY, "setReferenceData", void.class, REFERENCE_DATA );
+  private final static MethodHandle NEW_REFERENCE_DATA = findConstructor( REFERENCE_DATA,
+    int[].class, String[].class, String[].class, String[].class );
+  private final static MethodHandle GET_EMPLOYEE_CACHE = findStatic( UTILITY, "getEmployeeCache", EMPLOYEE_CACHE );
+  private final static MethodHandle CLEAR_CACHE = findVirtual( EMPLOYEE_CACHE, "clear", void.class );
+  private final static MethodHandle GET_FIRST_NAME = findVirtual( EMPLOYEE, "getFirstName", String.class );
+  private final static MethodHandle GET_LAST_NAME = findVirtual( EMPLOYEE, "getLastName", String.class );
+  private final static MethodHandle GET_SALARY = findVirtual( EMPLOYEE, "getSalary", String.class );
+  private final static MethodHandle UPDATE_FIRST_NAME = findStatic( UTILITY, "updateFirstName", void.class, int.class, String.class );
+  private final static MethodHandle GET_EMPLOYEE_ID = findVirtual( EMPLOYEE, "getEmployeeId", int.class );
+  private final static MethodHandle NEW_QUERY_SERVICE = findConstructor( QUERY_SERVICE,
+    InetSocketAddress.class, int.class, long.class, String.class );
+  private final static MethodHandle START_SERVICE = findVirtual( QUERY_SERVICE, "start", void.class );
+  private final static MethodHandle STOP_SERVICE = findVirtual( QUERY_SERVICE, "stop", void.class );
+  private final static MethodHandle GET_SERVICE_PORT = findVirtual( QUERY_SERVICE, "getPort", int.class );
+  private final static MethodHandle NEW_SERVICE_CLIENT = findConstructor( SERVICE_CLIENT, String.class, String.class, String.class );
+  private final static MethodHandle CLIENT_GET_EMPLOYEES = findVirtual( SERVICE_CLIENT, "getEmployees", List.class, int.class );
+  private final static MethodHandle CLIENT_UPDATE_FIRST_NAMES = findVirtual( SERVICE_CLIENT, "updateFirstNames", void.class, Map.class );
+  private final static Class<?> TABLE_COLUMN = load( "javafx.scene.control.TableColumn" );
+  private final static String[] COLUMNS = { "getIdColumn", "getFirstNameColumn", "getLastNameColumn", "getJobTypeColumn",
+    "getPayFrequencyColumn", "getPayColumn", "getEmailColumn", "getTelephoneColumn" };
+
+  private AppBridge() {}
+
+  /***************************************************************
+   * Application calls.
+   **************************************************************/
+  public static String toTitleCase( final String s ) {
+    try {
+      return (String) TO_TITLE_CASE.invokeExact( s );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static Object newEmployee( int id, String fName, String lName, int jCode, int pCode, long cents, String mail, String tele ) {
+    try {
+      return (Object) NEW_EMPLOYEE.invokeExact( id, fName, lName, jCode, pCode, cents, mail, tele );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static Object getEmployee( final ResultSet resultSet ) {
+    try {
+      return (Object) GET_EMPLOYEE.invokeExact( resultSet );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static int readEmployees( final ResultSet resultSet, final Collection<Object> employees ) {
+    try {
+      return (int) READ_EMPLOYEES.invokeExact( resultSet, employees );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static List<?> employeeGetList( final int departmentNumber ) {
+    try {
+      return (List<?>) EMPLOYEE_GET_LIST.invokeExact( departmentNumber );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static String getJobDescription( final int jCode ) {
+    try {
+      return (String) GET_JOB_DESCRIPTION.invokeExact( jCode );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static String getPayFrequency( final int pCode ) {
+    try {
+      return (String) GET_PAY_FREQUENCY.invokeExact( pCode );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static boolean openDB( final String url, final String userId, final String password ) {
+    try {
+      return (boolean) OPEN_DB.invokeExact( url, userId, password );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static void closeDB() {
+    try {
+      CLOSE_DB.invokeExact();
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static void setReferenceData( final int[] departmentCodes, final String[] departmentNames,
+                                       final String[] jobDescriptions, final String[] payFrequencies ) {
+    try {
+      Object data = (Object) NEW_REFERENCE_DATA.invokeExact( departmentCodes, departmentNames, jobDescriptions, payFrequencies );
+      SET_REFERENCE_DATA.invokeExact( data );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static void updateFirstName( final int id, final String fName ) {
+    try {
+      UPDATE_FIRST_NAME.invokeExact( id, fName );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  /***************************************************************
+   * Query service, started on address, checking logins against
+   * the database at loginUrl; and a client of it.
+   **************************************************************/
+  public static Object startQueryService( final InetSocketAddress address, final int threads, final long ttl, final String loginUrl ) {
+    try {
+      Object service = (Object) NEW_QUERY_SERVICE.invokeExact( address, threads, ttl, loginUrl );
+      START_SERVICE.invokeExact( service );
+      return service;
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static int getServicePort( final Object service ) {
+    try {
+      return (int) GET_SERVICE_PORT.invokeExact( service );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static void stopQueryService( final Object service ) {
+    try {
+      STOP_SERVICE.invokeExact( service );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static Object newServiceClient( final String baseUrl, final String userId, final String password ) {
+    try {
+      return (Object) NEW_SERVICE_CLIENT.invokeExact( baseUrl, userId, password );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static List<?> serviceGetEmployees( final Object client, final int departmentNumber ) {
+    try {
+      return (List<?>) CLIENT_GET_EMPLOYEES.invokeExact( client, departmentNumber );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  public static void serviceUpdateFirstNames( final Object client, final Map<Integer, String> fNames ) {
+    try {
+      CLIENT_UPDATE_FIRST_NAMES.invokeExact( client, fNames );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  /***************************************************************
+   * A fresh set of the table's top level columns, as the
+   * application builds them (TableColumn<Employee, ?> each).
+   * Columns whose headers are controls can't be built without the
+   * JavaFX toolkit, and are left out.
+   **************************************************************/
+  public static List<Object> tableColumns() {
+    List<Object> columns = new ArrayList<>( COLUMNS.length );
+    for ( String getter : COLUMNS ) {
+      try {
+        columns.add( LOOKUP.findStatic( UTILITY, getter, MethodType.methodType( TABLE_COLUMN ) ).invoke() );
+      } catch ( LinkageError | IllegalStateException ex ) {
+        // Control initialization failed, no toolkit.
+      } catch ( Throwable t ) {
+        throw rethrow( t );
+      }
+    }
+    return columns;
+  }
+
+  public static int getTableColumnCount() { return COLUMNS.length; }
+
+  public static void clearEmployeeCache() {
+    try {
+      CLEAR_CACHE.invokeExact( (Object) GET_EMPLOYEE_CACHE.invokeExact() );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  /***************************************************************
+   * Employee display getters.
+   **************************************************************/
+  public static String getFirstName( final Object employee ) { return getString( GET_FIRST_NAME, employee ); }
+  public static String getLastName( final Object employee ) { return getString( GET_LAST_NAME, employee ); }
+  public static String getSalary( final Object employee ) { return getString( GET_SALARY, employee ); }
+
+  public static int getEmployeeId( final Object employee ) {
+    try {
+      return (int) GET_EMPLOYEE_ID.invokeExact( employee );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  private static String getString( final MethodHandle getter, final Object target ) {
+    try {
+      return (String) getter.invokeExact( target );
+    } catch ( Throwable t ) {
+      throw rethrow( t );
+    }
+  }
+
+  /***************************************************************
+   * Handle lookup, every handle is erased to Object for invokeExact.
+   **************************************************************/
+  public static Class<?> load( final String name ) {
+    try {
+      return Class.forName( name );
+    } catch ( ClassNotFoundException ex ) {
+      throw new IllegalStateException( "Application class " + name + " not on classpath.", ex );
+    }
+  }
+
+  private static MethodHandle findStatic( final Class<?> owner, final String name, final Class<?> returnType, final Class<?>... parameters ) {
+    try {
+      return erase( LOOKUP.findStatic( owner, name, MethodType.methodType( returnType, parameters ) ) );
+    } catch ( ReflectiveOperationException ex ) {
+      throw new IllegalStateException( "Cannot resolve " + owner.getName() + "." + name, ex );
+    }
+  }
+
+  private static MethodHandle findVirtual( final Class<?> owner, final String name, final Class<?> returnType, final Class<?>... parameters ) {
+    try {
+      return erase( LOOKUP.findVirtual( owner, name, MethodType.methodType( returnType, parameters ) ) );
+    } catch ( ReflectiveOperationException ex ) {
+      throw new IllegalStateException( "Cannot resolve " + owner.getName() + "." + name, ex );
+    }
+  }
+
+  private static MethodHandle findConstructor( final Class<?> owner, final Class<?>... parameters ) {
+    try {
+      return erase( LOOKUP.findConstructor( owner, MethodType.methodType( void.class, parameters ) ) );
+    } catch ( ReflectiveOperationException ex ) {
+      throw new IllegalStateException( "Cannot resolve " + owner.getName() + " constructor", ex );
+    }
+  }
+
+  // Replace application types with Object (List for lists) so callers can name them.
+  private static MethodHandle erase( final MethodHandle handle ) {
+    MethodType type = handle.type();
+    for ( int i = 0; i < type.parameterCount(); i++ )
+      if ( isApplicationType( type.parameterType( i ) ) )
+        type = type.changeParameterType( i, Object.class );
+    if ( isApplicationType( type.returnType() ) )
+      type = type.changeReturnType( Object.class );
+    else if ( List.class.isAssignableFrom( type.returnType() ) )
+      type = type.changeReturnType( List.class );
+    return handle.asType( type );
+  }
+
+  private static boolean isApplicationType( final Class<?> type ) {
+    return !type.isPrimitive() && !type.isArray() && type.getName().indexOf( '.' ) < 0;
+  }
+
+  private static RuntimeException rethrow( final Throwable t ) {
+    if ( t instanceof RuntimeException )
+      return (RuntimeException) t;
+    if ( t instanceof Error )
+      throw (Error) t;
+    return new IllegalStateException( t );
+  }
+
+}
@@ -0,0 +1,151 @@
+/*************************************************************************
+ * Title: Embedded Employee DB
+ * File: EmbeddedEmployeeDB.java
+ * Date: 10/18/2026
+ *
+ * Creates an in-memory H2 database (MySQL mode) with the application's
+ * schema and seed rows, read from Create&PopulateEmployeeDB.sql on the
+ * classpath. The script's delimiter blocks (stored procedures) and test
+ * calls are skipped, and the procedures are registered as aliases of
+ * EmbeddedProcedures instead.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Registered sp_add_employee.
+ *   10/18/2026: Loads the application's code tables, moved from ScaleTest.
+ *************************************************************************/
+package benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class EmbeddedEmployeeDB {
+  public final static String SCRIPT = "/Create&PopulateEmployeeDB.sql";
+  public final static String USER = "sa";
+  public final static String PASSWORD = "";
+
+  private EmbeddedEmployeeDB() {}
+
+  /***************************************************************
+   * Create and seed a named in-memory database, return its URL.
+   **************************************************************/
+  public static String create( final String name ) throws SQLException, IOException {
+    String url = "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    try ( Connection connection = DriverManager.getConnection( url, USER, PASSWORD );
+          Statement statement = connection.createStatement() ) {
+      for ( String sql : readScript() )
+        statement.execute( sql );
+      registerProcedures( statement );
+    }
+    return url;
+  }
+
+  /***************************************************************
+   * Multiply the seeded employees, each pass doubles the table.
+   **************************************************************/
+  public static void grow( final String url, final int minimumRows ) throws SQLException {
+    try ( Connection connection = DriverManager.getConnection( url, USER, PASSWORD );
+          Statement statement = connection.createStatement() ) {
+      while ( countEmployees( statement ) < minimumRows )
+        statement.execute(
+          "insert into employee (last_name, first_name, job_type_code, department_code, email_address, telephone, pay, pay_freq_code) " +
+          "select last_name, first_name, job_type_code, department_code, email_address, telephone, pay, pay_freq_code from employee" );
+    }
+  }
+
+  /***************************************************************
+   * Hand the application the code tables straight from the tables,
+   * H2 can't return sp_reference_data's three result sets.
+   **************************************************************/
+  public static void loadReferenceData( final String url ) throws SQLException {
+    try ( Connection connection = DriverManager.getConnection( url, USER, PASSWORD );
+          Statement statement = connection.createStatement() ) {
+      Map<Integer, String> departments = codeTable( statement, "select department_code, department_name from department order by department_code" );
+      int[] codes = departments.keySet().stream().mapToInt( Integer::intValue ).toArray();
+      AppBridge.setReferenceData( codes, byCode( departments ),
+        byCode( codeTable( statement, "select job_type_code, job_type_description from job_type" ) ),
+        byCode( codeTable( statement, "select pay_freq_code, pay_freq_description from pay_frequency" ) ) );
+    }
+  }
+
+  private static Map<Integer, String> codeTable( final Statement statement, final String sql ) throws SQLException {
+    Map<Integer, String> table = new TreeMap<>();
+    try ( ResultSet resultSet = statement.executeQuery( sql ) ) {
+      while ( resultSet.next() )
+        table.put( resultSet.getInt( 1 ), resultSet.getString( 2 ) );
+    }
+    return table;
+  }
+
+  private static String[] byCode( final Map<Integer, String> table ) {
+    String[] descriptions = new String[table.isEmpty() ? 0 : ( (TreeMap<Integer, String>) table ).lastKey() + 1];
+    for ( Map.Entry<Integer, String> entry : table.entrySet() )
+      descriptions[entry.getKey()] = entry.getValue();
+    return descriptions;
+  }
+
+  private static int countEmployees( final Statement statement ) throws SQLException {
+    try ( ResultSet resultSet = statement.executeQuery( "select count(*) from employee" ) ) {
+      resultSet.next();
+      return resultSet.getInt( 1 );
+    }
+  }
+
+  // Register the MySQL procedures as Java function aliases.
+  private static void registerProcedures( final Statement statement ) throws SQLException {
+    String procedures = EmbeddedProcedures.class.getName();
+    statement.execute( "create alias sp_all_departments for '" + procedures + ".allDepartments'" );
+    statement.execute( "create alias sp_all_employees for '" + procedures + ".allEmployees'" );
+    statement.execute( "create alias sp_employees_in_dept for '" + procedures + ".employeesInDept'" );
+    statement.execute( "create alias sp_employees_in_dept_page for '" + procedures + ".employeesInDeptPage'" );
+    statement.execute( "create alias sp_add_employee for '" + procedures + ".addEmployee'" );
+  }
+
+  /***************************************************************
+   * Split the seed script into statements H2 can run.
+   **************************************************************/
+  private static List<String> readScript() throws IOException {
+    List<String> statements = new ArrayList<>();
+    try ( InputStream in = EmbeddedEmployeeDB.class.getResourceAsStream( SCRIPT ) ) {
+      if ( in == null )
+        throw new IOException( SCRIPT + " not found on classpath." );
+      BufferedReader reader = new BufferedReader( new InputStreamReader( in, StandardCharsets.UTF_8 ) );
+      StringBuilder sql = new StringBuilder();
+      boolean procedure = false; // Inside a delimiter $$ block.
+      String line;
+      while ( ( line = reader.readLine() ) != null ) {
+        String trimmed = line.trim();
+        if ( trimmed.toLowerCase().startsWith( "delimiter" ) ) {
+          procedure = !trimmed.endsWith( ";" );
+          continue;
+        }
+        if ( procedure || trimmed.isEmpty() || trimmed.startsWith( "--" ) )
+          continue;
+        sql.append( line ).append( '\n' );
+        if ( trimmed.endsWith( ";" ) ) {
+          String text = sql.toString().trim();
+          sql.setLength( 0 );
+          String lower = text.toLowerCase();
+          // MySQL housekeeping and test calls.
+          if ( lower.startsWith( "create database" ) || lower.startsWith( "use " ) || lower.startsWith( "call " ) )
+            continue;
+          statements.add( text.substring( 0, text.length() - 1 ) );
+        }
+      }
+    }
+    return statements;
+  }
+
+}
@@ -0,0 +1,73 @@
+/*************************************************************************
+ * Title: Embedded Procedures
+ * File: EmbeddedProcedures.java
+ * Date: 10/18/2026
+ *
+ * H2 has no SQL stored procedures, so the MySQL procedures the
+ * application calls are registered as Java function aliases with the
+ * same names and result columns. For further information, see:
+ *   EmbeddedEmployeeDB.java
+ *   Create&PopulateEmployeeDB.sql
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Added sp_add_employee.
+ *************************************************************************/
+package benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public final class EmbeddedProcedures {
+
+  private EmbeddedProcedures() {}
+
+  // sp_all_departments()
+  public static ResultSet allDepartments( final Connection connection ) throws SQLException {
+    return connection.createStatement().executeQuery( "select * from department order by department_name" );
+  }
+
+  // sp_all_employees()
+  public static ResultSet allEmployees( final Connection connection ) throws SQLException {
+    return connection.createStatement().executeQuery( "select * from employee" );
+  }
+
+  // sp_employees_in_dept( dept )
+  public static ResultSet employeesInDept( final Connection connection, final int dept ) throws SQLException {
+    PreparedStatement statement = connection.prepareStatement( "select * from employee where department_code = ?" );
+    statement.setInt( 1, dept );
+    return statement.executeQuery();
+  }
+
+  // sp_employees_in_dept_page( dept, after_id, page_size )
+  public static ResultSet employeesInDeptPage( final Connection connection, final int dept, final int afterId, final int pageSize ) throws SQLException {
+    PreparedStatement statement = connection.prepareStatement(
+      "select * from employee where department_code = ? and employee_id > ? order by employee_id limit ?" );
+    statement.setInt( 1, dept );
+    statement.setInt( 2, afterId );
+    statement.setInt( 3, pageSize );
+    return statement.executeQuery();
+  }
+
+  // sp_add_employee( last, first, job, dept, email, telephone, pay, pay_freq ), see migration V003.
+  public static void addEmployee( final Connection connection, final String lastName, final String firstName,
+                                  final int jobTypeCode, final int deptCode, final String email, final String telephone,
+                                  final BigDecimal pay, final int payFreqCode ) throws SQLException {
+    try ( PreparedStatement statement = connection.prepareStatement( "insert into employee (last_name, first_name, job_type_code, "
+      + "department_code, email_address, telephone, pay, pay_freq_code) values (?, ?, ?, ?, ?, ?, ?, ?)" ) ) {
+      statement.setString( 1, lastName );
+      statement.setString( 2, firstName );
+      statement.setInt( 3, jobTypeCode );
+      statement.setInt( 4, deptCode );
+      statement.setString( 5, email );
+      statement.setString( 6, telephone );
+      statement.setBigDecimal( 7, pay );
+      statement.setInt( 8, payFreqCode );
+      statement.executeUpdate();
+    }
+  }
+
+}
@@ -0,0 +1,49 @@
+/*************************************************************************
+ * Title: Employee Benchmark
+ * File: EmployeeBenchmark.java
+ * Date: 10/18/2026
+ *
+ * Cost of building an Employee row, alone and together with the display
+ * strings a rendered row asks for.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class EmployeeBenchmark {
+  private int id = 0;
+
+  @Benchmark
+  public Object construct() {
+    return AppBridge.newEmployee( ++id, "john", "cady-stanton", 3, 2, 9250000L, "jdoe@Thecompany.com", "520-206-0015" );
+  }
+
+  @Benchmark
+  public void constructAndRender( final Blackhole bh ) {
+    Object employee = AppBridge.newEmployee( ++id, "john", "cady-stanton", 3, 2, 9250000L, "jdoe@Thecompany.com", "520-206-0015" );
+    bh.consume( AppBridge.getFirstName( employee ) );
+    bh.consume( AppBridge.getLastName( employee ) );
+    bh.consume( AppBridge.getSalary( employee ) );
+  }
+
+}
@@ -0,0 +1,60 @@
+/*************************************************************************
+ * Title: Lookup Benchmark
+ * File: LookupBenchmark.java
+ * Date: 10/18/2026
+ *
+ * Job type and pay frequency description lookups by code, as made for
+ * every rendered Description cell.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class LookupBenchmark {
+  private int code = 0;
+
+  @Setup
+  public void setup() {
+    // Same codes as the seed script, department #5 missing.
+    AppBridge.setReferenceData(
+      new int[] { 1, 2, 3, 4, 6, 7, 8, 9 },
+      new String[] { null, "Human Resources", "Accounting", "Engineering", "Software Development", null,
+                     "Manufacturing", "Shipping & Receiving", "Executive", "Finishing" },
+      new String[] { null, "clerical assistant", "software developer", "engineer", "manager", "vice president",
+                     "president", "machinist", "assembler", "receiver", "shipper", "finisher" },
+      new String[] { null, "Hourly paid every 2 weeks", "Salary paid every 2 weeks", "Salary + comm. pd every 2 weeks" } );
+  }
+
+  @Benchmark
+  public String getJobDescription() {
+    code = ( code == 11 ? 1 : code + 1 );
+    return AppBridge.getJobDescription( code );
+  }
+
+  @Benchmark
+  public String getPayFrequency() {
+    code = ( code == 3 ? 1 : code + 1 );
+    return AppBridge.getPayFrequency( code );
+  }
+
+}
@@ -0,0 +1,98 @@
+/*************************************************************************
+ * Title: Row Mapping Benchmark
+ * File: RowMappingBenchmark.java
+ * Date: 10/18/2026
+ *
+ * ResultSet to Employee mapping against the embedded database. mapRows
+ * times the mapping loop on its own with name lookups per row,
+ * mapRowsCompiled the same loop through the precompiled row mapper,
+ * employeeGetList the whole EmployeeGetList call (pool, procedure call
+ * and mapping) with the department cache cleared so every call reaches
+ * the database.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Added mapRowsCompiled.
+ *************************************************************************/
+package benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class RowMappingBenchmark {
+  private final static int DEPARTMENT = 3; // Engineering.
+
+  @Param( { "24", "24000" } )
+  public int rows;
+
+  private Connection connection;
+  private PreparedStatement statement;
+
+  @Setup( Level.Trial )
+  public void setup() throws Exception {
+    String url = EmbeddedEmployeeDB.create( "mapping" + rows );
+    EmbeddedEmployeeDB.grow( url, rows );
+    connection = DriverManager.getConnection( url, EmbeddedEmployeeDB.USER, EmbeddedEmployeeDB.PASSWORD );
+    statement = connection.prepareStatement( "select * from employee where department_code = ?" );
+    statement.setInt( 1, DEPARTMENT );
+    if ( !AppBridge.openDB( url, EmbeddedEmployeeDB.USER, EmbeddedEmployeeDB.PASSWORD ) )
+      throw new IllegalStateException( "Cannot open embedded database." );
+  }
+
+  @TearDown( Level.Trial )
+  public void tearDown() throws Exception {
+    AppBridge.closeDB();
+    statement.close();
+    connection.close();
+  }
+
+  @Benchmark
+  public void mapRows( final Blackhole bh ) throws Exception {
+    try ( ResultSet resultSet = statement.executeQuery() ) {
+      while ( resultSet.next() )
+        bh.consume( AppBridge.getEmployee( resultSet ) );
+    }
+  }
+
+  @Benchmark
+  public List<Object> mapRowsCompiled() throws Exception {
+    List<Object> employees = new ArrayList<>( rows );
+    try ( ResultSet resultSet = statement.executeQuery() ) {
+      AppBridge.readEmployees( resultSet, employees );
+    }
+    return employees;
+  }
+
+  @Benchmark
+  public Object employeeGetList() {
+    AppBridge.clearEmployeeCache();
+    return AppBridge.employeeGetList( DEPARTMENT );
+  }
+
+}
@@ -0,0 +1,312 @@
+/*************************************************************************
+ * Title: Scale Test
+ * File: ScaleTest.java
+ * Date: 10/18/2026
+ *
+ * Drives the table view's data path headlessly against an embedded
+ * database of generated employees (see SyntheticEmployees.java), at
+ * sizes the seed script can't reach. Three phases run in turn:
+ *
+ *   load     EmployeeGetList for every department, cache cleared first
+ *   render   every cell value factory of the table's columns, one
+ *            screen of rows at a time, over every loaded department
+ *   update   updateFirstName of random employees
+ *
+ * Each phase reports latency percentiles; the run ends with the heap
+ * high-water mark and the garbage collector pauses seen while the
+ * phases ran (generating the data is excluded). Run from the shaded
+ * jar with a heap to match the row count, e.g.:
+ *
+ *   java -Xmx6g -cp target/benchmarks.jar benchmarks.ScaleTest --rows 2000000
+ *
+ * Options: --rows (1000000), --skew Zipf exponent of department sizes
+ * (1.2), --seed (1), --iterations loads per department (5),
+ * --updates (2000).
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Code tables loaded by EmbeddedEmployeeDB.
+ *************************************************************************/
+package benchmarks;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumn.CellDataFeatures;
+
+public final class ScaleTest {
+  private final static int SCREEN_ROWS = 32; // Rows a table shows at once, one render sample.
+
+  private ScaleTest() {}
+
+  public static void main( final String[] args ) throws Exception {
+    Map<String, String> options = parseOptions( args );
+    final int rows = Integer.parseInt( options.getOrDefault( "rows", "1000000" ) );
+    final double skew = Double.parseDouble( options.getOrDefault( "skew", "1.2" ) );
+    final long seed = Long.parseLong( options.getOrDefault( "seed", "1" ) );
+    final int iterations = Integer.parseInt( options.getOrDefault( "iterations", "5" ) );
+    final int updates = Integer.parseInt( options.getOrDefault( "updates", "2000" ) );
+    // Quiet the periodic metrics dump unless asked for, it would interleave with the report.
+    if ( System.getProperty( "employee.metrics.logInterval" ) == null )
+      System.setProperty( "employee.metrics.logInterval", "0" );
+
+    // Generate.
+    long start = System.nanoTime();
+    String url = EmbeddedEmployeeDB.create( "scale" );
+    long[] headCount = new SyntheticEmployees( skew, seed ).populate( url, rows );
+    System.out.printf( "Generated %,d employees in %.1f s%n", rows, seconds( System.nanoTime() - start ) );
+    List<Integer> departments = new ArrayList<>();
+    for ( int code = 0; code < headCount.length; code++ )
+      if ( headCount[code] > 0 ) {
+        departments.add( code );
+        System.out.printf( "  department %2d %,10d%n", code, headCount[code] );
+      }
+
+    if ( !AppBridge.openDB( url, EmbeddedEmployeeDB.USER, EmbeddedEmployeeDB.PASSWORD ) )
+      throw new IllegalStateException( "Cannot open " + url );
+    EmbeddedEmployeeDB.loadReferenceData( url );
+    final int[] ids = employeeIds( url );
+
+    final GcPauses pauses = new GcPauses();
+    resetPeakHeap();
+    final Random random = new Random( seed );
+
+    // Load every department, uncached, in a shuffled order each pass.
+    Samples load = new Samples( "EmployeeGetList (ms)", iterations * departments.size() );
+    Samples loadRate = new Samples( "EmployeeGetList (rows/ms)", iterations * departments.size() );
+    List<List<?>> loaded = new ArrayList<>();
+    for ( int i = 0; i < iterations; i++ ) {
+      List<Integer> order = new ArrayList<>( departments );
+      Collections.shuffle( order, random );
+      loaded.clear();
+      for ( int department : order ) {
+        AppBridge.clearEmployeeCache();
+        long t = System.nanoTime();
+        List<?> employees = AppBridge.employeeGetList( department );
+        long elapsed = System.nanoTime() - t;
+        load.add( elapsed / 1e6 );
+        loadRate.add( employees.size() / Math.max( elapsed / 1e6, 1e-3 ) );
+        loaded.add( employees );
+      }
+    }
+
+    // Every cell of every loaded row, a screen at a time.
+    List<Object> built = AppBridge.tableColumns();
+    List<TableColumn<Object, ?>> columns = leafColumns( built );
+    long cells = 0;
+    Samples render = new Samples( "render " + SCREEN_ROWS + " rows (us)", rows / SCREEN_ROWS + departments.size() );
+    for ( List<?> employees : loaded )
+      for ( int from = 0; from < employees.size(); from += SCREEN_ROWS ) {
+        int to = Math.min( employees.size(), from + SCREEN_ROWS );
+        long t = System.nanoTime();
+        for ( int row = from; row < to; row++ ) {
+          Object employee = employees.get( row );
+          for ( TableColumn<Object, ?> column : columns )
+            if ( cellValue( column, employee ) != null )
+              cells++;
+        }
+        render.add( ( System.nanoTime() - t ) / 1e3 );
+      }
+
+    // First name edits, written straight through.
+    Samples update = new Samples( "updateFirstName (ms)", updates );
+    String[] names = { "alex", "jordan", "casey", "riley", "morgan", "taylor" };
+    for ( int i = 0; i < updates; i++ ) {
+      int id = ids[random.nextInt( ids.length )];
+      long t = System.nanoTime();
+      AppBridge.updateFirstName( id, names[i % names.length] );
+      update.add( ( System.nanoTime() - t ) / 1e6 );
+    }
+
+    // Report.
+    System.out.println();
+    System.out.printf( "%-28s %9s %9s %9s %9s %9s %9s%n", "", "n", "p50", "p90", "p99", "max", "mean" );
+    load.print();
+    loadRate.print();
+    render.print();
+    update.print();
+    System.out.printf( "%nCells rendered: %,d over %d columns%n", cells, columns.size() );
+    if ( built.size() < AppBridge.getTableColumnCount() )
+      System.out.printf( "  %d of %d table columns skipped, their headers are controls, which need the JavaFX toolkit%n",
+        AppBridge.getTableColumnCount() - built.size(), AppBridge.getTableColumnCount() );
+    System.out.printf( "Heap high-water mark: %,d MB (max %,d MB)%n",
+      peakHeap() >> 20, Runtime.getRuntime().maxMemory() >> 20 );
+    pauses.print();
+    AppBridge.closeDB();
+  }
+
+  /***************************************************************
+   * Latency (or rate) samples with nearest-rank percentiles.
+   **************************************************************/
+  private final static class Samples {
+    private final String name;
+    private double[] values;
+    private int size = 0;
+
+    Samples( final String name, final int expected ) {
+      this.name = name;
+      this.values = new double[Math.max( 16, expected )];
+    }
+
+    void add( final double value ) {
+      if ( size == values.length )
+        values = Arrays.copyOf( values, size * 2 );
+      values[size++] = value;
+    }
+
+    void print() {
+      if ( size == 0 ) {
+        System.out.printf( "%-28s %9d%n", name, 0 );
+        return;
+      }
+      double[] sorted = Arrays.copyOf( values, size );
+      Arrays.sort( sorted );
+      double total = 0;
+      for ( double value : sorted )
+        total += value;
+      System.out.printf( "%-28s %9d %9.3f %9.3f %9.3f %9.3f %9.3f%n", name, size,
+        percentile( sorted, 50 ), percentile( sorted, 90 ), percentile( sorted, 99 ), sorted[size - 1], total / size );
+    }
+
+    private static double percentile( final double[] sorted, final int percent ) {
+      int rank = (int) Math.ceil( percent / 100.0 * sorted.length );
+      return sorted[Math.max( 0, rank - 1 )];
+    }
+  }
+
+  /***************************************************************
+   * Individual collections, from the collectors' notifications, so
+   * the longest pause is known and not just the total.
+   **************************************************************/
+  private final static class GcPauses implements NotificationListener {
+    private final Map<String, Samples> byCollector = new TreeMap<>();
+    private final Map<String, long[]> before = new HashMap<>();
+
+    GcPauses() {
+      for ( GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans() ) {
+        before.put( collector.getName(), new long[] { collector.getCollectionCount(), collector.getCollectionTime() } );
+        if ( collector instanceof NotificationEmitter )
+          ( (NotificationEmitter) collector ).addNotificationListener( this, null, null );
+      }
+    }
+
+    @Override
+    public void handleNotification( final Notification notification, final Object handback ) {
+      if ( !GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals( notification.getType() ) )
+        return;
+      GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from( (CompositeData) notification.getUserData() );
+      String name = info.getGcName() + " (" + info.getGcAction().replace( "end of ", "" ) + ")";
+      synchronized ( byCollector ) {
+        byCollector.computeIfAbsent( name, n -> new Samples( n, 64 ) ).add( info.getGcInfo().getDuration() );
+      }
+    }
+
+    void print() {
+      System.out.println();
+      System.out.println( "Garbage collection (ms):" );
+      for ( GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans() ) {
+        long[] start = before.getOrDefault( collector.getName(), new long[2] );
+        System.out.printf( "  %-26s %,d collections, %,d ms total%n", collector.getName(),
+          collector.getCollectionCount() - start[0], collector.getCollectionTime() - start[1] );
+      }
+      synchronized ( byCollector ) {
+        for ( Samples samples : byCollector.values() ) {
+          System.out.print( "  " );
+          samples.print();
+        }
+      }
+    }
+  }
+
+  /***************************************************************
+   * Heap high-water mark, summed over the heap memory pools.
+   **************************************************************/
+  private static void resetPeakHeap() {
+    System.gc();
+    for ( MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans() )
+      if ( pool.getType() == MemoryType.HEAP )
+        pool.resetPeakUsage();
+  }
+
+  private static long peakHeap() {
+    long peak = 0;
+    for ( MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans() )
+      if ( pool.getType() == MemoryType.HEAP )
+        peak += pool.getPeakUsage().getUsed();
+    return peak;
+  }
+
+  private static int[] employeeIds( final String url ) throws SQLException {
+    try ( Connection connection = DriverManager.getConnection( url, EmbeddedEmployeeDB.USER, EmbeddedEmployeeDB.PASSWORD );
+          Statement statement = connection.createStatement();
+          ResultSet resultSet = statement.executeQuery( "select employee_id from employee" ) ) {
+      int[] ids = new int[1024];
+      int size = 0;
+      while ( resultSet.next() ) {
+        if ( size == ids.length )
+          ids = Arrays.copyOf( ids, size * 2 );
+        ids[size++] = resultSet.getInt( 1 );
+      }
+      return Arrays.copyOf( ids, size );
+    }
+  }
+
+  // What a cell of the column shows for the row, as a rendered cell asks for it.
+  private static <T> T cellValue( final TableColumn<Object, T> column, final Object row ) {
+    return column.getCellValueFactory().call( new CellDataFeatures<>( null, column, row ) ).getValue();
+  }
+
+  // The columns that hold values, nested ones flattened.
+  @SuppressWarnings( "unchecked" )
+  private static List<TableColumn<Object, ?>> leafColumns( final List<Object> columns ) {
+    List<TableColumn<Object, ?>> leaves = new ArrayList<>();
+    List<TableColumn<Object, ?>> pending = new ArrayList<>();
+    for ( Object column : columns )
+      pending.add( (TableColumn<Object, ?>) column );
+    while ( !pending.isEmpty() ) {
+      TableColumn<Object, ?> column = pending.remove( 0 );
+      if ( column.getColumns().isEmpty() )
+        leaves.add( column );
+      else
+        pending.addAll( 0, column.getColumns() );
+    }
+    return leaves;
+  }
+
+  private static Map<String, String> parseOptions( final String[] args ) {
+    Map<String, String> options = new HashMap<>();
+    for ( int i = 0; i < args.length; i++ ) {
+      if ( !args[i].startsWith( "--" ) || i + 1 == args.length )
+        throw new IllegalArgumentException( "Expected --option value, got " + args[i] );
+      options.put( args[i].substring( 2 ), args[++i] );
+    }
+    return options;
+  }
+
+  private static double seconds( final long nanos ) { return nanos / (double) TimeUnit.SECONDS.toNanos( 1 ); }
+
+}
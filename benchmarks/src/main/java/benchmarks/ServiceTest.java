@@ -0,0 +1,213 @@
+/*************************************************************************
+ * Title: Service Test
+ * File: ServiceTest.java
+ * Date: 10/18/2026
+ *
+ * Starts the query service (EmployeeQueryService) against an embedded
+ * database and checks it end to end over HTTP, so it can be tried
+ * without a MySQL server:
+ *
+ *   login    requests without credentials or with a wrong password
+ *            are refused, the embedded database's login is accepted
+ *   reads    every department, fetched by many clients at once, holds
+ *            the same employees as a direct EmployeeGetList, and the
+ *            concurrent requests share queries (GET /stats)
+ *   write    a first name edit through the service is seen by the
+ *            next read
+ *
+ * Each check prints PASS or FAIL, and the exit status is 1 if any
+ * failed. Run from the shaded jar, e.g.:
+ *
+ *   java -cp target/benchmarks.jar benchmarks.ServiceTest --rows 100000
+ *
+ * Options: --rows (20000), --clients concurrent requests per
+ * department (64), --threads service worker threads (16), --ttl
+ * service cache time-to-live in ms (30000).
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+package benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public final class ServiceTest {
+  private static int failures = 0;
+
+  private ServiceTest() {}
+
+  public static void main( final String[] args ) throws Exception {
+    Map<String, String> options = parseOptions( args );
+    final int rows = Integer.parseInt( options.getOrDefault( "rows", "20000" ) );
+    final int clients = Integer.parseInt( options.getOrDefault( "clients", "64" ) );
+    final int threads = Integer.parseInt( options.getOrDefault( "threads", "16" ) );
+    final long ttl = Long.parseLong( options.getOrDefault( "ttl", "30000" ) );
+    // Quiet the periodic metrics dump unless asked for, it would interleave with the report.
+    if ( System.getProperty( "employee.metrics.logInterval" ) == null )
+      System.setProperty( "employee.metrics.logInterval", "0" );
+
+    String url = EmbeddedEmployeeDB.create( "service" );
+    EmbeddedEmployeeDB.grow( url, rows );
+    if ( !AppBridge.openDB( url, EmbeddedEmployeeDB.USER, EmbeddedEmployeeDB.PASSWORD ) )
+      throw new IllegalStateException( "Cannot open " + url );
+    EmbeddedEmployeeDB.loadReferenceData( url );
+    final Object service = AppBridge.startQueryService( new InetSocketAddress( "127.0.0.1", 0 ), threads, ttl, url );
+    final String base = "http://127.0.0.1:" + AppBridge.getServicePort( service );
+    final String login = basic( EmbeddedEmployeeDB.USER, EmbeddedEmployeeDB.PASSWORD );
+    System.out.println( "Query service on " + base );
+    final ExecutorService requests = Executors.newFixedThreadPool( clients );
+
+    try {
+      // Login.
+      check( "no credentials refused", status( base + "/health", null ) == 401 );
+      check( "wrong password refused", status( base + "/health", basic( EmbeddedEmployeeDB.USER, "wrong" ) ) == 401 );
+      check( "database login accepted", status( base + "/health", login ) == 200 );
+      check( "unknown department not found", status( base + "/departments/5/employees", login ) == 404 );
+
+      // Reads, every department by many clients at once.
+      final Object client = AppBridge.newServiceClient( base, EmbeddedEmployeeDB.USER, EmbeddedEmployeeDB.PASSWORD );
+      for ( int department : departments( url ) ) {
+        AppBridge.clearEmployeeCache();
+        List<Integer> expected = ids( AppBridge.employeeGetList( department ) );
+        List<Future<List<?>>> replies = new ArrayList<>( clients );
+        long start = System.nanoTime();
+        for ( int i = 0; i < clients; i++ )
+          replies.add( requests.submit( () -> AppBridge.serviceGetEmployees( client, department ) ) );
+        boolean same = true;
+        for ( Future<List<?>> reply : replies )
+          same &= ids( reply.get() ).equals( expected );
+        check( String.format( "department %d, %d clients, %,d employees each, %.1f ms", department, clients,
+          expected.size(), ( System.nanoTime() - start ) / 1e6 ), same );
+      }
+      Map<String, Long> stats = stats( base, login );
+      System.out.println( "  " + stats );
+      check( "concurrent requests shared queries", stats.getOrDefault( "cache.coalesced", 0L ) + stats.getOrDefault( "cache.hits", 0L ) > 0 );
+
+      // Write, then read it back.
+      int[] first = firstEmployee( url );
+      int department = first[0], id = first[1];
+      AppBridge.serviceUpdateFirstNames( client, Collections.singletonMap( id, "zed" ) );
+      String firstName = null;
+      for ( Object employee : AppBridge.serviceGetEmployees( client, department ) )
+        if ( AppBridge.getEmployeeId( employee ) == id )
+          firstName = AppBridge.getFirstName( employee );
+      check( "first name edit read back", "Zed".equals( firstName ) );
+    } finally {
+      requests.shutdown();
+      AppBridge.stopQueryService( service );
+      AppBridge.closeDB();
+    }
+    System.out.println( failures == 0 ? "All checks passed." : failures + " checks failed." );
+    System.exit( failures == 0 ? 0 : 1 );
+  }
+
+  private static void check( final String name, final boolean passed ) {
+    System.out.println( ( passed ? "PASS " : "FAIL " ) + name );
+    if ( !passed )
+      failures++;
+  }
+
+  // Employee ids of a list, in order.
+  private static List<Integer> ids( final List<?> employees ) {
+    List<Integer> ids = new ArrayList<>( employees.size() );
+    for ( Object employee : employees )
+      ids.add( AppBridge.getEmployeeId( employee ) );
+    return ids;
+  }
+
+  private static List<Integer> departments( final String url ) throws SQLException {
+    try ( Connection connection = DriverManager.getConnection( url, EmbeddedEmployeeDB.USER, EmbeddedEmployeeDB.PASSWORD );
+          Statement statement = connection.createStatement();
+          ResultSet resultSet = statement.executeQuery( "select department_code from department order by department_code" ) ) {
+      List<Integer> codes = new ArrayList<>();
+      while ( resultSet.next() )
+        codes.add( resultSet.getInt( 1 ) );
+      return codes;
+    }
+  }
+
+  // Department and id of the lowest numbered employee.
+  private static int[] firstEmployee( final String url ) throws SQLException {
+    try ( Connection connection = DriverManager.getConnection( url, EmbeddedEmployeeDB.USER, EmbeddedEmployeeDB.PASSWORD );
+          Statement statement = connection.createStatement();
+          ResultSet resultSet = statement.executeQuery( "select department_code, employee_id from employee order by employee_id limit 1" ) ) {
+      if ( !resultSet.next() )
+        throw new IllegalStateException( "No employees." );
+      return new int[] { resultSet.getInt( 1 ), resultSet.getInt( 2 ) };
+    }
+  }
+
+  /***************************************************************
+   * Plain HTTP, so refused requests can be seen as they are.
+   **************************************************************/
+  private static int status( final String url, final String authorization ) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL( url ).openConnection();
+    if ( authorization != null )
+      connection.setRequestProperty( "Authorization", authorization );
+    int status = connection.getResponseCode();
+    try ( InputStream in = status / 100 == 2 ? connection.getInputStream() : connection.getErrorStream() ) {
+      if ( in != null )
+        drain( in );
+    }
+    return status;
+  }
+
+  // GET /stats, one "name<tab>count" line each.
+  private static Map<String, Long> stats( final String base, final String authorization ) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL( base + "/stats" ).openConnection();
+    connection.setRequestProperty( "Authorization", authorization );
+    Map<String, Long> stats = new HashMap<>();
+    try ( InputStream in = connection.getInputStream() ) {
+      for ( String line : new String( drain( in ), StandardCharsets.UTF_8 ).split( "\n" ) ) {
+        String[] fields = line.split( "\t" );
+        if ( fields.length == 2 )
+          stats.put( fields[0], Long.parseLong( fields[1] ) );
+      }
+    }
+    return stats;
+  }
+
+  private static String basic( final String userId, final String password ) {
+    return "Basic " + Base64.getEncoder().encodeToString( ( userId + ":" + password ).getBytes( StandardCharsets.UTF_8 ) );
+  }
+
+  private static byte[] drain( final InputStream in ) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    byte[] buffer = new byte[4096];
+    int n;
+    while ( ( n = in.read( buffer ) ) > 0 )
+      bytes.write( buffer, 0, n );
+    return bytes.toByteArray();
+  }
+
+  private static Map<String, String> parseOptions( final String[] args ) {
+    Map<String, String> options = new HashMap<>();
+    for ( int i = 0; i < args.length; i++ ) {
+      if ( !args[i].startsWith( "--" ) || i + 1 == args.length )
+        throw new IllegalArgumentException( "Expected --option value, got " + args[i] );
+      options.put( args[i].substring( 2 ), args[++i] );
+    }
+    return options;
+  }
+
+}
@@ -0,0 +1,177 @@
+/*************************************************************************
+ * Title: Synthetic Employees
+ * File: SyntheticEmployees.java
+ * Date: 10/18/2026
+ *
+ * Replaces the seed employees of an embedded database with any number
+ * of generated ones that look like a real roster: department sizes
+ * follow a Zipf distribution (a few large departments, a long tail of
+ * small ones) over the codes actually in the department table, so gaps
+ * such as the missing department 5 stay gaps; job types are weighted
+ * towards the shop floor; pay, pay frequency, names, email addresses
+ * and telephone numbers follow the job. The same seed always generates
+ * the same rows. For further information, see:
+ *   ScaleTest.java
+ *   EmbeddedEmployeeDB.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+package benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public final class SyntheticEmployees {
+  private final static int BATCH_SIZE = 1000;
+  private final static int COMMIT_ROWS = 50000;
+  private final static String[] FIRST_NAMES = {
+    "james", "mary", "john", "patricia", "robert", "jennifer", "michael", "linda", "william", "elizabeth",
+    "david", "barbara", "richard", "susan", "joseph", "jessica", "thomas", "sarah", "charles", "karen",
+    "daniel", "nancy", "matthew", "lisa", "anthony", "betty", "mark", "margaret", "donald", "sandra",
+    "steven", "ashley", "paul", "kimberly", "andrew", "emily", "joshua", "donna", "kenneth", "michelle",
+    "maria", "jose", "luis", "carmen", "ana", "juan", "wei", "mei", "hiroshi", "yuki" };
+  private final static String[] LAST_NAMES = {
+    "smith", "johnson", "williams", "brown", "jones", "garcia", "miller", "davis", "rodriguez", "martinez",
+    "hernandez", "lopez", "gonzalez", "wilson", "anderson", "thomas", "taylor", "moore", "jackson", "martin",
+    "lee", "perez", "thompson", "white", "harris", "sanchez", "clark", "ramirez", "lewis", "robinson",
+    "walker", "young", "allen", "king", "wright", "scott", "torres", "nguyen", "hill", "flores",
+    "green", "adams", "nelson", "baker", "hall", "rivera", "campbell", "mitchell", "carter", "roberts",
+    "cady-stanton", "o'brien", "van der berg", "kowalczyk", "tanaka", "okafor", "chen", "patel", "kim", "novak" };
+  // Relative head count of each job type code (index), shop floor heavy.
+  private final static double[] JOB_WEIGHTS = { 0, 12, 14, 10, 5, 0.2, 0.002, 16, 20, 6, 6, 11 };
+  // Typical annual pay of each job type code (index), in dollars.
+  private final static double[] JOB_PAY = { 40000, 38000, 95000, 90000, 120000, 250000, 400000, 52000, 41000, 34000, 34000, 43000 };
+
+  private final double skew;
+  private final Random random;
+
+  // Constructor, skew is the Zipf exponent (0 gives even departments).
+  public SyntheticEmployees( final double skew, final long seed ) {
+    this.skew = skew;
+    this.random = new Random( seed );
+  }
+
+  /***************************************************************
+   * Delete every employee and insert the given number of generated
+   * ones. Returns the head count of each department code, indexed
+   * by code.
+   **************************************************************/
+  public long[] populate( final String url, final int rows ) throws SQLException {
+    try ( Connection connection = DriverManager.getConnection( url, EmbeddedEmployeeDB.USER, EmbeddedEmployeeDB.PASSWORD ) ) {
+      int[] departments = codes( connection, "select department_code from department order by department_code" );
+      int[] jobs = codes( connection, "select job_type_code from job_type order by job_type_code" );
+      double[] departmentWeights = zipf( departments.length );
+      double[] jobWeights = new double[jobs.length];
+      for ( int i = 0; i < jobs.length; i++ )
+        jobWeights[i] = jobs[i] < JOB_WEIGHTS.length ? JOB_WEIGHTS[jobs[i]] : 5;
+      long[] headCount = new long[departments[departments.length - 1] + 1];
+
+      try ( Statement statement = connection.createStatement() ) {
+        statement.execute( "delete from employee" );
+      }
+      connection.setAutoCommit( false );
+      try ( PreparedStatement insert = connection.prepareStatement( "insert into employee (last_name, first_name, job_type_code, "
+        + "department_code, email_address, telephone, pay, pay_freq_code) values (?, ?, ?, ?, ?, ?, ?, ?)" ) ) {
+        for ( int row = 1; row <= rows; row++ ) {
+          int department = departments[pick( departmentWeights )];
+          int job = jobs[pick( jobWeights )];
+          String first = FIRST_NAMES[random.nextInt( FIRST_NAMES.length )];
+          String last = LAST_NAMES[random.nextInt( LAST_NAMES.length )];
+          insert.setString( 1, last );
+          insert.setString( 2, first );
+          insert.setInt( 3, job );
+          insert.setInt( 4, department );
+          insert.setString( 5, email( first, last, row ) );
+          insert.setString( 6, String.format( "520-%03d-%04d", 200 + random.nextInt( 800 ), random.nextInt( 10000 ) ) );
+          insert.setBigDecimal( 7, pay( job ) );
+          insert.setInt( 8, payFrequency( job ) );
+          insert.addBatch();
+          headCount[department]++;
+          if ( row % BATCH_SIZE == 0 )
+            insert.executeBatch();
+          if ( row % COMMIT_ROWS == 0 )
+            connection.commit();
+        }
+        insert.executeBatch();
+        connection.commit();
+      } finally {
+        connection.setAutoCommit( true );
+      }
+      return headCount;
+    }
+  }
+
+  // Zipf weights, assigned to departments in a shuffled order so the largest isn't always code 1.
+  private double[] zipf( final int n ) {
+    List<Double> weights = new ArrayList<>( n );
+    for ( int rank = 1; rank <= n; rank++ )
+      weights.add( 1.0 / Math.pow( rank, skew ) );
+    Collections.shuffle( weights, random );
+    double[] result = new double[n];
+    for ( int i = 0; i < n; i++ )
+      result[i] = weights.get( i );
+    return result;
+  }
+
+  // Index drawn in proportion to the weights.
+  private int pick( final double[] weights ) {
+    double total = 0;
+    for ( double weight : weights )
+      total += weight;
+    double target = random.nextDouble() * total;
+    for ( int i = 0; i < weights.length; i++ ) {
+      target -= weights[i];
+      if ( target < 0 )
+        return i;
+    }
+    return weights.length - 1;
+  }
+
+  // Log-normal spread around the job's typical pay.
+  private BigDecimal pay( final int job ) {
+    double typical = job < JOB_PAY.length ? JOB_PAY[job] : JOB_PAY[0];
+    double annual = typical * Math.exp( random.nextGaussian() * 0.2 );
+    return BigDecimal.valueOf( Math.round( annual * 100.0 ), 2 );
+  }
+
+  // Shop floor and clerical hourly, managers partly on commission, everyone else salaried.
+  private int payFrequency( final int job ) {
+    switch ( job ) {
+      case 1: case 7: case 8: case 9: case 10: case 11:
+        return 1;
+      case 4:
+        return random.nextInt( 4 ) == 0 ? 3 : 2;
+      default:
+        return 2;
+    }
+  }
+
+  // Initial, last name and a number, within the 32 characters the column holds.
+  private static String email( final String first, final String last, final int row ) {
+    String name = first.charAt( 0 ) + last.replaceAll( "[^a-z]", "" );
+    String local = name.substring( 0, Math.min( name.length(), 12 ) ) + ( row % 1000 );
+    return local + "@Thecompany.com";
+  }
+
+  private static int[] codes( final Connection connection, final String sql ) throws SQLException {
+    List<Integer> codes = new ArrayList<>();
+    try ( Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery( sql ) ) {
+      while ( resultSet.next() )
+        codes.add( resultSet.getInt( 1 ) );
+    }
+    if ( codes.isEmpty() )
+      throw new SQLException( "No codes for: " + sql );
+    return codes.stream().mapToInt( Integer::intValue ).toArray();
+  }
+
+}
@@ -0,0 +1,42 @@
+/*************************************************************************
+ * Title: Title Case Benchmark
+ * File: TitleCaseBenchmark.java
+ * Date: 10/18/2026
+ *
+ * Throughput and allocation of EmployeeTableViewUtility.toTitleCase for
+ * already-cased, lower case and hyphenated input.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class TitleCaseBenchmark {
+  @Param( { "George", "george", "cady-stanton", "clerical assistant" } )
+  public String input;
+
+  @Benchmark
+  public String toTitleCase() {
+    return AppBridge.toTitleCase( input );
+  }
+
+}
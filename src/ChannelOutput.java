@@ -0,0 +1,125 @@
+/*************************************************************************
+ * Title: Channel Output
+ * File: ChannelOutput.java
+ * Date: 10/18/2026
+ *
+ * Buffered binary/text output over an NIO FileChannel. One direct buffer
+ * is reused for the whole file, and ASCII text is copied in without
+ * going through a CharsetEncoder. For further information, see:
+ *   EmployeeCsvWriter.java
+ *   EmployeeColumnarWriter.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class ChannelOutput implements AutoCloseable {
+  private final static int BUFFER_SIZE = 1 << 16;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect( BUFFER_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+
+  // Constructor, creates or truncates the file.
+  public ChannelOutput( final Path path ) throws IOException {
+    channel = FileChannel.open( path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING );
+  }
+
+  public void putByte( final int b ) throws IOException {
+    ensure( 1 );
+    buffer.put( (byte) b );
+  }
+
+  public void putShort( final int s ) throws IOException {
+    ensure( 2 );
+    buffer.putShort( (short) s );
+  }
+
+  public void putInt( final int i ) throws IOException {
+    ensure( 4 );
+    buffer.putInt( i );
+  }
+
+  public void putLong( final long l ) throws IOException {
+    ensure( 8 );
+    buffer.putLong( l );
+  }
+
+  public void putBytes( final byte[] bytes, final int offset, final int length ) throws IOException {
+    int written = 0;
+    while ( written < length ) {
+      ensure( 1 );
+      int n = Math.min( length - written, buffer.remaining() );
+      buffer.put( bytes, offset + written, n );
+      written += n;
+    }
+  }
+
+  /***************************************************************
+   * Write text as UTF-8. ASCII is copied directly.
+   **************************************************************/
+  public void putText( final CharSequence s ) throws IOException {
+    for ( int i = 0, n = s.length(); i < n; i++ ) {
+      char c = s.charAt( i );
+      if ( c >= 0x80 ) {
+        byte[] utf8 = s.subSequence( i, n ).toString().getBytes( StandardCharsets.UTF_8 );
+        putBytes( utf8, 0, utf8.length );
+        return;
+      }
+      ensure( 1 );
+      buffer.put( (byte) c );
+    }
+  }
+
+  // Decimal digits of a long, without building a String.
+  public void putDecimal( long value ) throws IOException {
+    if ( value == Long.MIN_VALUE ) {
+      putText( Long.toString( value ) );
+      return;
+    }
+    if ( value < 0 ) {
+      putByte( '-' );
+      value = -value;
+    }
+    ensure( 19 );
+    int start = buffer.position();
+    do {
+      buffer.put( (byte) ( '0' + value % 10 ) );
+      value /= 10;
+    } while ( value != 0 );
+    // Digits went in backwards.
+    for ( int i = start, j = buffer.position() - 1; i < j; i++, j-- ) {
+      byte t = buffer.get( i );
+      buffer.put( i, buffer.get( j ) );
+      buffer.put( j, t );
+    }
+  }
+
+  public void flush() throws IOException {
+    buffer.flip();
+    while ( buffer.hasRemaining() )
+      channel.write( buffer );
+    buffer.clear();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      channel.close();
+    }
+  }
+
+  private void ensure( final int bytes ) throws IOException {
+    if ( buffer.remaining() < bytes )
+      flush();
+  }
+
+}
@@ -0,0 +1,97 @@
+/*************************************************************************
+ * Title: Coalescing Cache
+ * File: CoalescingCache.java
+ * Date: 10/18/2026
+ *
+ * Cache of query results shared by every caller, where identical
+ * queries already in flight are coalesced: the first caller for a key
+ * runs the query, later callers for the same key wait for its result
+ * instead of running it again. Results expire after a time-to-live; a
+ * failed query is not cached, so the next caller tries again. For
+ * further information, see:
+ *   EmployeeQueryService.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+public class CoalescingCache<K, V> {
+  private final long ttl;
+  private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+
+  // A result, or the query still producing it.
+  private final static class Entry<V> {
+    final CompletableFuture<V> value = new CompletableFuture<>();
+    volatile long loaded = Long.MAX_VALUE;   // When the query finished.
+
+    boolean isExpired( final long now, final long ttl ) {
+      return value.isDone() && now - loaded > ttl;
+    }
+  }
+
+  // Constructor.
+  public CoalescingCache( final long ttl ) {
+    this.ttl = ttl;
+  }
+
+  /***************************************************************
+   * Cached value of key, loading it if absent or expired. Callers
+   * arriving while a load runs share its result (or its failure).
+   **************************************************************/
+  public V get( final K key, final Callable<V> loader ) throws Exception {
+    final long now = System.currentTimeMillis();
+    final Entry<V> created = new Entry<>();
+    Entry<V> entry = entries.compute( key, ( k, current ) ->
+      current == null || current.isExpired( now, ttl ) ? created : current );
+
+    if ( entry == created ) {
+      misses.increment();
+      try {
+        V value = loader.call();
+        entry.loaded = System.currentTimeMillis();
+        entry.value.complete( value );
+        return value;
+      } catch ( Exception | Error ex ) {
+        entries.remove( key, entry );
+        entry.value.completeExceptionally( ex );
+        throw ex;
+      }
+    }
+    if ( entry.value.isDone() )
+      hits.increment();
+    else
+      coalesced.increment();
+    try {
+      return entry.value.get();
+    } catch ( ExecutionException ex ) {
+      Throwable cause = ex.getCause();
+      if ( cause instanceof Exception )
+        throw (Exception) cause;
+      throw (Error) cause;
+    }
+  }
+
+  /***************************************************************
+   * Forget a key. A load in flight still answers its waiters, but
+   * its result is not kept.
+   **************************************************************/
+  public void invalidate( final K key ) { entries.remove( key ); }
+  public void invalidateAll() { entries.clear(); }
+  public void invalidateIf( final Predicate<? super K> test ) { entries.keySet().removeIf( test ); }
+
+  // Statistics.
+  public int size() { return entries.size(); }
+  public long getHitCount() { return hits.sum(); }
+  public long getMissCount() { return misses.sum(); }
+  public long getCoalescedCount() { return coalesced.sum(); }
+
+}
@@ -0,0 +1,233 @@
+/*************************************************************************
+ * Title: Connection Pool
+ * File: ConnectionPool.java
+ * Date: 10/18/2026
+ *
+ * Bounded pool of MySQL database connections. No more than the pool size
+ * are kept open, on loan and idle together. Connections are validated
+ * when borrowed, silently replaced when the server has dropped them, and
+ * closed after sitting idle too long. For further information, see:
+ *   EmployeeTableViewUtility.java
+ *
+ * Pool size and idle timeout may be overridden with the system
+ * properties employee.pool.size and employee.pool.idleTimeout (ms).
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Connections can be opened ahead of need.
+ *   10/18/2026: Borrowed connections marked on loan, see PooledConnection.close.
+ *   10/18/2026: Open connections, not just idle ones, bounded by the pool size.
+ *************************************************************************/
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConnectionPool implements AutoCloseable {
+  public final static int DEFAULT_MAXIMUM_SIZE = Integer.getInteger( "employee.pool.size", 8 );
+  public final static long DEFAULT_IDLE_TIMEOUT = Long.getLong( "employee.pool.idleTimeout", 300000L );
+  private final static int VALIDATION_TIMEOUT = 2;     // Seconds allowed for Connection.isValid().
+  private final static long BORROW_TIMEOUT = 30000L;   // Milliseconds to wait for a free connection.
+
+  private final String url;
+  private final String userId;
+  private final String password;
+  private final long idleTimeout;
+  private final int maximumSize;
+  private final Semaphore permits;                     // One permit per connection allowed out.
+  private final Deque<PooledConnection> idle = new ArrayDeque<>();
+  private final AtomicInteger open = new AtomicInteger(); // Physical connections, on loan or idle.
+  private final ScheduledExecutorService evictor;
+  private volatile boolean closed = false;
+
+  // Constructor.
+  public ConnectionPool( final String url, final String userId, final String password ) {
+    this( url, userId, password, DEFAULT_MAXIMUM_SIZE, DEFAULT_IDLE_TIMEOUT );
+  }
+
+  public ConnectionPool(
+    final String url,
+    final String userId,
+    final String password,
+    final int maximumSize,
+    final long idleTimeout
+  ) {
+    if ( maximumSize < 1 )
+      throw new IllegalArgumentException( "Pool size must be at least 1." );
+    this.url = url;
+    this.userId = userId;
+    this.password = password;
+    this.idleTimeout = idleTimeout;
+    this.maximumSize = maximumSize;
+    permits = new Semaphore( maximumSize, true );
+    // Daemon thread so an abandoned pool never keeps the JVM alive.
+    evictor = Executors.newSingleThreadScheduledExecutor( r -> {
+      Thread t = new Thread( r, "connection-pool-evictor" );
+      t.setDaemon( true );
+      return t;
+    } );
+    long period = Math.max( 1000L, idleTimeout / 2 );
+    evictor.scheduleWithFixedDelay( this::evictIdle, period, period, TimeUnit.MILLISECONDS );
+  }
+
+  /***************************************************************
+   * Borrow a validated connection. Close the returned object to
+   * hand the connection back to the pool.
+   **************************************************************/
+  public PooledConnection borrow() throws SQLException {
+    if ( closed )
+      throw new SQLException( "Connection pool is closed." );
+    try {
+      if ( !permits.tryAcquire( BORROW_TIMEOUT, TimeUnit.MILLISECONDS ) )
+        throw new SQLException( "Timed out waiting for a pooled connection." );
+    } catch ( InterruptedException ex ) {
+      Thread.currentThread().interrupt();
+      throw new SQLException( "Interrupted waiting for a pooled connection.", ex );
+    }
+
+    try {
+      PooledConnection pooled;
+      while ( ( pooled = pollIdle() ) != null ) {
+        if ( isUsable( pooled ) ) {
+          pooled.lend();
+          return pooled;
+        }
+        // Server dropped this one, discard it and try the next.
+        discard( pooled );
+      }
+      // Nothing idle (or nothing valid), so open a fresh connection. The
+      // permit bounds those on loan; one racing a prestart is closed on release.
+      pooled = new PooledConnection( this, DriverManager.getConnection( url, userId, password ) );
+      open.incrementAndGet();
+      pooled.lend();
+      return pooled;
+    } catch ( SQLException | RuntimeException ex ) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  /***************************************************************
+   * Open one more connection and leave it idle, so a later borrow
+   * need not wait for a login. Safe to call from several threads.
+   **************************************************************/
+  public void prestart() throws SQLException {
+    if ( closed )
+      return;
+    // Claim the slot before the login, so concurrent calls can't overshoot.
+    if ( open.incrementAndGet() > maximumSize ) {
+      open.decrementAndGet();
+      return;
+    }
+    PooledConnection pooled;
+    try {
+      pooled = new PooledConnection( this, DriverManager.getConnection( url, userId, password ) );
+    } catch ( SQLException | RuntimeException ex ) {
+      open.decrementAndGet();
+      throw ex;
+    }
+    pooled.touch();
+    synchronized ( idle ) {
+      if ( !closed ) {
+        idle.addLast( pooled ); // Behind the warm ones.
+        return;
+      }
+    }
+    discard( pooled );
+  }
+
+  /***************************************************************
+   * Return a connection to the pool. Called by PooledConnection.
+   **************************************************************/
+  void release( final PooledConnection pooled ) {
+    try {
+      // Over the size when a borrow opened one while a prestart was logging in.
+      if ( closed || open.get() > maximumSize || !reset( pooled ) ) {
+        discard( pooled );
+      } else {
+        pooled.touch();
+        synchronized ( idle ) {
+          idle.push( pooled ); // LIFO keeps the warmest connections in use.
+        }
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  /***************************************************************
+   * Close every idle connection and refuse further borrows.
+   **************************************************************/
+  @Override
+  public void close() {
+    closed = true;
+    evictor.shutdownNow();
+    PooledConnection pooled;
+    while ( ( pooled = pollIdle() ) != null )
+      discard( pooled );
+  }
+
+  public boolean isClosed() { return closed; }
+  public int getIdleCount() { synchronized ( idle ) { return idle.size(); } }
+  public int getOpenCount() { return open.get(); }
+
+  // Close a connection for good.
+  private void discard( final PooledConnection pooled ) {
+    pooled.closePhysical();
+    open.decrementAndGet();
+  }
+
+  private PooledConnection pollIdle() {
+    synchronized ( idle ) {
+      return idle.poll();
+    }
+  }
+
+  // Validate on borrow.
+  private static boolean isUsable( final PooledConnection pooled ) {
+    try {
+      return pooled.getConnection().isValid( VALIDATION_TIMEOUT );
+    } catch ( SQLException ex ) {
+      return false;
+    }
+  }
+
+  // Undo anything a borrower left behind.
+  private static boolean reset( final PooledConnection pooled ) {
+    try {
+      Connection connection = pooled.getConnection();
+      if ( connection.isClosed() )
+        return false;
+      if ( !connection.getAutoCommit() ) {
+        connection.rollback();
+        connection.setAutoCommit( true );
+      }
+      return true;
+    } catch ( SQLException ex ) {
+      return false;
+    }
+  }
+
+  // Close connections idle longer than the timeout.
+  private void evictIdle() {
+    final long cutoff = System.currentTimeMillis() - idleTimeout;
+    synchronized ( idle ) {
+      Iterator<PooledConnection> it = idle.iterator();
+      while ( it.hasNext() ) {
+        PooledConnection pooled = it.next();
+        if ( pooled.getLastUsed() < cutoff ) {
+          it.remove();
+          discard( pooled );
+        }
+      }
+    }
+  }
+
+}
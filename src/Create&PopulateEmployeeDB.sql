@@ -160,6 +160,31 @@ end $$
 -- highlight (select) and execute the code in the following line:
 delimiter ;
 
+-- highlight (select) and execute the code from the following line:
+delimiter $$
+create procedure sp_employees_in_dept_page(in dept TINYINT, in after_id INT, in page_size INT)
+begin
+	select * from employee where department_code = dept and employee_id > after_id 
+	order by employee_id limit page_size;
+end $$
+-- through the previous line.
+
+-- highlight (select) and execute the code in the following line:
+delimiter ;
+
+-- highlight (select) and execute the code from the following line:
+delimiter $$
+create procedure sp_reference_data()
+begin
+	select department_code, department_name from department order by department_code;
+	select job_type_code, job_type_description from job_type order by job_type_code;
+	select pay_freq_code, pay_freq_description from pay_frequency order by pay_freq_code;
+end $$
+-- through the previous line.
+
+-- highlight (select) and execute the code in the following line:
+delimiter ;
+
 -- test the first procedue by highlighting (selecting) and 
 -- executing the code in the following line:
 call sp_all_departments();
@@ -171,3 +196,11 @@ call sp_all_employees();
 -- test the third procedue by highlighting (selecting) and 
 -- executing the code in the following line:
 call sp_employees_in_dept( 4 );
+
+-- test the fourth procedue by highlighting (selecting) and 
+-- executing the code in the following line:
+call sp_employees_in_dept_page( 3, 0, 2 );
+
+-- test the fifth procedue by highlighting (selecting) and 
+-- executing the code in the following line:
+call sp_reference_data();
\ No newline at end of file
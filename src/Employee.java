@@ -3,19 +3,49 @@ import javafx.beans.property.StringProperty;
 
 /***************************************************************
  * Model class used to hold MySQL employee data.
+ *
+ * Kept compact because tens of thousands are held per view: 
+ * codes are primitives, pay is held as cents, repeated strings 
+ * are pooled, and the pay string is only built (once) when a 
+ * cell first renders it. Names are title-cased when the row is
+ * read, since indexing, snapshots and prefetching read them off
+ * the FX thread while it may be editing them.
  **************************************************************/
 public class Employee {
-  private Integer employeeId;
+  private int employeeId;
   private String lastName;
-  private Integer jobCode;
-  private Integer payCode;
-  private String salary;
+  private String firstNameValue; // Used until firstName property is needed.
+  private int jobCode;
+  private int payCode;
+  private long payCents;
+  private String salary;          // Formatted pay, built lazily.
   private String email;
   private String telephone;
-  // firstName made StringProperty to support tableview cell editing.
-  private final StringProperty firstName = new SimpleStringProperty( this, "firstName", null );
+  // firstName made StringProperty to support tableview cell editing, created on demand.
+  private volatile StringProperty firstName;
+
+  // Constructors.
+  public Employee( 
+    int id,
+    String fName, 
+    String lName,
+    int jCode,
+    int pCode,
+    long cents,
+    String mail,
+    String tele
+  ) {
+    employeeId = id;
+    firstNameValue = StringPool.dedupe( EmployeeTableViewUtility.toTitleCase( fName ) );
+    lastName = StringPool.dedupe( EmployeeTableViewUtility.toTitleCase( lName ) );
+    jobCode = jCode;
+    payCode = pCode;
+    payCents = cents;
+    email = StringPool.dedupe( mail );
+    telephone = StringPool.dedupe( tele );
+    Metrics.employeeAllocated();
+  }
 
-  // Constructor.
   public Employee( 
     Integer id,
     String fName, 
@@ -26,45 +56,51 @@ public class Employee {
     String mail,
     String tele
   ) {
-    employeeId = id;
-    // Capitalize names.
-    fName = EmployeeTableViewUtility.toTitleCase( fName );
-    lName = EmployeeTableViewUtility.toTitleCase( lName );
-    // Note, fName field is a string property.
-    firstName.set( fName ); 
-    lastName = lName;
-    jobCode = jCode;
-    payCode = pCode;
-    email = mail;
-    telephone = tele;
-    salary = String.format( "$%.2f", pay ); // Format as $USD.
+    this( id, fName, lName, jCode, pCode, Math.round( pay * 100.0 ), mail, tele );
   }
 
   // Getters.
-  public Integer getEmployeeId() { return employeeId; }
-  public String getLastName() { return lastName; }
-  public Integer getJobCode() { return jobCode; }
-  public Integer getPayCode() { return payCode; }
-  public String getSalary() { return salary; }
+  public int getEmployeeId() { return employeeId; }
+  public int getJobCode() { return jobCode; }
+  public int getPayCode() { return payCode; }
+  public long getPayCents() { return payCents; }
   public String getTelephone() { return telephone; }
   public String getEmail() { return email.isEmpty() ? "No email address provided." : email;  }
+  public String getEmailAddress() { return email; } // As stored, possibly empty.
+
+  public String getLastName() { return lastName; }
+
+  public String getSalary() {
+    if ( salary == null )
+      salary = formatPay( payCents ); // Format as $USD.
+    return salary;
+  }
 
   // Setters.
-  public void setEmployeeId( Integer id ) { employeeId = id; }
+  public void setEmployeeId( int id ) { employeeId = id; }
   public void setLastName( String name ) { lastName = name; }
-  public void setJobCode( Integer code ) { jobCode = code;  }
-  public void setPayCode( Integer code ) { payCode = code; }
+  public void setJobCode( int code ) { jobCode = code;  }
+  public void setPayCode( int code ) { payCode = code; }
+  public void setPayCents( long cents ) { payCents = cents; salary = null; }
   public void setTelephone( String tele ) { telephone = tele; }
   public void setEmail( String mail ) { email = mail; }
 
   // firstName Property 
   public final String getFirstName() {
-    return firstName.get();
+    StringProperty property = firstName;
+    return property != null ? property.get() : firstNameValue;
   }
   public final void setFirstName( String fName ) {
-    firstNameProperty().set( fName );
+    StringProperty property = firstName;
+    if ( property != null )
+      property.set( fName );
+    else
+      firstNameValue = fName;
   }
+  // Created on the FX thread; firstNameValue is kept so a reader that hasn't seen the property yet gets a name.
   public final StringProperty firstNameProperty() {
+    if ( firstName == null )
+      firstName = new SimpleStringProperty( this, "firstName", firstNameValue );
     return firstName;
   }
 
@@ -76,4 +112,20 @@ public class Employee {
     return EmployeeTableViewUtility.toTitleCase( EmployeeTableViewUtility.getJobDescription( jobCode ) );
   }
 
+  /***************************************************************
+   * Format cents as $USD, same as "$%.2f" without a Formatter.
+   **************************************************************/
+  public static String formatPay( final long cents ) {
+    long abs = Math.abs( cents );
+    long fraction = abs % 100;
+    StringBuilder sb = new StringBuilder( 16 );
+    sb.append( '$' );
+    if ( cents < 0 )
+      sb.append( '-' );
+    sb.append( abs / 100 ).append( '.' );
+    if ( fraction < 10 )
+      sb.append( '0' );
+    return sb.append( fraction ).toString();
+  }
+
 }
@@ -0,0 +1,128 @@
+/*************************************************************************
+ * Title: Employee Cache
+ * File: EmployeeCache.java
+ * Date: 10/18/2026
+ *
+ * Least-recently-used cache of employee lists keyed by department code.
+ * Entries expire after a time-to-live and are dropped when one of their
+ * employees is updated. For further information, see:
+ *   EmployeeTableViewUtility.java
+ *
+ * Size and time-to-live may be overridden with the system properties
+ * employee.cache.size and employee.cache.ttl (ms).
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class EmployeeCache {
+  public final static int DEFAULT_MAXIMUM_SIZE = Integer.getInteger( "employee.cache.size", 16 );
+  public final static long DEFAULT_TTL = Long.getLong( "employee.cache.ttl", 600000L );
+
+  private final int maximumSize;
+  private final long ttl;
+  private final Map<Integer, Department> entries;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  // A cached department and when it was loaded.
+  private final static class Department {
+    final List<Employee> employees;
+    final long loaded;
+
+    Department( final List<Employee> employees, final long loaded ) {
+      this.employees = employees;
+      this.loaded = loaded;
+    }
+  }
+
+  // Constructor.
+  public EmployeeCache() {
+    this( DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL );
+  }
+
+  public EmployeeCache( final int maximumSize, final long ttl ) {
+    if ( maximumSize < 1 )
+      throw new IllegalArgumentException( "Cache size must be at least 1." );
+    this.maximumSize = maximumSize;
+    this.ttl = ttl;
+    // Access-ordered map, so the eldest entry is the least recently used.
+    entries = new LinkedHashMap<Integer, Department>( 16, 0.75f, true ) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry( final Map.Entry<Integer, Department> eldest ) {
+        if ( size() > EmployeeCache.this.maximumSize ) {
+          evictions.incrementAndGet();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /***************************************************************
+   * Return cached (read-only) employees of department, or null.
+   **************************************************************/
+  public synchronized List<Employee> get( final int departmentNumber ) {
+    Department entry = entries.get( departmentNumber );
+    if ( entry != null && System.currentTimeMillis() - entry.loaded > ttl ) {
+      // Stale, treat as a miss.
+      entries.remove( departmentNumber );
+      entry = null;
+    }
+    if ( entry == null ) {
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    return entry.employees;
+  }
+
+  public synchronized void put( final int departmentNumber, final List<Employee> employees ) {
+    List<Employee> copy = Collections.unmodifiableList( new ArrayList<>( employees ) );
+    entries.put( departmentNumber, new Department( copy, System.currentTimeMillis() ) );
+  }
+
+  public synchronized void invalidate( final int departmentNumber ) {
+    entries.remove( departmentNumber );
+  }
+
+  /***************************************************************
+   * Drop any department holding the employee.
+   **************************************************************/
+  public synchronized void invalidateEmployee( final int id ) {
+    Iterator<Department> it = entries.values().iterator();
+    while ( it.hasNext() ) {
+      for ( Employee employee : it.next().employees ) {
+        if ( employee.getEmployeeId() == id ) {
+          it.remove();
+          break;
+        }
+      }
+    }
+  }
+
+  public synchronized void clear() { entries.clear(); }
+
+  // Statistics.
+  public synchronized int size() { return entries.size(); }
+  public int getMaximumSize() { return maximumSize; }
+  public long getTtl() { return ttl; }
+  public long getHitCount() { return hits.get(); }
+  public long getMissCount() { return misses.get(); }
+  public long getEvictionCount() { return evictions.get(); }
+  public double getHitRatio() {
+    long h = hits.get(), total = h + misses.get();
+    return total == 0 ? 0.0 : (double)h / total;
+  }
+
+}
@@ -0,0 +1,136 @@
+/*************************************************************************
+ * Title: Employee Cells
+ * File: EmployeeCells.java
+ * Date: 10/18/2026
+ *
+ * Typed cell value factories for the employee table. Each column reads
+ * its field through a direct accessor rather than PropertyValueFactory,
+ * which looks the getter up reflectively, and hands the cell a fixed,
+ * listener-free value rather than a new property wrapper. Job type and
+ * pay frequency codes and their (title-cased) descriptions are built
+ * once per code table snapshot and shared by every row, so rendering a
+ * description does no lookup, casing or allocation. For further
+ * information, see:
+ *   EmployeeTableViewUtility.java
+ *   ScrollFrameTimer.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.control.TableColumn.CellDataFeatures;
+import javafx.util.Callback;
+
+public final class EmployeeCells {
+  private final static int SHARED_CODES = 256;   // Codes below this share one value per code.
+  @SuppressWarnings( { "unchecked", "rawtypes" } )
+  private final static FixedValue<Integer>[] CODES = new FixedValue[SHARED_CODES];
+  private static volatile Descriptions descriptions = new Descriptions( ReferenceData.EMPTY );
+
+  static {
+    for ( int i = 0; i < SHARED_CODES; i++ )
+      CODES[i] = new FixedValue<>( i );
+  }
+
+  private EmployeeCells() {}
+
+  /***************************************************************
+   * Value of any field. Rows of the all employees view are null
+   * until their window arrives, so are their cells.
+   **************************************************************/
+  public static <T> Callback<CellDataFeatures<Employee, T>, ObservableValue<T>> of( final Function<Employee, T> getter ) {
+    return cell -> {
+      Employee employee = cell.getValue();
+      return employee == null ? null : new FixedValue<>( getter.apply( employee ) );
+    };
+  }
+
+  // Small codes, one shared value per code.
+  public static Callback<CellDataFeatures<Employee, Integer>, ObservableValue<Integer>> code( final ToIntFunction<Employee> getter ) {
+    return cell -> {
+      Employee employee = cell.getValue();
+      return employee == null ? null : codeValue( getter.applyAsInt( employee ) );
+    };
+  }
+
+  // Job type descriptions, title-cased.
+  public static Callback<CellDataFeatures<Employee, String>, ObservableValue<String>> jobDescription() {
+    return cell -> {
+      Employee employee = cell.getValue();
+      return employee == null ? null : current().job( employee.getJobCode() );
+    };
+  }
+
+  public static Callback<CellDataFeatures<Employee, String>, ObservableValue<String>> payFrequencyDescription() {
+    return cell -> {
+      Employee employee = cell.getValue();
+      return employee == null ? null : current().payFrequency( employee.getPayCode() );
+    };
+  }
+
+  private static FixedValue<Integer> codeValue( final int code ) {
+    return code >= 0 && code < SHARED_CODES ? CODES[code] : new FixedValue<>( code );
+  }
+
+  // Descriptions of the code tables in use, rebuilt after a refresh swaps them.
+  private static Descriptions current() {
+    Descriptions current = descriptions;
+    ReferenceData codes = EmployeeTableViewUtility.getReferenceData();
+    if ( current.source != codes )
+      descriptions = current = new Descriptions( codes );
+    return current;
+  }
+
+  /***************************************************************
+   * One value per job type and pay frequency code.
+   **************************************************************/
+  private final static class Descriptions {
+    final ReferenceData source;
+    final FixedValue<String>[] jobs;
+    final FixedValue<String>[] payFrequencies;
+
+    Descriptions( final ReferenceData codes ) {
+      source = codes;
+      jobs = build( codes.getJobTableSize(), code -> TitleCase.apply( codes.getJobDescription( code ) ) );
+      payFrequencies = build( codes.getPayFrequencyTableSize(), codes::getPayFrequency );
+    }
+
+    FixedValue<String> job( final int code ) {
+      return code >= 0 && code < jobs.length ? jobs[code] : new FixedValue<>( TitleCase.apply( source.getJobDescription( code ) ) );
+    }
+
+    FixedValue<String> payFrequency( final int code ) {
+      return code >= 0 && code < payFrequencies.length ? payFrequencies[code] : new FixedValue<>( source.getPayFrequency( code ) );
+    }
+
+    @SuppressWarnings( { "unchecked", "rawtypes" } )
+    private static FixedValue<String>[] build( final int size, final IntFunction<String> description ) {
+      FixedValue<String>[] values = new FixedValue[size];
+      for ( int code = 0; code < size; code++ )
+        values[code] = new FixedValue<>( description.apply( code ) );
+      return values;
+    }
+  }
+
+  /***************************************************************
+   * A value that never changes, so there is nothing to listen to.
+   **************************************************************/
+  private final static class FixedValue<T> implements ObservableValue<T> {
+    private final T value;
+
+    FixedValue( final T value ) { this.value = value; }
+
+    @Override public T getValue() { return value; }
+    @Override public void addListener( final InvalidationListener listener ) {}
+    @Override public void removeListener( final InvalidationListener listener ) {}
+    @Override public void addListener( final ChangeListener<? super T> listener ) {}
+    @Override public void removeListener( final ChangeListener<? super T> listener ) {}
+  }
+
+}
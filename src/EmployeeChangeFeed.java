@@ -0,0 +1,104 @@
+/*************************************************************************
+ * Title: Employee Change Feed
+ * File: EmployeeChangeFeed.java
+ * Date: 10/18/2026
+ *
+ * Keeps the displayed department up to date with other users' edits.
+ * The database is polled on a background thread for rows changed since
+ * the last watermark (see migrations/V002__employee_change_tracking.sql)
+ * and only those rows are applied to the table's list, on the FX
+ * thread. Each poll reaches back a little before the watermark, so a
+ * transaction that committed late is still seen; re-applying a row is
+ * harmless. Tombstones of removed rows are kept for a week (see
+ * migrations/V006__employee_tombstone_retention.sql). For further
+ * information, see:
+ *   EmployeeChanges.java
+ *   EmployeeTableView.java
+ *
+ * Poll interval and overlap may be overridden with the system
+ * properties employee.changeFeed.interval and
+ * employee.changeFeed.overlap (ms).
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Any poll failure is logged, so polling carries on.
+ *************************************************************************/
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+
+public class EmployeeChangeFeed {
+  public final static long DEFAULT_INTERVAL = Long.getLong( "employee.changeFeed.interval", 5000L );
+  public final static long DEFAULT_OVERLAP = Long.getLong( "employee.changeFeed.overlap", 5000L );
+  // Shared daemon thread so polling never keeps the JVM alive.
+  private final static ScheduledExecutorService POLLER = Executors.newSingleThreadScheduledExecutor( r -> {
+    Thread t = new Thread( r, "employee-change-feed" );
+    t.setDaemon( true );
+    return t;
+  } );
+
+  private final long interval;
+  private final long overlap;
+  private final Runnable onApplied;       // Run on the FX thread after the list changed.
+  private ScheduledFuture<?> poll;        // FX thread only.
+  private int generation = 0;             // FX thread only, drops polls for an old department.
+
+  // Constructor.
+  public EmployeeChangeFeed( final Runnable onApplied ) {
+    this( DEFAULT_INTERVAL, DEFAULT_OVERLAP, onApplied );
+  }
+
+  public EmployeeChangeFeed( final long interval, final long overlap, final Runnable onApplied ) {
+    this.interval = interval;
+    this.overlap = overlap;
+    this.onApplied = onApplied;
+  }
+
+  /***************************************************************
+   * Follow a department's changes into the list it was loaded
+   * into. Call on the FX thread, right after the load.
+   **************************************************************/
+  public void start( final int departmentNumber, final ObservableList<Employee> employees ) {
+    stop();
+    final int current = generation;
+    poll = POLLER.scheduleWithFixedDelay( new Runnable() {
+      private Timestamp since = null; // First poll only reads the server time.
+
+      @Override
+      public void run() {
+        try {
+          final EmployeeChanges changes = EmployeeTableViewUtility.EmployeeGetChanges( departmentNumber, since );
+          since = new Timestamp( changes.getWatermark().getTime() - overlap );
+          if ( changes.isEmpty() )
+            return;
+          Platform.runLater( () -> {
+            if ( current == generation
+              && changes.applyTo( employees, EmployeeTableViewUtility::hasPendingEdit ) && onApplied != null )
+              onApplied.run();
+          } );
+        } catch ( SQLException | RuntimeException ex ) {
+          // An exception escaping run() would cancel every later poll.
+          System.err.println( "Change feed exception " + ex );
+        }
+      }
+    }, 0, interval, TimeUnit.MILLISECONDS );
+  }
+
+  /***************************************************************
+   * Stop following. Call on the FX thread.
+   **************************************************************/
+  public void stop() {
+    generation++;
+    if ( poll != null ) {
+      poll.cancel( false );
+      poll = null;
+    }
+  }
+
+}
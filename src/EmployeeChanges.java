@@ -0,0 +1,86 @@
+/*************************************************************************
+ * Title: Employee Changes
+ * File: EmployeeChanges.java
+ * Date: 10/18/2026
+ *
+ * One poll of a department's change feed: rows inserted or updated and
+ * ids of rows that left the department since the previous watermark,
+ * plus the server time to poll from next. Changes are applied to a
+ * displayed list in place, so untouched rows keep their cells, scroll
+ * position and selection. For further information, see:
+ *   EmployeeChangeFeed.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+public final class EmployeeChanges {
+  private final Timestamp watermark;
+  private final List<Employee> changed;
+  private final Set<Integer> removed;
+
+  // Constructor.
+  public EmployeeChanges( final Timestamp watermark, final List<Employee> changed, final Set<Integer> removed ) {
+    this.watermark = watermark;
+    this.changed = changed;
+    this.removed = removed;
+  }
+
+  public Timestamp getWatermark() { return watermark; }
+  public List<Employee> getChanged() { return changed; }
+  public Set<Integer> getRemoved() { return removed; }
+  public boolean isEmpty() { return changed.isEmpty() && removed.isEmpty(); }
+
+  /***************************************************************
+   * Apply to a list: removals first, then updates in place, then
+   * inserts at the end. Rows the skip test accepts (such as rows
+   * with unsaved local edits) are left alone. Each step is one list
+   * change. Returns true if the list changed.
+   **************************************************************/
+  public boolean applyTo( final List<Employee> employees, final IntPredicate skip ) {
+    if ( isEmpty() )
+      return false;
+    boolean modified = false;
+
+    // A row that left and came back within one poll is in both sets, and stays.
+    Set<Integer> changedIds = new HashSet<>();
+    for ( Employee employee : changed )
+      changedIds.add( employee.getEmployeeId() );
+    List<Employee> leaving = new ArrayList<>();
+    for ( Employee employee : employees ) {
+      int id = employee.getEmployeeId();
+      if ( removed.contains( id ) && !changedIds.contains( id ) && !skip.test( id ) )
+        leaving.add( employee );
+    }
+    if ( !leaving.isEmpty() )
+      modified = employees.removeAll( leaving );
+
+    Map<Integer, Integer> positions = new HashMap<>( employees.size() * 2 );
+    for ( int i = 0; i < employees.size(); i++ )
+      positions.put( employees.get( i ).getEmployeeId(), i );
+    List<Employee> arriving = new ArrayList<>();
+    for ( Employee employee : changed ) {
+      int id = employee.getEmployeeId();
+      Integer position = positions.get( id );
+      if ( position == null ) {
+        arriving.add( employee );
+        positions.put( id, -1 ); // Listed twice in one poll.
+      } else if ( position >= 0 && !skip.test( id ) ) {
+        employees.set( position, employee );
+        modified = true;
+      }
+    }
+    if ( !arriving.isEmpty() )
+      modified |= employees.addAll( arriving );
+    return modified;
+  }
+
+}
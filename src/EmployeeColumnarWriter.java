@@ -0,0 +1,156 @@
+/*************************************************************************
+ * Title: Employee Columnar Writer
+ * File: EmployeeColumnarWriter.java
+ * Date: 10/18/2026
+ *
+ * Writes streamed employee rows to a compact column-oriented binary
+ * file. Rows are gathered into fixed-size row groups, and each group is
+ * written one column at a time, so memory stays constant however many
+ * rows are exported. For further information, see:
+ *   EmployeeExport.java
+ *
+ * File layout (little-endian):
+ *   File      := "EMPC" version:int32 columnCount:int32 Column*
+ *                RowGroup* 0:int32 totalRows:int64
+ *   Column    := type:int8 nameLength:int16 name:utf8
+ *                (type 1 = int32, 2 = int64, 3 = utf8 string)
+ *   RowGroup  := rowCount:int32 Chunk[columnCount]
+ *   Chunk     := int32[rowCount] | int64[rowCount] |
+ *                byteLength:int32 offsets:int32[rowCount + 1] bytes
+ * Pay is stored as int64 cents. Null strings are stored as empty.
+ *
+ * Row group size may be overridden with the system property
+ * employee.export.rowGroup.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+public class EmployeeColumnarWriter implements EmployeeRowWriter {
+  public final static int VERSION = 1;
+  public final static int ROW_GROUP = Integer.getInteger( "employee.export.rowGroup", 8192 );
+  private final static byte INT32 = 1, INT64 = 2, UTF8 = 3;
+  // Column types, same order as EmployeeCsvWriter.COLUMNS.
+  private final static byte[] TYPES = { INT32, UTF8, UTF8, INT32, INT32, UTF8, UTF8, INT64, INT32 };
+  private final static int PAY = 7;
+
+  private final ChannelOutput out;
+  private final int[][] ints = new int[TYPES.length][];
+  private final long[] cents = new long[ROW_GROUP];
+  private final StringColumn[] strings = new StringColumn[TYPES.length];
+  private int[] indexes;     // Column positions, resolved on the first row.
+  private int rows = 0;      // Rows in the current group.
+  private long totalRows = 0;
+
+  // Growable byte store for one string column of a row group.
+  private final static class StringColumn {
+    final int[] offsets = new int[ROW_GROUP + 1];
+    byte[] bytes = new byte[ROW_GROUP * 16];
+    int length = 0;
+
+    void add( final int row, final String value ) {
+      if ( value != null ) {
+        for ( int i = 0, n = value.length(); i < n; i++ ) {
+          char c = value.charAt( i );
+          if ( c >= 0x80 ) {
+            append( value.substring( i ).getBytes( StandardCharsets.UTF_8 ) );
+            break;
+          }
+          if ( length == bytes.length )
+            bytes = Arrays.copyOf( bytes, bytes.length * 2 );
+          bytes[length++] = (byte) c;
+        }
+      }
+      offsets[row + 1] = length;
+    }
+
+    private void append( final byte[] utf8 ) {
+      if ( length + utf8.length > bytes.length )
+        bytes = Arrays.copyOf( bytes, Math.max( bytes.length * 2, length + utf8.length ) );
+      System.arraycopy( utf8, 0, bytes, length, utf8.length );
+      length += utf8.length;
+    }
+  }
+
+  // Constructor, writes the file header.
+  public EmployeeColumnarWriter( final Path path ) throws IOException {
+    for ( int i = 0; i < TYPES.length; i++ ) {
+      if ( TYPES[i] == INT32 )
+        ints[i] = new int[ROW_GROUP];
+      else if ( TYPES[i] == UTF8 )
+        strings[i] = new StringColumn();
+    }
+    out = new ChannelOutput( path );
+    out.putByte( 'E' );
+    out.putByte( 'M' );
+    out.putByte( 'P' );
+    out.putByte( 'C' );
+    out.putInt( VERSION );
+    out.putInt( TYPES.length );
+    for ( int i = 0; i < TYPES.length; i++ ) {
+      byte[] name = EmployeeCsvWriter.COLUMNS[i].getBytes( StandardCharsets.UTF_8 );
+      out.putByte( TYPES[i] );
+      out.putShort( name.length );
+      out.putBytes( name, 0, name.length );
+    }
+  }
+
+  @Override
+  public void write( final ResultSet resultSet ) throws SQLException, IOException {
+    if ( indexes == null )
+      indexes = EmployeeCsvWriter.findColumns( resultSet );
+    for ( int i = 0; i < TYPES.length; i++ ) {
+      if ( TYPES[i] == INT32 )
+        ints[i][rows] = resultSet.getInt( indexes[i] );
+      else if ( TYPES[i] == UTF8 )
+        strings[i].add( rows, resultSet.getString( indexes[i] ) );
+    }
+    cents[rows] = Math.round( resultSet.getDouble( indexes[PAY] ) * 100.0 );
+    if ( ++rows == ROW_GROUP )
+      writeRowGroup();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      if ( rows > 0 )
+        writeRowGroup();
+      out.putInt( 0 ); // End of row groups.
+      out.putLong( totalRows );
+    } finally {
+      out.close();
+    }
+  }
+
+  public long getRowCount() { return totalRows + rows; }
+
+  // Write the buffered group one column after another.
+  private void writeRowGroup() throws IOException {
+    out.putInt( rows );
+    for ( int i = 0; i < TYPES.length; i++ ) {
+      if ( TYPES[i] == INT32 ) {
+        for ( int r = 0; r < rows; r++ )
+          out.putInt( ints[i][r] );
+      } else if ( TYPES[i] == INT64 ) {
+        for ( int r = 0; r < rows; r++ )
+          out.putLong( cents[r] );
+      } else {
+        StringColumn column = strings[i];
+        out.putInt( column.length );
+        for ( int r = 0; r <= rows; r++ )
+          out.putInt( column.offsets[r] );
+        out.putBytes( column.bytes, 0, column.length );
+        column.length = 0;
+      }
+    }
+    totalRows += rows;
+    rows = 0;
+  }
+
+}
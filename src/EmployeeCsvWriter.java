@@ -0,0 +1,96 @@
+/*************************************************************************
+ * Title: Employee CSV Writer
+ * File: EmployeeCsvWriter.java
+ * Date: 10/18/2026
+ *
+ * Writes streamed employee rows as RFC 4180 CSV with a header line.
+ * Fields holding a comma, quote or line break are quoted. Pay is copied
+ * exactly as the database formats it. For further information, see:
+ *   EmployeeExport.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class EmployeeCsvWriter implements EmployeeRowWriter {
+  // Exported columns, in file order.
+  final static String[] COLUMNS = {
+    "employee_id", "last_name", "first_name", "job_type_code", "department_code",
+    "email_address", "telephone", "pay", "pay_freq_code"
+  };
+  // Integer columns are written digit by digit, the rest (pay included, to keep its exact decimal) as text.
+  private final static boolean[] INTEGER = { true, false, false, true, true, false, false, false, true };
+
+  private final ChannelOutput out;
+  private int[] indexes;   // Column positions, resolved on the first row.
+
+  // Constructor.
+  public EmployeeCsvWriter( final Path path ) throws IOException {
+    out = new ChannelOutput( path );
+    for ( int i = 0; i < COLUMNS.length; i++ ) {
+      if ( i > 0 )
+        out.putByte( ',' );
+      out.putText( COLUMNS[i] );
+    }
+    out.putByte( '\n' );
+  }
+
+  @Override
+  public void write( final ResultSet resultSet ) throws SQLException, IOException {
+    if ( indexes == null )
+      indexes = findColumns( resultSet );
+    for ( int i = 0; i < COLUMNS.length; i++ ) {
+      if ( i > 0 )
+        out.putByte( ',' );
+      if ( INTEGER[i] ) {
+        long value = resultSet.getLong( indexes[i] );
+        if ( !resultSet.wasNull() )
+          out.putDecimal( value );
+      } else {
+        putField( resultSet.getString( indexes[i] ) );
+      }
+    }
+    out.putByte( '\n' );
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+
+  static int[] findColumns( final ResultSet resultSet ) throws SQLException {
+    int[] indexes = new int[COLUMNS.length];
+    for ( int i = 0; i < COLUMNS.length; i++ )
+      indexes[i] = resultSet.findColumn( COLUMNS[i] );
+    return indexes;
+  }
+
+  // Quote only when the value needs it.
+  private void putField( final String value ) throws IOException {
+    if ( value == null )
+      return;
+    boolean quote = false;
+    for ( int i = 0, n = value.length(); i < n && !quote; i++ ) {
+      char c = value.charAt( i );
+      quote = ( c == ',' || c == '"' || c == '\n' || c == '\r' );
+    }
+    if ( !quote ) {
+      out.putText( value );
+      return;
+    }
+    out.putByte( '"' );
+    int start = 0;
+    for ( int i = value.indexOf( '"' ); i >= 0; i = value.indexOf( '"', start ) ) {
+      out.putText( value.subSequence( start, i + 1 ) );
+      out.putByte( '"' ); // Double embedded quotes.
+      start = i + 1;
+    }
+    out.putText( value.subSequence( start, value.length() ) );
+    out.putByte( '"' );
+  }
+
+}
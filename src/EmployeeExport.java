@@ -0,0 +1,77 @@
+/*************************************************************************
+ * Title: Employee Export
+ * File: EmployeeExport.java
+ * Date: 10/18/2026
+ *
+ * Headless export of employee rows to CSV or to the columnar binary
+ * format, streamed straight from the database so memory use does not
+ * grow with the table. For further information, see:
+ *   EmployeeCsvWriter.java
+ *   EmployeeColumnarWriter.java
+ *
+ * Usage:
+ *   java -cp ... EmployeeExport --user id [--password pw] [--url url]
+ *        (--dept n | --all) [--format csv|columnar] --out file
+ * The password may also be supplied in EMPLOYEE_DB_PASSWORD.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class EmployeeExport {
+  private final static String DEFAULT_URL = "jdbc:mysql://localhost:3306/employeedb?useServerPrepStmts=true";
+
+  public static void main( String[] args ) {
+    String url = DEFAULT_URL, user = null, password = System.getenv( "EMPLOYEE_DB_PASSWORD" );
+    String format = "csv", out = null;
+    int department = Integer.MIN_VALUE;
+
+    try {
+      for ( int i = 0; i < args.length; i++ ) {
+        switch ( args[i] ) {
+          case "--url":      url = args[++i]; break;
+          case "--user":     user = args[++i]; break;
+          case "--password": password = args[++i]; break;
+          case "--dept":     department = Integer.parseInt( args[++i] ); break;
+          case "--all":      department = -1; break;
+          case "--format":   format = args[++i]; break;
+          case "--out":      out = args[++i]; break;
+          default:           throw new IllegalArgumentException( "Unknown option " + args[i] );
+        }
+      }
+      if ( user == null || out == null || department == Integer.MIN_VALUE )
+        throw new IllegalArgumentException( "--user, --out and --dept or --all are required." );
+      if ( !format.equals( "csv" ) && !format.equals( "columnar" ) )
+        throw new IllegalArgumentException( "Unknown format " + format );
+    } catch ( RuntimeException ex ) {
+      System.err.println( ex.getMessage() );
+      System.err.println( "Usage: EmployeeExport --user id [--password pw] [--url url] (--dept n | --all) [--format csv|columnar] --out file" );
+      System.exit( 2 );
+    }
+
+    if ( !EmployeeTableViewUtility.openDB( url, user, password == null ? "" : password ) ) {
+      System.err.println( "Unable to connect to " + url );
+      System.exit( 1 );
+    }
+    int status = 0;
+    try {
+      Path path = Paths.get( out );
+      long start = System.nanoTime();
+      long rows;
+      try ( EmployeeRowWriter writer = format.equals( "csv" ) ? new EmployeeCsvWriter( path ) : new EmployeeColumnarWriter( path ) ) {
+        rows = EmployeeTableViewUtility.streamEmployees( department, writer );
+      }
+      double seconds = ( System.nanoTime() - start ) / 1e9;
+      System.err.printf( "Exported %d rows to %s in %.3f s (%.0f rows/s)%n", rows, out, seconds, rows / Math.max( seconds, 1e-9 ) );
+    } catch ( Exception ex ) {
+      System.err.println( "Export failed: " + ex );
+      status = 1;
+    } finally {
+      EmployeeTableViewUtility.closeDB();
+    }
+    System.exit( status );
+  }
+
+}
@@ -0,0 +1,420 @@
+/*************************************************************************
+ * Title: Employee Import
+ * File: EmployeeImport.java
+ * Date: 10/18/2026
+ *
+ * Headless bulk import of employees from CSV, for onboarding a whole
+ * company at once. The file is read on one thread and cut into chunks
+ * of records; chunks are parsed and validated (department, job type and
+ * pay frequency codes against the code tables) on several threads, and
+ * the valid rows are inserted through batched sp_add_employee calls by
+ * one or more writers, each committing every --commit rows. Bounded
+ * queues between the stages hold the reader back when parsing or the
+ * database falls behind, so memory use does not grow with the file.
+ * Rows are inserted in no particular order. Invalid rows are reported
+ * and skipped; a database error stops the import, leaving the rows
+ * committed so far. For further information, see:
+ *   migrations/V003__add_employee_procedure.sql
+ *   EmployeeExport.java
+ *
+ * The file needs a header line naming its columns: last_name,
+ * first_name, job_type_code, department_code, pay and pay_freq_code,
+ * optionally email_address and telephone, in any order (other columns,
+ * such as an exported employee_id, are ignored). Files written by
+ * EmployeeExport import as they are.
+ *
+ * Usage:
+ *   java -cp ... EmployeeImport --user id [--password pw] [--url url]
+ *        --in file [--threads n] [--writers n] [--batch n] [--commit n]
+ *        [--max-errors n]
+ * The password may also be supplied in EMPLOYEE_DB_PASSWORD.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: A writer that fails on any exception stops the import.
+ *************************************************************************/
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class EmployeeImport {
+  private final static String DEFAULT_URL = "jdbc:mysql://localhost:3306/employeedb?useServerPrepStmts=true";
+  private final static int CHUNK_SIZE = 1000;              // Records handed to a parser at a time.
+  private final static long PROGRESS_INTERVAL = 5000L;     // Milliseconds between progress lines.
+  private final static List<EmployeeImportRow> END = Collections.emptyList(); // Tells a writer to finish.
+
+  private final ReferenceData codes;
+  private final int threads;
+  private final int writers;
+  private final int batchSize;
+  private final int commitSize;
+  private final long maximumErrors;
+  private final BlockingQueue<List<EmployeeImportRow>> parsed;
+  private final AtomicLong imported = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicReference<Exception> failure = new AtomicReference<>();
+  private int[] columns;   // Input positions of the required and optional columns.
+
+  // Input columns, in the order the parser reads them.
+  private final static String[] NAMES = {
+    "last_name", "first_name", "job_type_code", "department_code", "pay", "pay_freq_code", "email_address", "telephone"
+  };
+  private final static int REQUIRED = 6;   // The first six names must be present.
+
+  // Constructor.
+  public EmployeeImport( final ReferenceData codes, final int threads, final int writers,
+                         final int batchSize, final int commitSize, final long maximumErrors ) {
+    this.codes = codes;
+    this.threads = threads;
+    this.writers = writers;
+    this.batchSize = batchSize;
+    this.commitSize = commitSize;
+    this.maximumErrors = maximumErrors;
+    parsed = new ArrayBlockingQueue<>( writers * 4 );
+  }
+
+  public static void main( String[] args ) {
+    String url = DEFAULT_URL, user = null, password = System.getenv( "EMPLOYEE_DB_PASSWORD" ), in = null;
+    int threads = Math.max( 1, Runtime.getRuntime().availableProcessors() - 1 );
+    int writers = 2, batch = 500, commit = 5000;
+    long maximumErrors = 100;
+
+    try {
+      for ( int i = 0; i < args.length; i++ ) {
+        switch ( args[i] ) {
+          case "--url":        url = args[++i]; break;
+          case "--user":       user = args[++i]; break;
+          case "--password":   password = args[++i]; break;
+          case "--in":         in = args[++i]; break;
+          case "--threads":    threads = Integer.parseInt( args[++i] ); break;
+          case "--writers":    writers = Integer.parseInt( args[++i] ); break;
+          case "--batch":      batch = Integer.parseInt( args[++i] ); break;
+          case "--commit":     commit = Integer.parseInt( args[++i] ); break;
+          case "--max-errors": maximumErrors = Long.parseLong( args[++i] ); break;
+          default:             throw new IllegalArgumentException( "Unknown option " + args[i] );
+        }
+      }
+      if ( user == null || in == null )
+        throw new IllegalArgumentException( "--user and --in are required." );
+      if ( threads < 1 || writers < 1 || batch < 1 || commit < 1 )
+        throw new IllegalArgumentException( "--threads, --writers, --batch and --commit must be positive." );
+      if ( writers > ConnectionPool.DEFAULT_MAXIMUM_SIZE )
+        throw new IllegalArgumentException( "--writers may be at most the pool size, " + ConnectionPool.DEFAULT_MAXIMUM_SIZE + "." );
+    } catch ( RuntimeException ex ) {
+      System.err.println( ex.getMessage() );
+      System.err.println( "Usage: EmployeeImport --user id [--password pw] [--url url] --in file [--threads n] [--writers n] [--batch n] [--commit n] [--max-errors n]" );
+      System.exit( 2 );
+    }
+
+    if ( !EmployeeTableViewUtility.openDB( url, user, password == null ? "" : password ) ) {
+      System.err.println( "Unable to connect to " + url );
+      System.exit( 1 );
+    }
+    int status = 0;
+    try {
+      if ( !EmployeeTableViewUtility.loadReferenceData() )
+        throw new SQLException( "Cannot read departments, job types or pay frequencies." );
+      EmployeeImport importer = new EmployeeImport( EmployeeTableViewUtility.getReferenceData(), threads, writers, batch, commit, maximumErrors );
+      if ( !importer.run( Paths.get( in ) ) )
+        status = 1;
+    } catch ( Exception ex ) {
+      System.err.println( "Import failed: " + ex );
+      status = 1;
+    } finally {
+      EmployeeTableViewUtility.closeDB();
+    }
+    System.exit( status );
+  }
+
+  /***************************************************************
+   * Import a file, reporting progress and the final rate on
+   * standard error. Returns false if the import stopped early.
+   **************************************************************/
+  public boolean run( final Path path ) throws IOException, InterruptedException {
+    final long start = System.nanoTime();
+    // Full parser queue runs the next chunk on the reader, which stops reading meanwhile.
+    ThreadPoolExecutor parsers = new ThreadPoolExecutor( threads, threads, 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>( threads * 2 ), daemon( "employee-import-parser" ), new ThreadPoolExecutor.CallerRunsPolicy() );
+    List<Thread> writerThreads = new ArrayList<>();
+    for ( int i = 1; i <= writers; i++ ) {
+      Thread writer = new Thread( this::write, "employee-import-writer-" + i );
+      writer.setDaemon( true );
+      writer.start();
+      writerThreads.add( writer );
+    }
+    ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor( daemon( "employee-import-progress" ) );
+    progress.scheduleAtFixedRate( () -> report( "Imported", start ), PROGRESS_INTERVAL, PROGRESS_INTERVAL, TimeUnit.MILLISECONDS );
+
+    long records = 0;
+    try ( BufferedReader reader = Files.newBufferedReader( path, StandardCharsets.UTF_8 ) ) {
+      long[] line = { 0, 0 };
+      String header = readRecord( reader, line );
+      if ( header == null )
+        throw new IOException( path + " is empty." );
+      columns = findColumns( fields( header ) );
+
+      List<String> chunk = new ArrayList<>( CHUNK_SIZE );
+      long[] lines = new long[CHUNK_SIZE];
+      String record;
+      while ( failure.get() == null && ( record = readRecord( reader, line ) ) != null ) {
+        if ( record.isEmpty() )
+          continue;
+        lines[chunk.size()] = line[1];
+        chunk.add( record );
+        records++;
+        if ( chunk.size() == CHUNK_SIZE ) {
+          submit( parsers, chunk, lines );
+          chunk = new ArrayList<>( CHUNK_SIZE );
+          lines = new long[CHUNK_SIZE];
+        }
+      }
+      if ( !chunk.isEmpty() )
+        submit( parsers, chunk, lines );
+    } finally {
+      parsers.shutdown();
+      parsers.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+      for ( int i = 0; i < writers; i++ )
+        hand( END );
+      for ( Thread writer : writerThreads )
+        writer.join();
+      progress.shutdownNow();
+    }
+
+    report( "Imported", start );
+    System.err.printf( "Read %d rows, rejected %d.%n", records, rejected.get() );
+    if ( failure.get() != null ) {
+      System.err.println( "Import stopped: " + failure.get().getMessage() );
+      return false;
+    }
+    return true;
+  }
+
+  private void submit( final ThreadPoolExecutor parsers, final List<String> chunk, final long[] lines ) {
+    parsers.execute( () -> {
+      List<EmployeeImportRow> rows = new ArrayList<>( chunk.size() );
+      for ( int i = 0; i < chunk.size() && failure.get() == null; i++ ) {
+        try {
+          rows.add( parse( fields( chunk.get( i ) ), lines[i] ) );
+        } catch ( IllegalArgumentException ex ) {
+          System.err.println( "Line " + lines[i] + ": " + ex.getMessage() );
+          if ( rejected.incrementAndGet() > maximumErrors )
+            failure.compareAndSet( null, new IllegalStateException( "More than " + maximumErrors + " invalid rows." ) );
+        }
+      }
+      if ( !rows.isEmpty() )
+        hand( rows );
+    } );
+  }
+
+  // Queue rows for the writers, waiting while they are behind.
+  private void hand( final List<EmployeeImportRow> rows ) {
+    try {
+      while ( !parsed.offer( rows, 100, TimeUnit.MILLISECONDS ) )
+        if ( failure.get() != null && rows != END )
+          return; // Writers have stopped, drop the rows.
+    } catch ( InterruptedException ex ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // Writer thread, commits every commitSize rows.
+  private void write() {
+    List<EmployeeImportRow> pending = new ArrayList<>( commitSize );
+    try {
+      List<EmployeeImportRow> rows;
+      while ( ( rows = parsed.take() ) != END ) {
+        if ( failure.get() != null )
+          continue; // Drain until told to finish.
+        for ( EmployeeImportRow row : rows ) {
+          pending.add( row );
+          if ( pending.size() == commitSize ) {
+            imported.addAndGet( EmployeeTableViewUtility.addEmployees( pending, batchSize ) );
+            pending = new ArrayList<>( commitSize );
+          }
+        }
+      }
+      if ( !pending.isEmpty() && failure.get() == null )
+        imported.addAndGet( EmployeeTableViewUtility.addEmployees( pending, batchSize ) );
+    } catch ( SQLException | RuntimeException ex ) {
+      // Recorded whatever it was, or parsers would wait forever in hand() on a writer that is gone.
+      failure.compareAndSet( null, ex );
+      // Keep taking until told to finish, so nothing waits on this writer.
+      try {
+        while ( parsed.take() != END )
+          ;
+      } catch ( InterruptedException ie ) {
+        Thread.currentThread().interrupt();
+      }
+    } catch ( InterruptedException ex ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void report( final String what, final long start ) {
+    double seconds = ( System.nanoTime() - start ) / 1e9;
+    long rows = imported.get();
+    System.err.printf( "%s %d rows in %.3f s (%.0f rows/s)%n", what, rows, seconds, rows / Math.max( seconds, 1e-9 ) );
+  }
+
+  /***************************************************************
+   * Validate one record, throwing IllegalArgumentException with
+   * the reason when it can't be imported.
+   **************************************************************/
+  private EmployeeImportRow parse( final List<String> fields, final long line ) {
+    String lastName = text( fields, 0, 20, true );
+    String firstName = text( fields, 1, 12, true );
+    int jobCode = code( fields, 2 );
+    if ( !codes.isJobCode( jobCode ) )
+      throw new IllegalArgumentException( "unknown job type code " + jobCode );
+    int departmentCode = code( fields, 3 );
+    if ( !codes.isDepartment( departmentCode ) )
+      throw new IllegalArgumentException( "unknown department code " + departmentCode );
+    long payCents = cents( fields, 4 );
+    int payCode = code( fields, 5 );
+    if ( !codes.isPayFrequency( payCode ) )
+      throw new IllegalArgumentException( "unknown pay frequency code " + payCode );
+    String email = text( fields, 6, 32, false );
+    String telephone = text( fields, 7, 15, false );
+    return new EmployeeImportRow( line, lastName, firstName, jobCode, departmentCode, email, telephone, payCents, payCode );
+  }
+
+  private String field( final List<String> fields, final int column ) {
+    int index = columns[column];
+    if ( index < 0 )
+      return "";
+    if ( index >= fields.size() )
+      throw new IllegalArgumentException( "missing " + NAMES[column] );
+    return fields.get( index ).trim();
+  }
+
+  private String text( final List<String> fields, final int column, final int maximumLength, final boolean required ) {
+    String value = field( fields, column );
+    if ( value.isEmpty() ) {
+      if ( required )
+        throw new IllegalArgumentException( "missing " + NAMES[column] );
+      return null;
+    }
+    if ( value.length() > maximumLength )
+      throw new IllegalArgumentException( NAMES[column] + " longer than " + maximumLength + " characters" );
+    return value;
+  }
+
+  private int code( final List<String> fields, final int column ) {
+    String value = field( fields, column );
+    try {
+      return Integer.parseInt( value );
+    } catch ( NumberFormatException ex ) {
+      throw new IllegalArgumentException( "bad " + NAMES[column] + " '" + value + "'" );
+    }
+  }
+
+  // NUMERIC(12,2) pay as cents.
+  private long cents( final List<String> fields, final int column ) {
+    String value = field( fields, column );
+    try {
+      BigDecimal pay = new BigDecimal( value ).setScale( 2 );
+      if ( pay.signum() < 0 || pay.precision() > 12 )
+        throw new IllegalArgumentException( "pay out of range '" + value + "'" );
+      return pay.unscaledValue().longValueExact();
+    } catch ( NumberFormatException | ArithmeticException ex ) {
+      throw new IllegalArgumentException( "bad pay '" + value + "'" );
+    }
+  }
+
+  // Positions of the known columns in the header, -1 for absent optional ones.
+  private static int[] findColumns( final List<String> header ) throws IOException {
+    int[] found = new int[NAMES.length];
+    for ( int i = 0; i < NAMES.length; i++ ) {
+      found[i] = -1;
+      for ( int j = 0; j < header.size(); j++ )
+        if ( header.get( j ).trim().equalsIgnoreCase( NAMES[i] ) )
+          found[i] = j;
+      if ( found[i] < 0 && i < REQUIRED )
+        throw new IOException( "Header has no " + NAMES[i] + " column." );
+    }
+    return found;
+  }
+
+  /***************************************************************
+   * Next CSV record, joining lines while a quoted field is open.
+   * line[0] counts the lines read, line[1] is set to the record's
+   * first line.
+   **************************************************************/
+  private static String readRecord( final BufferedReader reader, final long[] line ) throws IOException {
+    String text = reader.readLine();
+    if ( text == null )
+      return null;
+    line[1] = ++line[0];
+    int quotes = count( text );
+    if ( quotes % 2 == 0 )
+      return text;
+    StringBuilder sb = new StringBuilder( text );
+    String next;
+    while ( quotes % 2 != 0 && ( next = reader.readLine() ) != null ) {
+      line[0]++;
+      sb.append( '\n' ).append( next );
+      quotes += count( next );
+    }
+    return sb.toString();
+  }
+
+  private static int count( final String text ) {
+    int quotes = 0;
+    for ( int i = text.indexOf( '"' ); i >= 0; i = text.indexOf( '"', i + 1 ) )
+      quotes++;
+    return quotes;
+  }
+
+  // Split an RFC 4180 record.
+  static List<String> fields( final String record ) {
+    List<String> fields = new ArrayList<>( NAMES.length + 1 );
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for ( int i = 0; i < record.length(); i++ ) {
+      char c = record.charAt( i );
+      if ( quoted ) {
+        if ( c != '"' )
+          field.append( c );
+        else if ( i + 1 < record.length() && record.charAt( i + 1 ) == '"' )
+          field.append( record.charAt( ++i ) );
+        else
+          quoted = false;
+      } else if ( c == '"' ) {
+        quoted = true;
+      } else if ( c == ',' ) {
+        fields.add( field.toString() );
+        field.setLength( 0 );
+      } else if ( c != '\r' ) {
+        field.append( c );
+      }
+    }
+    fields.add( field.toString() );
+    return fields;
+  }
+
+  private static ThreadFactory daemon( final String name ) {
+    return r -> {
+      Thread t = new Thread( r, name );
+      t.setDaemon( true );
+      return t;
+    };
+  }
+
+}
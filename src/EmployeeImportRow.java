@@ -0,0 +1,59 @@
+/*************************************************************************
+ * Title: Employee Import Row
+ * File: EmployeeImportRow.java
+ * Date: 10/18/2026
+ *
+ * One validated employee to be inserted by sp_add_employee, with the
+ * input line it came from for error reports. For further information,
+ * see:
+ *   EmployeeImport.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+public final class EmployeeImportRow {
+  private final long line;
+  private final String lastName;
+  private final String firstName;
+  private final int jobCode;
+  private final int departmentCode;
+  private final String email;
+  private final String telephone;
+  private final long payCents;
+  private final int payCode;
+
+  // Constructor.
+  public EmployeeImportRow(
+    final long line,
+    final String lastName,
+    final String firstName,
+    final int jobCode,
+    final int departmentCode,
+    final String email,
+    final String telephone,
+    final long payCents,
+    final int payCode
+  ) {
+    this.line = line;
+    this.lastName = lastName;
+    this.firstName = firstName;
+    this.jobCode = jobCode;
+    this.departmentCode = departmentCode;
+    this.email = email;
+    this.telephone = telephone;
+    this.payCents = payCents;
+    this.payCode = payCode;
+  }
+
+  // Getters.
+  public long getLine() { return line; }
+  public String getLastName() { return lastName; }
+  public String getFirstName() { return firstName; }
+  public int getJobCode() { return jobCode; }
+  public int getDepartmentCode() { return departmentCode; }
+  public String getEmail() { return email; }
+  public String getTelephone() { return telephone; }
+  public long getPayCents() { return payCents; }
+  public int getPayCode() { return payCode; }
+
+}
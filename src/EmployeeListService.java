@@ -0,0 +1,61 @@
+/*************************************************************************
+ * Title: Employee List Service
+ * File: EmployeeListService.java
+ * Date: 10/18/2026
+ *
+ * JavaFX service that loads the employees of one department on a
+ * background thread. Calling restart() while a load is still running
+ * cancels it, so a stale department can never overwrite a newer one.
+ * For further information, see:
+ *   EmployeeTableView.java
+ *   EmployeeTableViewUtility.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: A department that can't be read fails the task.
+ *************************************************************************/
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ObservableList;
+import javafx.concurrent.Service;
+import javafx.concurrent.Task;
+
+public class EmployeeListService extends Service<ObservableList<Employee>> {
+  // Shared daemon threads so pending loads never keep the JVM alive.
+  private final static ExecutorService EXECUTOR = Executors.newCachedThreadPool( r -> {
+    Thread t = new Thread( r, "employee-list-loader" );
+    t.setDaemon( true );
+    return t;
+  } );
+  private final IntegerProperty department = new SimpleIntegerProperty( this, "department" );
+
+  // Constructor.
+  public EmployeeListService() {
+    setExecutor( EXECUTOR );
+  }
+
+  // department Property
+  public final int getDepartment() { return department.get(); }
+  public final void setDepartment( final int dept ) { department.set( dept ); }
+  public final IntegerProperty departmentProperty() { return department; }
+
+  /***************************************************************
+   * Create the background task. Department is captured here, on
+   * the FX thread, so later changes don't affect a running load.
+   **************************************************************/
+  @Override
+  protected Task<ObservableList<Employee>> createTask() {
+    final int dept = getDepartment();
+    return new Task<ObservableList<Employee>>() {
+      @Override
+      protected ObservableList<Employee> call() throws SQLException {
+        return EmployeeTableViewUtility.EmployeeGetList( dept );
+      }
+    };
+  }
+
+}
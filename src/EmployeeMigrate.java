@@ -0,0 +1,87 @@
+/*************************************************************************
+ * Title: Employee Migrate
+ * File: EmployeeMigrate.java
+ * Date: 10/18/2026
+ *
+ * Headless schema migration: applies the scripts in the migrations
+ * directory that the database hasn't had yet, then checks through
+ * EXPLAIN that the stored procedures the application calls use an
+ * index. Exits with status 1 if a script fails or a plan doesn't use
+ * an index. For further information, see:
+ *   SchemaMigrations.java
+ *   QueryPlanCheck.java
+ *
+ * A database migrated by hand before this tool existed is recorded at
+ * --baseline, the newest script already applied (default 1, the
+ * original create script). --check skips the migration and only
+ * checks the plans.
+ *
+ * Usage:
+ *   java -cp ... EmployeeMigrate --user id [--password pw] [--url url]
+ *        [--dir directory] [--baseline n] [--check]
+ * The password may also be supplied in EMPLOYEE_DB_PASSWORD.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.nio.file.Paths;
+import java.util.List;
+
+public class EmployeeMigrate {
+  private final static String DEFAULT_URL = "jdbc:mysql://localhost:3306/employeedb?useServerPrepStmts=true";
+
+  public static void main( String[] args ) {
+    String url = DEFAULT_URL, user = null, password = System.getenv( "EMPLOYEE_DB_PASSWORD" ), dir = "src/migrations";
+    int baseline = SchemaMigrations.BASELINE;
+    boolean checkOnly = false;
+
+    try {
+      for ( int i = 0; i < args.length; i++ ) {
+        switch ( args[i] ) {
+          case "--url":      url = args[++i]; break;
+          case "--user":     user = args[++i]; break;
+          case "--password": password = args[++i]; break;
+          case "--dir":      dir = args[++i]; break;
+          case "--baseline": baseline = Integer.parseInt( args[++i] ); break;
+          case "--check":    checkOnly = true; break;
+          default:           throw new IllegalArgumentException( "Unknown option " + args[i] );
+        }
+      }
+      if ( user == null )
+        throw new IllegalArgumentException( "--user is required." );
+      if ( baseline < 1 )
+        throw new IllegalArgumentException( "--baseline must be positive." );
+    } catch ( RuntimeException ex ) {
+      System.err.println( ex.getMessage() );
+      System.err.println( "Usage: EmployeeMigrate --user id [--password pw] [--url url] [--dir directory] [--baseline n] [--check]" );
+      System.exit( 2 );
+    }
+
+    if ( !EmployeeTableViewUtility.openDB( url, user, password == null ? "" : password ) ) {
+      System.err.println( "Unable to connect to " + url );
+      System.exit( 1 );
+    }
+    int status = 0;
+    try {
+      if ( !checkOnly ) {
+        List<SchemaMigrations.Script> applied = EmployeeTableViewUtility.migrateSchema( Paths.get( dir ), baseline );
+        for ( SchemaMigrations.Script script : applied )
+          System.err.println( "Applied " + script );
+        if ( applied.isEmpty() )
+          System.err.println( "Schema is up to date." );
+      }
+      List<String> problems = EmployeeTableViewUtility.checkQueryPlans();
+      for ( String problem : problems )
+        System.err.println( "Query plan: " + problem );
+      if ( !problems.isEmpty() )
+        status = 1;
+    } catch ( Exception ex ) {
+      System.err.println( "Migration failed: " + ex.getMessage() );
+      status = 1;
+    } finally {
+      EmployeeTableViewUtility.closeDB();
+    }
+    System.exit( status );
+  }
+
+}
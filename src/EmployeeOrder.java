@@ -0,0 +1,75 @@
+/*************************************************************************
+ * Title: Employee Order
+ * File: EmployeeOrder.java
+ * Date: 10/18/2026
+ *
+ * Sort order of an employee query, built from a TableView's sort
+ * columns. Only columns tagged with a Key (see the column factories in
+ * EmployeeTableViewUtility) take part, and only the Key's own column
+ * name reaches the SQL, so a header click can never inject text into
+ * the ORDER BY clause. Employee id breaks ties, so every window of a
+ * sorted query is stable. For further information, see:
+ *   EmployeeWindowList.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.List;
+
+import javafx.scene.control.TableColumn;
+
+public final class EmployeeOrder {
+  // Server-sortable columns, each a typed column of the employee table.
+  public enum Key {
+    ID( "employee_id" ),
+    LAST_NAME( "last_name" ),
+    PAY( "pay" );
+
+    private final String column;
+
+    Key( final String column ) {
+      this.column = column;
+    }
+  }
+
+  public final static EmployeeOrder BY_ID = new EmployeeOrder( "employee_id" );
+
+  private final String sql;
+
+  private EmployeeOrder( final String sql ) {
+    this.sql = sql;
+  }
+
+  /***************************************************************
+   * Order of the table's sort columns, by id when none apply.
+   **************************************************************/
+  public static EmployeeOrder of( final List<? extends TableColumn<Employee, ?>> sortOrder ) {
+    StringBuilder sb = new StringBuilder();
+    boolean byId = false;
+    boolean descending = false;
+    for ( TableColumn<Employee, ?> column : sortOrder ) {
+      if ( !( column.getUserData() instanceof Key ) )
+        continue;
+      Key key = (Key) column.getUserData();
+      descending = column.getSortType() == TableColumn.SortType.DESCENDING;
+      if ( sb.length() > 0 )
+        sb.append( ", " );
+      sb.append( key.column ).append( descending ? " desc" : "" );
+      byId |= key == Key.ID;
+    }
+    if ( sb.length() == 0 )
+      return BY_ID;
+    // Ties follow the last sort column's direction.
+    if ( !byId )
+      sb.append( ", employee_id" ).append( descending ? " desc" : "" );
+    return new EmployeeOrder( sb.toString() );
+  }
+
+  // ORDER BY clause body, made only of whitelisted column names.
+  public String toSql() { return sql; }
+
+  @Override public boolean equals( final Object o ) { return o instanceof EmployeeOrder && ( (EmployeeOrder) o ).sql.equals( sql ); }
+  @Override public int hashCode() { return sql.hashCode(); }
+  @Override public String toString() { return sql; }
+
+}
@@ -0,0 +1,134 @@
+/*************************************************************************
+ * Title: Employee Page Loader
+ * File: EmployeePageLoader.java
+ * Date: 10/18/2026
+ *
+ * Streams a department into a TableView one keyset page at a time. The
+ * first page is shown as soon as it arrives, further pages are fetched
+ * as the user scrolls near the bottom of the table. For further
+ * information, see:
+ *   EmployeeTableView.java
+ *   EmployeeTableViewUtility.java
+ *
+ * Page size may be overridden with the system property
+ * employee.pageSize.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: A failed page query fails the task.
+ *************************************************************************/
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TableView;
+
+public class EmployeePageLoader {
+  public final static int PAGE_SIZE = Integer.getInteger( "employee.pageSize", 500 );
+  private final static double PREFETCH_THRESHOLD = 0.9; // Fraction of scroll range that triggers next page.
+  // Pages of one department must arrive in order, so one thread is enough.
+  private final static ExecutorService EXECUTOR = Executors.newSingleThreadExecutor( r -> {
+    Thread t = new Thread( r, "employee-page-loader" );
+    t.setDaemon( true );
+    return t;
+  } );
+
+  private final TableView<Employee> table;
+  private ScrollBar scrollBar;                // Table's vertical scroll bar, once skinned.
+  private Task<List<Employee>> pending;       // Page currently being fetched.
+  private int department;
+  private int lastId;                         // Keyset, highest employee id shown.
+  private boolean exhausted = true;
+
+  // Constructor.
+  public EmployeePageLoader( final TableView<Employee> table ) {
+    this.table = table;
+    // Scroll bar only exists once the table has a skin.
+    table.skinProperty().addListener( ( obs, oldSkin, newSkin ) -> {
+      if ( newSkin != null )
+        Platform.runLater( this::attachScrollBar );
+    } );
+  }
+
+  /***************************************************************
+   * Clear the table and start streaming a department. Any page
+   * still being fetched for a previous department is discarded.
+   **************************************************************/
+  public void start( final int departmentNumber ) {
+    cancel();
+    department = departmentNumber;
+    lastId = 0;
+    exhausted = false;
+    table.getItems().clear();
+    loadNextPage();
+  }
+
+  public void cancel() {
+    if ( pending != null ) {
+      pending.cancel();
+      pending = null;
+    }
+    exhausted = true;
+  }
+
+  /***************************************************************
+   * Fetch the next page, unless one is already on its way.
+   **************************************************************/
+  public void loadNextPage() {
+    if ( pending != null || exhausted )
+      return;
+    final int dept = department, after = lastId;
+    final Task<List<Employee>> task = new Task<List<Employee>>() {
+      @Override
+      protected List<Employee> call() throws SQLException {
+        return EmployeeTableViewUtility.EmployeeGetPage( dept, after, PAGE_SIZE );
+      }
+    };
+    task.setOnSucceeded( e -> {
+      if ( task != pending )
+        return; // Stale, a newer department was selected.
+      pending = null;
+      List<Employee> page = task.getValue();
+      exhausted = page.size() < PAGE_SIZE;
+      if ( !page.isEmpty() )
+        lastId = page.get( page.size() - 1 ).getEmployeeId();
+      table.getItems().addAll( page );
+      if ( table.getItems().isEmpty() )
+        table.setPlaceholder( new Label( "No employees in this department." ) );
+      // Keep going until the table can actually scroll.
+      if ( scrollBar != null && !scrollBar.isVisible() )
+        Platform.runLater( this::loadNextPage );
+    } );
+    task.setOnFailed( e -> {
+      if ( task == pending ) {
+        pending = null;
+        exhausted = true;
+        table.setPlaceholder( new Label( "Unable to load department data." ) );
+      }
+    } );
+    pending = task;
+    EXECUTOR.execute( task );
+  }
+
+  // Watch the vertical scroll bar, fetching more rows near the end.
+  private void attachScrollBar() {
+    for ( Node node : table.lookupAll( ".scroll-bar" ) ) {
+      if ( node instanceof ScrollBar && ( (ScrollBar) node ).getOrientation() == Orientation.VERTICAL ) {
+        scrollBar = (ScrollBar) node;
+        scrollBar.valueProperty().addListener( ( obs, oldValue, newValue ) -> {
+          if ( newValue.doubleValue() >= scrollBar.getMax() * PREFETCH_THRESHOLD )
+            loadNextPage();
+        } );
+        return;
+      }
+    }
+  }
+
+}
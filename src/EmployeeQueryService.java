@@ -0,0 +1,337 @@
+/*************************************************************************
+ * Title: Employee Query Service
+ * File: EmployeeQueryService.java
+ * Date: 10/18/2026
+ *
+ * Headless HTTP front end to the application's queries, so many
+ * desktops share one connection pool and one cache instead of each
+ * querying the database. Responses are cached, already encoded, for a
+ * time-to-live, and identical requests that arrive while the query is
+ * running wait for its result rather than query again (see
+ * CoalescingCache.java). First name edits go straight to the database
+ * and drop the cached departments. Desktops use the service with
+ * -Demployee.service.url=http://host:port. For further information,
+ * see:
+ *   EmployeeServiceClient.java
+ *   EmployeeWire.java
+ *
+ * Endpoints (bodies as described in EmployeeWire.java):
+ *   GET  /reference                       department, job type and pay
+ *                                         frequency code tables
+ *   GET  /departments/{code}/employees    a department's employees
+ *   POST /employees/first-names           first name edits, all or none
+ *   GET  /health, /stats                  liveness, cache counters
+ *
+ * Every request needs HTTP Basic credentials: a MySQL user id and
+ * password, checked by connecting to the database with them. A login
+ * that succeeded is not checked again until the --ttl has passed.
+ * Credentials cross the network in clear text, so keep the service on
+ * the loopback address (the default) or behind a TLS proxy.
+ *
+ * Usage:
+ *   java -cp ... EmployeeQueryService --user id [--password pw]
+ *        [--url url] [--port n] [--bind address] [--threads n] [--ttl ms]
+ * The password may also be supplied in EMPLOYEE_DB_PASSWORD.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Refuses to start if query plans don't use an index.
+ *   10/18/2026: Requests need a database login.
+ *   10/18/2026: Shutdown writes out queued first name edits.
+ *************************************************************************/
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.BasicAuthenticator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class EmployeeQueryService {
+  private final static String DEFAULT_URL = "jdbc:mysql://localhost:3306/employeedb?useServerPrepStmts=true";
+  public final static int DEFAULT_PORT = 8079;
+  public final static long DEFAULT_TTL = Long.getLong( "employee.service.ttl", 30000L );
+  private final static String REFERENCE = "reference";     // Cache key of the code tables, departments use their code.
+  private final static String TEXT = "text/plain; charset=utf-8";
+  private final static String REALM = "employeedb";
+  // Timed operations, see Metrics.java.
+  private final static Operation GET_REFERENCE = Metrics.operation( "service.reference" );
+  private final static Operation GET_EMPLOYEES = Metrics.operation( "service.employees" );
+  private final static Operation UPDATE_NAMES = Metrics.operation( "service.firstNames" );
+
+  private final HttpServer server;
+  private final ExecutorService workers;
+  private final CoalescingCache<Object, byte[]> cache;
+
+  // Constructor, port 0 picks a free port. Logins are checked against the database at loginUrl.
+  public EmployeeQueryService( final InetSocketAddress address, final int threads, final long ttl, final String loginUrl ) throws IOException {
+    cache = new CoalescingCache<>( ttl );
+    server = HttpServer.create( address, 0 );
+    final AtomicInteger count = new AtomicInteger();
+    workers = Executors.newFixedThreadPool( threads, r -> new Thread( r, "employee-query-service-" + count.incrementAndGet() ) );
+    server.setExecutor( workers );
+    server.createContext( "/", this::handle ).setAuthenticator( new DatabaseLogin( loginUrl, ttl ) );
+  }
+
+  public void start() { server.start(); }
+  public int getPort() { return server.getAddress().getPort(); }
+
+  public void stop() {
+    server.stop( 1 );
+    workers.shutdown();
+  }
+
+  /***************************************************************
+   * Route a request.
+   **************************************************************/
+  private void handle( final HttpExchange exchange ) throws IOException {
+    try {
+      String method = exchange.getRequestMethod();
+      String[] path = exchange.getRequestURI().getPath().split( "/" );
+      if ( path.length == 2 && path[1].equals( "health" ) ) {
+        requireGet( method );
+        send( exchange, 200, TEXT, "ok\n".getBytes( StandardCharsets.UTF_8 ) );
+      } else if ( path.length == 2 && path[1].equals( "stats" ) ) {
+        requireGet( method );
+        send( exchange, 200, TEXT, stats().getBytes( StandardCharsets.UTF_8 ) );
+      } else if ( path.length == 2 && path[1].equals( REFERENCE ) ) {
+        requireGet( method );
+        send( exchange, 200, EmployeeWire.CONTENT_TYPE, getReference() );
+      } else if ( path.length == 4 && path[1].equals( "departments" ) && path[3].equals( "employees" ) ) {
+        requireGet( method );
+        send( exchange, 200, EmployeeWire.CONTENT_TYPE, getEmployees( parseDepartment( path[2] ) ) );
+      } else if ( path.length == 3 && path[1].equals( "employees" ) && path[2].equals( "first-names" ) ) {
+        if ( !method.equals( "POST" ) )
+          throw new RequestException( 405, "Use POST." );
+        updateFirstNames( EmployeeWire.decodeFirstNames( exchange.getRequestBody() ) );
+        send( exchange, 204, TEXT, new byte[0] );
+      } else {
+        throw new RequestException( 404, "No such resource." );
+      }
+    } catch ( RequestException ex ) {
+      send( exchange, ex.status, TEXT, ( ex.getMessage() + "\n" ).getBytes( StandardCharsets.UTF_8 ) );
+    } catch ( Exception ex ) {
+      System.err.println( "Query service exception " + ex );
+      send( exchange, 500, TEXT, ( ex.getMessage() + "\n" ).getBytes( StandardCharsets.UTF_8 ) );
+    }
+  }
+
+  // Code tables, re-read when the cached copy expires.
+  private byte[] getReference() throws Exception {
+    final long start = System.nanoTime();
+    try {
+      byte[] body = cache.get( REFERENCE, () -> {
+        // A failed re-read keeps serving the tables already loaded.
+        if ( !EmployeeTableViewUtility.loadReferenceData() && EmployeeTableViewUtility.getReferenceData().isEmpty() )
+          throw new SQLException( "Cannot read departments, job types or pay frequencies." );
+        return EmployeeWire.encodeReferenceData( EmployeeTableViewUtility.getReferenceData() );
+      } );
+      GET_REFERENCE.end( start );
+      return body;
+    } catch ( Exception ex ) {
+      GET_REFERENCE.failed( start );
+      throw ex;
+    }
+  }
+
+  private byte[] getEmployees( final int departmentNumber ) throws Exception {
+    final long start = System.nanoTime();
+    try {
+      byte[] body = cache.get( departmentNumber, () ->
+        EmployeeWire.encodeEmployees( EmployeeTableViewUtility.EmployeeGetDepartment( departmentNumber ) ) );
+      GET_EMPLOYEES.end( start );
+      return body;
+    } catch ( Exception ex ) {
+      GET_EMPLOYEES.failed( start );
+      throw ex;
+    }
+  }
+
+  // Edits don't say which department they touch, so every cached department goes.
+  private void updateFirstNames( final Map<Integer, String> fNames ) throws SQLException {
+    final long start = System.nanoTime();
+    try {
+      EmployeeTableViewUtility.updateFirstNames( fNames );
+    } catch ( SQLException ex ) {
+      UPDATE_NAMES.failed( start );
+      throw ex;
+    } finally {
+      cache.invalidateIf( key -> key instanceof Integer );
+    }
+    UPDATE_NAMES.end( start, fNames.size() );
+  }
+
+  // Only departments in the code tables, so the cache can't be filled with junk keys.
+  private static int parseDepartment( final String text ) throws RequestException {
+    int code;
+    try {
+      code = Integer.parseInt( text );
+    } catch ( NumberFormatException ex ) {
+      throw new RequestException( 400, "Bad department " + text + "." );
+    }
+    ReferenceData codes = EmployeeTableViewUtility.getReferenceData();
+    if ( !codes.isEmpty() && !codes.isDepartment( code ) )
+      throw new RequestException( 404, "No department " + code + "." );
+    return code;
+  }
+
+  private String stats() {
+    return "cache.entries\t" + cache.size() + "\n"
+      + "cache.hits\t" + cache.getHitCount() + "\n"
+      + "cache.misses\t" + cache.getMissCount() + "\n"
+      + "cache.coalesced\t" + cache.getCoalescedCount() + "\n";
+  }
+
+  private static void requireGet( final String method ) throws RequestException {
+    if ( !method.equals( "GET" ) && !method.equals( "HEAD" ) )
+      throw new RequestException( 405, "Use GET." );
+  }
+
+  private static void send( final HttpExchange exchange, final int status, final String type, final byte[] body ) throws IOException {
+    exchange.getResponseHeaders().set( "Content-Type", type );
+    boolean empty = body.length == 0 || exchange.getRequestMethod().equals( "HEAD" );
+    exchange.sendResponseHeaders( status, empty ? -1 : body.length );
+    if ( !empty )
+      try ( OutputStream out = exchange.getResponseBody() ) {
+        out.write( body );
+      }
+    exchange.close();
+  }
+
+  /*************************************************************************
+   * Basic authentication by database login: the user id and password
+   * must open a connection to the database. Logins that did are
+   * remembered, as a digest, for the time-to-live.
+   *************************************************************************/
+  private final static class DatabaseLogin extends BasicAuthenticator {
+    private final String url;
+    private final long ttl;
+    private final Map<String, Long> verified = new ConcurrentHashMap<>(); // Login digest to when it was checked.
+
+    DatabaseLogin( final String url, final long ttl ) {
+      super( REALM );
+      this.url = url;
+      this.ttl = ttl;
+    }
+
+    @Override
+    public boolean checkCredentials( final String userId, final String password ) {
+      final String login = digest( userId, password );
+      final long now = System.currentTimeMillis();
+      Long checked = verified.get( login );
+      if ( checked != null && now - checked <= ttl )
+        return true;
+      try {
+        DriverManager.getConnection( url, userId, password ).close();
+        verified.put( login, now );
+        return true;
+      } catch ( SQLException ex ) {
+        verified.remove( login );
+        System.err.println( "Query service login refused for " + userId + ": " + ex.getMessage() );
+        return false;
+      }
+    }
+
+    private static String digest( final String userId, final String password ) {
+      try {
+        MessageDigest sha = MessageDigest.getInstance( "SHA-256" );
+        sha.update( userId.getBytes( StandardCharsets.UTF_8 ) );
+        sha.update( (byte) 0 );
+        return Base64.getEncoder().encodeToString( sha.digest( password.getBytes( StandardCharsets.UTF_8 ) ) );
+      } catch ( NoSuchAlgorithmException ex ) {
+        throw new IllegalStateException( ex ); // Every JRE has SHA-256.
+      }
+    }
+  }
+
+  // A request the service refuses, with its HTTP status.
+  private final static class RequestException extends Exception {
+    private static final long serialVersionUID = 1L;
+    final int status;
+
+    RequestException( final int status, final String message ) {
+      super( message );
+      this.status = status;
+    }
+  }
+
+  public static void main( String[] args ) {
+    String url = DEFAULT_URL, user = null, password = System.getenv( "EMPLOYEE_DB_PASSWORD" ), bind = "127.0.0.1";
+    int port = DEFAULT_PORT, threads = ConnectionPool.DEFAULT_MAXIMUM_SIZE * 2;
+    long ttl = DEFAULT_TTL;
+
+    try {
+      for ( int i = 0; i < args.length; i++ ) {
+        switch ( args[i] ) {
+          case "--url":      url = args[++i]; break;
+          case "--user":     user = args[++i]; break;
+          case "--password": password = args[++i]; break;
+          case "--port":     port = Integer.parseInt( args[++i] ); break;
+          case "--bind":     bind = args[++i]; break;
+          case "--threads":  threads = Integer.parseInt( args[++i] ); break;
+          case "--ttl":      ttl = Long.parseLong( args[++i] ); break;
+          default:           throw new IllegalArgumentException( "Unknown option " + args[i] );
+        }
+      }
+      if ( user == null )
+        throw new IllegalArgumentException( "--user is required." );
+      if ( threads < 1 || port < 0 || ttl < 0 )
+        throw new IllegalArgumentException( "--threads must be positive, --port and --ttl not negative." );
+    } catch ( RuntimeException ex ) {
+      System.err.println( ex.getMessage() );
+      System.err.println( "Usage: EmployeeQueryService --user id [--password pw] [--url url] [--port n] [--bind address] [--threads n] [--ttl ms]" );
+      System.exit( 2 );
+    }
+
+    if ( !EmployeeTableViewUtility.openDB( url, user, password == null ? "" : password ) ) {
+      System.err.println( "Unable to connect to " + url );
+      System.exit( 1 );
+    }
+    if ( !EmployeeTableViewUtility.loadReferenceData() ) {
+      System.err.println( "Cannot read departments, job types or pay frequencies." );
+      EmployeeTableViewUtility.closeDB();
+      System.exit( 1 );
+    }
+    // Every desktop's queries would scan, better not to start.
+    if ( QueryPlanCheck.ENABLED ) {
+      try {
+        List<String> problems = EmployeeTableViewUtility.checkQueryPlans();
+        for ( String problem : problems )
+          System.err.println( "Query plan: " + problem );
+        if ( !problems.isEmpty() ) {
+          System.err.println( "Apply the schema migrations (EmployeeMigrate), or start with -Demployee.planCheck=false." );
+          EmployeeTableViewUtility.closeDB();
+          System.exit( 1 );
+        }
+      } catch ( SQLException ex ) {
+        System.err.println( "Query plan check failed: " + ex.getMessage() );
+      }
+    }
+    try {
+      final EmployeeQueryService service = new EmployeeQueryService( new InetSocketAddress( bind, port ), threads, ttl, url );
+      Runtime.getRuntime().addShutdownHook( new Thread( () -> {
+        service.stop();
+        EmployeeTableViewUtility.shutdown();
+      }, "employee-query-service-shutdown" ) );
+      service.start();
+      System.err.println( "Serving " + url + " on http://" + bind + ":" + service.getPort() );
+    } catch ( IOException ex ) {
+      System.err.println( "Cannot listen on " + bind + ":" + port + ": " + ex.getMessage() );
+      EmployeeTableViewUtility.closeDB();
+      System.exit( 1 );
+    }
+  }
+
+}
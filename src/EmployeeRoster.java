@@ -0,0 +1,84 @@
+/*************************************************************************
+ * Title: Employee Roster
+ * File: EmployeeRoster.java
+ * Date: 10/18/2026
+ *
+ * Every employee, read in one pass and partitioned into per-department
+ * buckets, so browsing departments costs no further round trips. A
+ * bucket is dropped when one of its employees is updated, and the
+ * whole roster expires like the department cache does, after which
+ * departments are queried one at a time again. For further
+ * information, see:
+ *   EmployeeTableViewUtility.java
+ *   EmployeeCache.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Whole roster can be read back, for the snapshot.
+ *************************************************************************/
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class EmployeeRoster {
+  public final static EmployeeRoster EMPTY = new EmployeeRoster( Collections.emptyMap(), 0L, 0L );
+
+  private final Map<Integer, List<Employee>> buckets;
+  private final long loaded;
+  private final long ttl;
+
+  // Constructor, buckets are already read-only lists.
+  public EmployeeRoster( final Map<Integer, List<Employee>> buckets, final long loaded, final long ttl ) {
+    this.buckets = new ConcurrentHashMap<>( buckets );
+    this.loaded = loaded;
+    this.ttl = ttl;
+  }
+
+  /***************************************************************
+   * Read-only employees of a department, or null if the roster has
+   * expired or the bucket was dropped. A department with no
+   * employees has an empty bucket.
+   **************************************************************/
+  public List<Employee> get( final int departmentNumber ) {
+    if ( isExpired() )
+      return null;
+    return buckets.get( departmentNumber );
+  }
+
+  /***************************************************************
+   * Every department's employees by department code, or null if
+   * the roster has expired or a department in codes was dropped.
+   **************************************************************/
+  public Map<Integer, List<Employee>> getAll( final ReferenceData codes ) {
+    Map<Integer, List<Employee>> all = new HashMap<>( codes.getDepartmentCount() * 2 );
+    for ( int i = 0; i < codes.getDepartmentCount(); i++ ) {
+      List<Employee> bucket = get( codes.getDepartmentCode( i ) );
+      if ( bucket == null )
+        return null;
+      all.put( codes.getDepartmentCode( i ), bucket );
+    }
+    return all;
+  }
+
+  public void invalidate( final int departmentNumber ) {
+    buckets.remove( departmentNumber );
+  }
+
+  /***************************************************************
+   * Drop the bucket holding the employee.
+   **************************************************************/
+  public void invalidateEmployee( final int id ) {
+    for ( Map.Entry<Integer, List<Employee>> entry : buckets.entrySet() )
+      for ( Employee employee : entry.getValue() )
+        if ( employee.getEmployeeId() == id ) {
+          buckets.remove( entry.getKey(), entry.getValue() );
+          return;
+        }
+  }
+
+  public boolean isExpired() { return System.currentTimeMillis() - loaded > ttl; }
+  public int getDepartmentCount() { return buckets.size(); }
+
+}
@@ -0,0 +1,68 @@
+/*************************************************************************
+ * Title: Employee Row Mapper
+ * File: EmployeeRowMapper.java
+ * Date: 10/18/2026
+ *
+ * Index-based mapping of employee query rows to Employee objects. Pay
+ * is read according to its column type: whole numbers directly as
+ * cents, decimals rounded to the nearest cent. For further
+ * information, see:
+ *   RowMapper.java
+ *   EmployeeTableViewUtility.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+public final class EmployeeRowMapper implements RowMapper<Employee> {
+  private final static RowMapperCache<Employee> CACHE = new RowMapperCache<>( EmployeeRowMapper::new );
+
+  private final int id, lastName, firstName, jobCode, email, telephone, pay, payCode;
+  private final boolean wholePay; // Pay column holds whole dollars.
+
+  // Constructor, resolves column positions.
+  private EmployeeRowMapper( final ResultSetMetaData metaData ) throws SQLException {
+    id = RowMapper.findColumn( metaData, "employee_id" );
+    lastName = RowMapper.findColumn( metaData, "last_name" );
+    firstName = RowMapper.findColumn( metaData, "first_name" );
+    jobCode = RowMapper.findColumn( metaData, "job_type_code" );
+    email = RowMapper.findColumn( metaData, "email_address" );
+    telephone = RowMapper.findColumn( metaData, "telephone" );
+    pay = RowMapper.findColumn( metaData, "pay" );
+    payCode = RowMapper.findColumn( metaData, "pay_freq_code" );
+    switch ( metaData.getColumnType( pay ) ) {
+      case Types.TINYINT: case Types.SMALLINT: case Types.INTEGER: case Types.BIGINT:
+        wholePay = true;
+        break;
+      default:
+        wholePay = false;
+    }
+  }
+
+  /***************************************************************
+   * Mapper for an employee query's result set.
+   **************************************************************/
+  public static RowMapper<Employee> forResultSet( final ResultSet resultSet ) throws SQLException {
+    return CACHE.forResultSet( resultSet );
+  }
+
+  @Override
+  public Employee map( final ResultSet resultSet ) throws SQLException {
+    long cents = wholePay ? resultSet.getLong( pay ) * 100L : Math.round( resultSet.getDouble( pay ) * 100.0 );
+    return new Employee(
+      resultSet.getInt( id ),
+      resultSet.getString( firstName ),
+      resultSet.getString( lastName ),
+      resultSet.getInt( jobCode ),
+      resultSet.getInt( payCode ),
+      cents,
+      resultSet.getString( email ),
+      resultSet.getString( telephone )
+    );
+  }
+
+}
@@ -0,0 +1,28 @@
+/*************************************************************************
+ * Title: Employee Row Writer
+ * File: EmployeeRowWriter.java
+ * Date: 10/18/2026
+ *
+ * Destination for streamed employee rows. Each call receives the
+ * ResultSet positioned on the next row, nothing is retained between
+ * rows. For further information, see:
+ *   EmployeeExport.java
+ *   EmployeeTableViewUtility.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public interface EmployeeRowWriter extends AutoCloseable {
+
+  // Write the current row.
+  void write( ResultSet resultSet ) throws SQLException, IOException;
+
+  // Flush buffered rows and close the destination.
+  @Override
+  void close() throws IOException;
+
+}
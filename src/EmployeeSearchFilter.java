@@ -0,0 +1,128 @@
+/*************************************************************************
+ * Title: Employee Search Filter
+ * File: EmployeeSearchFilter.java
+ * Date: 10/18/2026
+ *
+ * Ties a search box to the table. When a department has loaded, its
+ * rows are indexed in the background and the box is enabled; each
+ * keystroke then shows just the matching rows, looked up in the index
+ * rather than by testing every row. Clearing the box shows the whole
+ * department again. For further information, see:
+ *   EmployeeSearchIndex.java
+ *   EmployeeTableView.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
+
+public class EmployeeSearchFilter {
+  private final static Operation SEARCH = Metrics.operation( "fx.search" );
+  private final static Operation BUILD = Metrics.operation( "searchIndex" );
+  // Shared daemon thread so indexing never keeps the JVM alive.
+  private final static ExecutorService INDEXER = Executors.newSingleThreadExecutor( r -> {
+    Thread t = new Thread( r, "employee-search-indexer" );
+    t.setDaemon( true );
+    return t;
+  } );
+
+  private final TableView<Employee> table;
+  private final TextField field;
+  private final ObservableList<Employee> matches = FXCollections.observableArrayList();
+  private ObservableList<Employee> department;   // Every loaded row, FX thread only.
+  private EmployeeSearchIndex index;             // FX thread only, null until built.
+  private int generation = 0;                    // FX thread only, drops indexes of an old department.
+
+  // Constructor.
+  public EmployeeSearchFilter( final TableView<Employee> table, final TextField field ) {
+    this.table = table;
+    this.field = field;
+    field.setDisable( true );
+    field.textProperty().addListener( ( obs, oldText, newText ) -> filter() );
+  }
+
+  /***************************************************************
+   * Index the rows the table is showing, a department just loaded.
+   * The box is enabled once the index is ready.
+   **************************************************************/
+  public void index() {
+    department = table.getItems();
+    rebuild();
+  }
+
+  /***************************************************************
+   * Re-index after rows were changed in place (change feed) and
+   * show the current search against them.
+   **************************************************************/
+  public void rebuild() {
+    if ( department == null )
+      return;
+    final int current = ++generation;
+    final ArrayList<Employee> rows = new ArrayList<>( department );
+    INDEXER.execute( () -> {
+      long start = System.nanoTime();
+      final EmployeeSearchIndex built = new EmployeeSearchIndex( rows );
+      BUILD.end( start, built.size() );
+      Platform.runLater( () -> {
+        if ( current != generation )
+          return;
+        index = built;
+        field.setDisable( false );
+        filter();
+      } );
+    } );
+  }
+
+  /***************************************************************
+   * Clear the search and show the whole department again, before
+   * the table moves to another department. Disables the box.
+   **************************************************************/
+  public void reset() {
+    generation++;
+    index = null;
+    field.clear();
+    field.setDisable( true );
+    if ( department != null && table.getItems() == matches )
+      table.setItems( department );
+    department = null;
+    matches.clear();
+  }
+
+  /***************************************************************
+   * Re-index one employee after an edit was committed.
+   **************************************************************/
+  public void update( final Employee employee ) {
+    if ( index != null )
+      index.update( employee );
+  }
+
+  // Show the rows matching the box, or all of them when it's empty.
+  private void filter() {
+    if ( index == null || department == null )
+      return;
+    final long start = System.nanoTime();
+    String query = field.getText().trim();
+    if ( query.isEmpty() ) {
+      if ( table.getItems() != matches )
+        return;
+      table.setItems( department );
+      matches.clear();
+    } else {
+      matches.setAll( index.search( query ) );
+      if ( table.getItems() != matches )
+        table.setItems( matches );
+    }
+    if ( !table.getSortOrder().isEmpty() )
+      table.sort();
+    SEARCH.end( start, table.getItems().size() );
+  }
+
+}
@@ -0,0 +1,296 @@
+/*************************************************************************
+ * Title: Employee Search Index
+ * File: EmployeeSearchIndex.java
+ * Date: 10/18/2026
+ *
+ * In-memory n-gram index over the first name, last name, email and
+ * telephone of a loaded list of employees, for type-ahead search.
+ * Every word is indexed by its trigrams, with a start marker in front,
+ * plus its first letter. A query word of one or two characters matches
+ * words starting with it, a longer one matches anywhere inside a word;
+ * several query words must all match. A query only intersects the
+ * posting lists of its own n-grams (shortest first) and checks the
+ * few candidates left, so its cost follows the number of matches, not
+ * the number of rows. Build off the FX thread; search and update on
+ * the FX thread. For further information, see:
+ *   EmployeeTableView.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Indexes the stored email address, queries lower cased in the root locale.
+ *************************************************************************/
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class EmployeeSearchIndex {
+  private final static char START = '\u0001';   // Marks the start of a word in an n-gram.
+  private final static char FIELD = '\u0000';   // Separates fields in a row's text.
+
+  private final List<Employee> rows;             // Index order.
+  private final String[] texts;                  // Lower case fields of each row, as indexed.
+  private final Map<Integer, Integer> rowOfId;   // Employee id to row.
+  private final BitSet edited = new BitSet();    // Rows re-indexed since the build.
+  private long[] grams = new long[1024];         // Open addressing, n-gram to postings.
+  private Postings[] postings = new Postings[1024];
+  private int gramCount = 0;
+
+  /***************************************************************
+   * Index a copy of the list, the list itself is not kept.
+   **************************************************************/
+  public EmployeeSearchIndex( final List<Employee> employees ) {
+    rows = new ArrayList<>( employees );
+    texts = new String[rows.size()];
+    rowOfId = new HashMap<>( rows.size() * 2 );
+    for ( int row = 0; row < texts.length; row++ ) {
+      Employee employee = rows.get( row );
+      rowOfId.put( employee.getEmployeeId(), row );
+      texts[row] = textOf( employee );
+      addGrams( texts[row], row );
+    }
+    for ( Postings list : postings )
+      if ( list != null )
+        list.trim();
+  }
+
+  public int size() { return rows.size(); }
+
+  /***************************************************************
+   * Employees matching every word of the query, in list order. An
+   * empty query matches nothing.
+   **************************************************************/
+  public List<Employee> search( final String query ) {
+    String[] terms = words( query.toLowerCase( Locale.ROOT ) );
+    List<Employee> matches = new ArrayList<>();
+    if ( terms.length == 0 )
+      return matches;
+
+    // Posting lists of every n-gram in the query, shortest first.
+    List<Postings> lists = new ArrayList<>();
+    boolean exact = terms.length == 1; // A lone n-gram's list needs no check.
+    for ( String term : terms ) {
+      long[] termGrams = queryGrams( term );
+      exact &= termGrams.length == 1;
+      for ( long gram : termGrams ) {
+        Postings list = find( gram );
+        if ( list == null )
+          return matches; // An n-gram no row has.
+        lists.add( list );
+      }
+    }
+    lists.sort( Comparator.comparingInt( list -> list.size ) );
+
+    int[] candidates = Arrays.copyOf( lists.get( 0 ).ids, lists.get( 0 ).size );
+    int count = candidates.length;
+    for ( int i = 1; i < lists.size() && count > 0; i++ )
+      count = intersect( candidates, count, lists.get( i ) );
+
+    // N-grams can match in different words, or be left from an edit, so check the text itself.
+    for ( int i = 0; i < count; i++ ) {
+      int row = candidates[i];
+      if ( ( exact && !edited.get( row ) ) || matchesAll( texts[row], terms ) )
+        matches.add( rows.get( row ) );
+    }
+    return matches;
+  }
+
+  /***************************************************************
+   * Re-index an employee after an edit. N-grams of the old values
+   * stay, they are filtered out by the text check.
+   **************************************************************/
+  public void update( final Employee employee ) {
+    Integer row = rowOfId.get( employee.getEmployeeId() );
+    if ( row == null || rows.get( row ) != employee )
+      return;
+    texts[row] = textOf( employee );
+    edited.set( row );
+    addGrams( texts[row], row );
+  }
+
+  private static String textOf( final Employee employee ) {
+    StringBuilder sb = new StringBuilder( 96 );
+    append( sb, employee.getFirstName() ).append( FIELD );
+    append( sb, employee.getLastName() ).append( FIELD );
+    append( sb, employee.getEmailAddress() ).append( FIELD );
+    String telephone = employee.getTelephone();
+    append( sb, telephone ).append( FIELD );
+    // Digits alone as well, so 5551234 finds 555-1234.
+    if ( telephone != null )
+      for ( int i = 0; i < telephone.length(); i++ )
+        if ( Character.isDigit( telephone.charAt( i ) ) )
+          sb.append( telephone.charAt( i ) );
+    return sb.toString();
+  }
+
+  private static StringBuilder append( final StringBuilder sb, final String s ) {
+    if ( s != null )
+      for ( int i = 0; i < s.length(); i++ )
+        sb.append( Character.toLowerCase( s.charAt( i ) ) );
+    return sb;
+  }
+
+  // Index every word of a row: its first letter, then trigrams from the start marker on.
+  private void addGrams( final String text, final int row ) {
+    int length = text.length();
+    for ( int i = 0; i < length; i++ ) {
+      if ( !Character.isLetterOrDigit( text.charAt( i ) ) )
+        continue;
+      int end = i;
+      while ( end < length && Character.isLetterOrDigit( text.charAt( end ) ) )
+        end++;
+      char a = START, b = text.charAt( i );
+      add( gram( a, b, FIELD ), row );
+      for ( int j = i + 1; j < end; j++ ) {
+        char c = text.charAt( j );
+        add( gram( a, b, c ), row );
+        a = b;
+        b = c;
+      }
+      i = end;
+    }
+  }
+
+  private void add( final long gram, final int row ) {
+    int slot = slot( gram );
+    if ( postings[slot] == null ) {
+      grams[slot] = gram;
+      postings[slot] = new Postings();
+      if ( ++gramCount * 2 > grams.length ) {
+        grow();
+        slot = slot( gram );
+      }
+    }
+    postings[slot].add( row );
+  }
+
+  private Postings find( final long gram ) {
+    return postings[slot( gram )];
+  }
+
+  // Slot holding the n-gram, or the empty slot where it belongs.
+  private int slot( final long gram ) {
+    int mask = grams.length - 1;
+    int slot = (int) ( ( gram * 0x9E3779B97F4A7C15L ) >>> 40 ) & mask;
+    while ( postings[slot] != null && grams[slot] != gram )
+      slot = ( slot + 1 ) & mask;
+    return slot;
+  }
+
+  private void grow() {
+    long[] oldGrams = grams;
+    Postings[] oldPostings = postings;
+    grams = new long[oldGrams.length * 2];
+    postings = new Postings[oldPostings.length * 2];
+    for ( int i = 0; i < oldGrams.length; i++ )
+      if ( oldPostings[i] != null ) {
+        int slot = slot( oldGrams[i] );
+        grams[slot] = oldGrams[i];
+        postings[slot] = oldPostings[i];
+      }
+  }
+
+  // N-grams a query word needs: a word start for short words, trigrams otherwise.
+  private static long[] queryGrams( final String term ) {
+    if ( term.length() == 1 )
+      return new long[] { gram( START, term.charAt( 0 ), FIELD ) };
+    if ( term.length() == 2 )
+      return new long[] { gram( START, term.charAt( 0 ), term.charAt( 1 ) ) };
+    long[] grams = new long[term.length() - 2];
+    for ( int i = 0; i < grams.length; i++ )
+      grams[i] = gram( term.charAt( i ), term.charAt( i + 1 ), term.charAt( i + 2 ) );
+    return grams;
+  }
+
+  private static long gram( final char a, final char b, final char c ) {
+    return (long) a << 32 | (long) b << 16 | c;
+  }
+
+  private static boolean matchesAll( final String text, final String[] terms ) {
+    for ( String term : terms ) {
+      if ( term.length() >= 3 ? text.indexOf( term ) < 0 : !hasWordStartingWith( text, term ) )
+        return false;
+    }
+    return true;
+  }
+
+  private static boolean hasWordStartingWith( final String text, final String prefix ) {
+    for ( int at = text.indexOf( prefix ); at >= 0; at = text.indexOf( prefix, at + 1 ) )
+      if ( at == 0 || !Character.isLetterOrDigit( text.charAt( at - 1 ) ) )
+        return true;
+    return false;
+  }
+
+  // Words are runs of letters and digits.
+  private static String[] words( final String text ) {
+    List<String> words = new ArrayList<>();
+    int start = -1;
+    for ( int i = 0; i <= text.length(); i++ ) {
+      boolean inWord = i < text.length() && Character.isLetterOrDigit( text.charAt( i ) );
+      if ( inWord && start < 0 )
+        start = i;
+      else if ( !inWord && start >= 0 ) {
+        words.add( text.substring( start, i ) );
+        start = -1;
+      }
+    }
+    return words.toArray( new String[words.size()] );
+  }
+
+  // Keep the candidates that are also in the list, both ascending.
+  private static int intersect( final int[] candidates, final int count, final Postings list ) {
+    int kept = 0, j = 0;
+    for ( int i = 0; i < count && j < list.size; i++ ) {
+      int row = candidates[i];
+      j = seek( list.ids, j, list.size, row );
+      if ( j < list.size && list.ids[j] == row )
+        candidates[kept++] = row;
+    }
+    return kept;
+  }
+
+  // First position at or after from holding a value >= target, galloping then binary search.
+  private static int seek( final int[] ids, final int from, final int size, final int target ) {
+    int step = 1, low = from, high = from;
+    while ( high < size && ids[high] < target ) {
+      low = high + 1;
+      high += step;
+      step <<= 1;
+    }
+    int at = Arrays.binarySearch( ids, low, Math.min( high + 1, size ), target );
+    return at >= 0 ? at : -at - 1;
+  }
+
+  /***************************************************************
+   * Ascending rows holding one n-gram.
+   **************************************************************/
+  private static final class Postings {
+    int[] ids = new int[4];
+    int size = 0;
+
+    void add( final int row ) {
+      if ( size > 0 && ids[size - 1] == row )
+        return; // Same n-gram twice in a row.
+      int at = size == 0 || ids[size - 1] < row ? size : Arrays.binarySearch( ids, 0, size, row );
+      if ( at >= 0 && at < size )
+        return; // Already listed, re-indexed after an edit.
+      if ( at < 0 )
+        at = -at - 1;
+      if ( size == ids.length )
+        ids = Arrays.copyOf( ids, size * 2 );
+      System.arraycopy( ids, at, ids, at + 1, size - at );
+      ids[at] = row;
+      size++;
+    }
+
+    void trim() {
+      if ( ids.length > size )
+        ids = Arrays.copyOf( ids, Math.max( 1, size ) );
+    }
+  }
+
+}
@@ -0,0 +1,122 @@
+/*************************************************************************
+ * Title: Employee Service Client
+ * File: EmployeeServiceClient.java
+ * Date: 10/18/2026
+ *
+ * Desktop side of the query service: the same code table, department
+ * and first name queries the application runs over JDBC, sent to an
+ * EmployeeQueryService over HTTP instead, with the user's database
+ * login as Basic credentials. Connections are kept alive between
+ * requests by the JDK. For further information, see:
+ *   EmployeeQueryService.java
+ *   EmployeeWire.java
+ *
+ * Timeouts may be overridden with the system properties
+ * employee.service.connectTimeout and employee.service.readTimeout (ms).
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Requests carry the user's database login.
+ *************************************************************************/
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+public class EmployeeServiceClient {
+  private final static int CONNECT_TIMEOUT = Integer.getInteger( "employee.service.connectTimeout", 5000 );
+  private final static int READ_TIMEOUT = Integer.getInteger( "employee.service.readTimeout", 30000 );
+
+  private final String baseUrl;
+  private final String authorization; // Basic credentials sent with every request.
+
+  // Constructor, e.g. http://localhost:8079 and a MySQL user id and password.
+  public EmployeeServiceClient( final String baseUrl, final String userId, final String password ) {
+    this.baseUrl = baseUrl.endsWith( "/" ) ? baseUrl.substring( 0, baseUrl.length() - 1 ) : baseUrl;
+    authorization = "Basic " + Base64.getEncoder().encodeToString( ( userId + ":" + password ).getBytes( StandardCharsets.UTF_8 ) );
+  }
+
+  public String getBaseUrl() { return baseUrl; }
+
+  // Throws if the service can't be reached or refuses the login.
+  public void ping() throws IOException {
+    HttpURLConnection connection = open( "/health", "GET" );
+    try ( InputStream in = response( connection ) ) {
+      drain( in );
+    }
+  }
+
+  public ReferenceData getReferenceData() throws IOException {
+    HttpURLConnection connection = open( "/reference", "GET" );
+    try ( InputStream in = response( connection ) ) {
+      return EmployeeWire.decodeReferenceData( in );
+    }
+  }
+
+  public List<Employee> getEmployees( final int departmentNumber ) throws IOException {
+    HttpURLConnection connection = open( "/departments/" + departmentNumber + "/employees", "GET" );
+    try ( InputStream in = response( connection ) ) {
+      return EmployeeWire.decodeEmployees( in );
+    }
+  }
+
+  /***************************************************************
+   * Write first names in one transaction, all or none.
+   **************************************************************/
+  public void updateFirstNames( final Map<Integer, String> fNames ) throws IOException {
+    byte[] body = EmployeeWire.encodeFirstNames( fNames );
+    HttpURLConnection connection = open( "/employees/first-names", "POST" );
+    connection.setDoOutput( true );
+    connection.setFixedLengthStreamingMode( body.length );
+    connection.setRequestProperty( "Content-Type", EmployeeWire.CONTENT_TYPE );
+    try ( OutputStream out = connection.getOutputStream() ) {
+      out.write( body );
+    }
+    try ( InputStream in = response( connection ) ) {
+      drain( in );
+    }
+  }
+
+  private HttpURLConnection open( final String path, final String method ) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL( baseUrl + path ).openConnection();
+    connection.setRequestMethod( method );
+    connection.setConnectTimeout( CONNECT_TIMEOUT );
+    connection.setReadTimeout( READ_TIMEOUT );
+    connection.setUseCaches( false );
+    connection.setRequestProperty( "Authorization", authorization );
+    return connection;
+  }
+
+  // Body of a successful response, or the service's error message thrown.
+  private static InputStream response( final HttpURLConnection connection ) throws IOException {
+    int status = connection.getResponseCode();
+    if ( status / 100 == 2 )
+      return connection.getInputStream();
+    String message = connection.getResponseMessage();
+    try ( InputStream error = connection.getErrorStream() ) {
+      if ( error != null ) {
+        String text = new String( drain( error ), StandardCharsets.UTF_8 ).trim();
+        if ( !text.isEmpty() )
+          message = text;
+      }
+    }
+    throw new IOException( "HTTP " + status + " from " + connection.getURL() + ": " + message );
+  }
+
+  // Read to the end, so the connection can be reused.
+  private static byte[] drain( final InputStream in ) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    byte[] buffer = new byte[4096];
+    int n;
+    while ( ( n = in.read( buffer ) ) > 0 )
+      bytes.write( buffer, 0, n );
+    return bytes.toByteArray();
+  }
+
+}
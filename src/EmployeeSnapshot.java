@@ -0,0 +1,431 @@
+/*************************************************************************
+ * Title: Employee Snapshot
+ * File: EmployeeSnapshot.java
+ * Date: 10/18/2026
+ *
+ * Local copy of the code tables and every employee row, kept in a
+ * memory-mapped file so the application can show data before (or
+ * without) a database login. Employees are stored as fixed-width
+ * records grouped by department, and all text lives once in a shared
+ * string table, so opening a snapshot reads only the small code tables
+ * and a department costs one contiguous scan. The file is rebuilt from
+ * MySQL (or the prefetched roster) in the background after each login,
+ * readable by the user alone where the file system has POSIX
+ * permissions. For further information, see:
+ *   EmployeeTableViewUtility.java
+ *
+ * File layout (little-endian):
+ *   Header     := "EMPS" version:int32 created:int64 departmentCount:int32
+ *                 jobCount:int32 payFrequencyCount:int32
+ *                 employeeCount:int32 stringCount:int32
+ *   Department := code name firstEmployee employeeCount     (int32 each)
+ *   Code       := code description                          (int32 each)
+ *   Employee   := id departmentCode jobCode payCode:int32 payCents:int64
+ *                 lastName firstName email telephone:int32
+ *   Strings    := offsets:int32[stringCount + 1] utf8 bytes
+ * Text fields hold string table indexes, -1 for null. Employees are
+ * ordered by department, then id.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Written owner-only, can be filled from the prefetched roster.
+ *************************************************************************/
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class EmployeeSnapshot {
+  public final static int VERSION = 1;
+  private final static int MAGIC = 'E' | 'M' << 8 | 'P' << 16 | 'S' << 24;
+  private final static int HEADER_SIZE = 36;
+  private final static int DEPARTMENT_SIZE = 16;
+  private final static int CODE_SIZE = 8;
+  private final static int EMPLOYEE_SIZE = 40;
+  private final static String OWNER_ONLY = "rw-------";
+
+  private final ByteBuffer buffer;            // Read with absolute gets only.
+  private final long created;
+  private final ReferenceData referenceData;
+  private final int[] firstEmployee;          // Indexed by department code.
+  private final int[] employeeCount;          // Indexed by department code.
+  private final int employeeStart, stringStart, stringDataStart, stringCount;
+  private final String[] strings;             // Decoded on first use.
+
+  // Constructor, validates the mapped file and reads its code tables.
+  private EmployeeSnapshot( final ByteBuffer buffer ) throws IOException {
+    this.buffer = buffer;
+    if ( buffer.capacity() < HEADER_SIZE || buffer.getInt( 0 ) != MAGIC || buffer.getInt( 4 ) != VERSION )
+      throw new IOException( "Not an employee snapshot, or an older version." );
+    created = buffer.getLong( 8 );
+    int departments = buffer.getInt( 16 ), jobs = buffer.getInt( 20 ), frequencies = buffer.getInt( 24 );
+    int employees = buffer.getInt( 28 );
+    stringCount = buffer.getInt( 32 );
+    int jobStart = HEADER_SIZE + departments * DEPARTMENT_SIZE;
+    int frequencyStart = jobStart + jobs * CODE_SIZE;
+    employeeStart = frequencyStart + frequencies * CODE_SIZE;
+    stringStart = employeeStart + employees * EMPLOYEE_SIZE;
+    stringDataStart = stringStart + ( stringCount + 1 ) * 4;
+    if ( departments < 0 || jobs < 0 || frequencies < 0 || employees < 0 || stringCount < 0
+      || stringDataStart > buffer.capacity() || stringDataStart + buffer.getInt( stringDataStart - 4 ) != buffer.capacity() )
+      throw new IOException( "Employee snapshot is damaged." );
+    strings = new String[stringCount];
+
+    int[] codes = new int[departments];
+    int maxCode = -1;
+    for ( int i = 0; i < departments; i++ ) {
+      codes[i] = checkCode( buffer.getInt( HEADER_SIZE + i * DEPARTMENT_SIZE ) );
+      maxCode = Math.max( maxCode, codes[i] );
+    }
+    String[] names = new String[maxCode + 1];
+    firstEmployee = new int[maxCode + 1];
+    employeeCount = new int[maxCode + 1];
+    for ( int i = 0; i < departments; i++ ) {
+      int record = HEADER_SIZE + i * DEPARTMENT_SIZE;
+      names[codes[i]] = string( buffer.getInt( record + 4 ) );
+      firstEmployee[codes[i]] = buffer.getInt( record + 8 );
+      employeeCount[codes[i]] = buffer.getInt( record + 12 );
+      if ( firstEmployee[codes[i]] < 0 || employeeCount[codes[i]] < 0 || firstEmployee[codes[i]] + employeeCount[codes[i]] > employees )
+        throw new IOException( "Employee snapshot is damaged." );
+    }
+    referenceData = new ReferenceData( codes, names, readCodeTable( jobStart, jobs ), readCodeTable( frequencyStart, frequencies ) );
+  }
+
+  /***************************************************************
+   * Map a snapshot file. A snapshot that could not replace the old
+   * file when written (the old one was still mapped) is moved into
+   * place first.
+   **************************************************************/
+  public static EmployeeSnapshot open( final Path path ) throws IOException {
+    Path pending = pendingPath( path );
+    if ( Files.exists( pending ) )
+      Files.move( pending, path, StandardCopyOption.REPLACE_EXISTING );
+    try ( FileChannel channel = FileChannel.open( path, StandardOpenOption.READ ) ) {
+      // The mapping stays valid after the channel is closed.
+      MappedByteBuffer map = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+      return new EmployeeSnapshot( map.order( ByteOrder.LITTLE_ENDIAN ) );
+    }
+  }
+
+  public long getCreated() { return created; }
+  public ReferenceData getReferenceData() { return referenceData; }
+
+  /***************************************************************
+   * All employees of a department, in employee id order.
+   **************************************************************/
+  public List<Employee> getEmployees( final int departmentNumber ) {
+    return getEmployees( departmentNumber, 0, Integer.MAX_VALUE );
+  }
+
+  /***************************************************************
+   * One page of a department's employees, in employee id order,
+   * starting after the supplied id (use 0 for first page).
+   **************************************************************/
+  public List<Employee> getEmployees( final int departmentNumber, final int afterId, final int pageSize ) {
+    if ( departmentNumber < 0 || departmentNumber >= employeeCount.length )
+      return new ArrayList<>();
+    int low = firstEmployee[departmentNumber], high = low + employeeCount[departmentNumber];
+    // Binary search for the first id past afterId.
+    int from = low, to = high;
+    while ( from < to ) {
+      int middle = ( from + to ) >>> 1;
+      if ( buffer.getInt( employeeStart + middle * EMPLOYEE_SIZE ) <= afterId )
+        from = middle + 1;
+      else
+        to = middle;
+    }
+    int end = (int) Math.min( high, (long) from + pageSize );
+    List<Employee> employees = new ArrayList<>( end - from );
+    for ( int i = from; i < end; i++ )
+      employees.add( getEmployee( employeeStart + i * EMPLOYEE_SIZE ) );
+    return employees;
+  }
+
+  private Employee getEmployee( final int record ) {
+    return new Employee(
+      buffer.getInt( record ),              // id
+      string( buffer.getInt( record + 28 ) ), // first name
+      string( buffer.getInt( record + 24 ) ), // last name
+      buffer.getInt( record + 8 ),          // job code
+      buffer.getInt( record + 12 ),         // pay code
+      buffer.getLong( record + 16 ),        // pay cents
+      string( buffer.getInt( record + 32 ) ), // email
+      string( buffer.getInt( record + 36 ) )  // telephone
+    );
+  }
+
+  // Decode a string table entry. Racing threads decode equal strings, which is harmless.
+  private String string( final int index ) {
+    if ( index < 0 || index >= stringCount )
+      return null;
+    String s = strings[index];
+    if ( s == null ) {
+      int start = buffer.getInt( stringStart + index * 4 ), end = buffer.getInt( stringStart + index * 4 + 4 );
+      byte[] bytes = new byte[end - start];
+      ByteBuffer view = buffer.duplicate();
+      view.position( stringDataStart + start );
+      view.get( bytes );
+      strings[index] = s = new String( bytes, StandardCharsets.UTF_8 );
+    }
+    return s;
+  }
+
+  private String[] readCodeTable( final int start, final int count ) throws IOException {
+    int[] codes = new int[count];
+    int maxCode = -1;
+    for ( int i = 0; i < count; i++ ) {
+      codes[i] = checkCode( buffer.getInt( start + i * CODE_SIZE ) );
+      maxCode = Math.max( maxCode, codes[i] );
+    }
+    String[] table = new String[maxCode + 1];
+    for ( int i = 0; i < count; i++ )
+      table[codes[i]] = string( buffer.getInt( start + i * CODE_SIZE + 4 ) );
+    return table;
+  }
+
+  private static int checkCode( final int code ) throws IOException {
+    // Codes index arrays directly, keep a damaged file from allocating wildly.
+    if ( code < 0 || code > 0xffff )
+      throw new IOException( "Employee snapshot is damaged." );
+    return code;
+  }
+
+  private static Path pendingPath( final Path path ) {
+    return path.resolveSibling( path.getFileName() + ".new" );
+  }
+
+  /*************************************************************************
+   * Builds a snapshot from streamed employee rows. Rows are gathered in
+   * primitive arrays, then grouped by department and written to a new
+   * file on close, which replaces the old snapshot.
+   *************************************************************************/
+  public final static class Writer implements EmployeeRowWriter {
+    private final Path path;
+    private final ReferenceData referenceData;
+    private final Map<String, Integer> stringIndex = new HashMap<>();
+    private final List<String> stringList = new ArrayList<>();
+    private int[] indexes;                  // Column positions, resolved on the first row.
+    private int rows = 0;
+    // One slot per row; text columns hold string table indexes.
+    private int[] ids = new int[1024], departments = new int[1024], jobs = new int[1024], payCodes = new int[1024];
+    private int[] lastNames = new int[1024], firstNames = new int[1024], emails = new int[1024], telephones = new int[1024];
+    private long[] cents = new long[1024];
+
+    // Constructor.
+    public Writer( final Path path, final ReferenceData referenceData ) {
+      this.path = path;
+      this.referenceData = referenceData;
+    }
+
+    @Override
+    public void write( final ResultSet resultSet ) throws SQLException {
+      if ( indexes == null )
+        indexes = EmployeeCsvWriter.findColumns( resultSet ); // Same column order as the CSV export.
+      if ( rows == ids.length )
+        grow();
+      ids[rows] = resultSet.getInt( indexes[0] );
+      lastNames[rows] = intern( resultSet.getString( indexes[1] ) );
+      firstNames[rows] = intern( resultSet.getString( indexes[2] ) );
+      jobs[rows] = resultSet.getInt( indexes[3] );
+      departments[rows] = resultSet.getInt( indexes[4] );
+      emails[rows] = intern( resultSet.getString( indexes[5] ) );
+      telephones[rows] = intern( resultSet.getString( indexes[6] ) );
+      cents[rows] = Math.round( resultSet.getDouble( indexes[7] ) * 100.0 );
+      payCodes[rows] = resultSet.getInt( indexes[8] );
+      rows++;
+    }
+
+    /***************************************************************
+     * Add an employee already read, e.g. from the prefetched roster.
+     **************************************************************/
+    public void add( final int department, final Employee employee ) {
+      if ( rows == ids.length )
+        grow();
+      ids[rows] = employee.getEmployeeId();
+      lastNames[rows] = intern( employee.getLastName() );
+      firstNames[rows] = intern( employee.getFirstName() );
+      jobs[rows] = employee.getJobCode();
+      departments[rows] = department;
+      emails[rows] = intern( employee.getEmailAddress() );
+      telephones[rows] = intern( employee.getTelephone() );
+      cents[rows] = employee.getPayCents();
+      payCodes[rows] = employee.getPayCode();
+      rows++;
+    }
+
+    /***************************************************************
+     * Write the snapshot beside the old one, then swap it in.
+     **************************************************************/
+    @Override
+    public void close() throws IOException {
+      int departmentCount = referenceData.getDepartmentCount();
+      int[] departmentNames = new int[departmentCount];
+      for ( int i = 0; i < departmentCount; i++ )
+        departmentNames[i] = intern( referenceData.getDepartmentName( referenceData.getDepartmentCode( i ) ) );
+      int[][] jobTable = codeTable( true ), frequencyTable = codeTable( false );
+      int[] order = groupRows();
+
+      byte[][] utf8 = new byte[stringList.size()][];
+      for ( int i = 0; i < utf8.length; i++ )
+        utf8[i] = stringList.get( i ).getBytes( StandardCharsets.UTF_8 );
+
+      if ( path.getParent() != null )
+        Files.createDirectories( path.getParent() );
+      Path temporary = path.resolveSibling( path.getFileName() + ".tmp" );
+      createOwnerOnly( temporary );
+      try ( ChannelOutput out = new ChannelOutput( temporary ) ) {
+        out.putInt( MAGIC );
+        out.putInt( VERSION );
+        out.putLong( System.currentTimeMillis() );
+        out.putInt( departmentCount );
+        out.putInt( jobTable[0].length );
+        out.putInt( frequencyTable[0].length );
+        out.putInt( order.length );
+        out.putInt( utf8.length );
+        int first = 0;
+        for ( int i = 0; i < departmentCount; i++ ) {
+          int code = referenceData.getDepartmentCode( i );
+          int count = 0;
+          while ( first + count < order.length && departments[order[first + count]] == code )
+            count++;
+          out.putInt( code );
+          out.putInt( departmentNames[i] );
+          out.putInt( first );
+          out.putInt( count );
+          first += count;
+        }
+        for ( int[][] table : new int[][][] { jobTable, frequencyTable } )
+          for ( int i = 0; i < table[0].length; i++ ) {
+            out.putInt( table[0][i] );
+            out.putInt( table[1][i] );
+          }
+        for ( int row : order ) {
+          out.putInt( ids[row] );
+          out.putInt( departments[row] );
+          out.putInt( jobs[row] );
+          out.putInt( payCodes[row] );
+          out.putLong( cents[row] );
+          out.putInt( lastNames[row] );
+          out.putInt( firstNames[row] );
+          out.putInt( emails[row] );
+          out.putInt( telephones[row] );
+        }
+        int offset = 0;
+        out.putInt( offset );
+        for ( byte[] bytes : utf8 )
+          out.putInt( offset += bytes.length );
+        for ( byte[] bytes : utf8 )
+          out.putBytes( bytes, 0, bytes.length );
+      }
+      try {
+        Files.move( temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+      } catch ( IOException ex ) {
+        // Some platforms refuse to replace a mapped file, open() picks this up next time.
+        Files.move( temporary, pendingPath( path ), StandardCopyOption.REPLACE_EXISTING );
+      }
+    }
+
+    public int getRowCount() { return rows; }
+
+    // Created empty before writing, so other users never see employee data; moving it keeps the permissions.
+    private static void createOwnerOnly( final Path file ) throws IOException {
+      Files.deleteIfExists( file );
+      try {
+        FileAttribute<?> permissions = PosixFilePermissions.asFileAttribute( PosixFilePermissions.fromString( OWNER_ONLY ) );
+        Files.createFile( file, permissions );
+      } catch ( UnsupportedOperationException ex ) {
+        // Not a POSIX file system, the platform's defaults apply.
+      }
+    }
+
+    // Row numbers of known departments, in department code then id order.
+    private int[] groupRows() {
+      int departmentCount = referenceData.getDepartmentCount();
+      int maxCode = departmentCount == 0 ? -1 : referenceData.getDepartmentCode( departmentCount - 1 );
+      int[] starts = new int[maxCode + 2];
+      for ( int i = 0; i < rows; i++ )
+        if ( isKnown( departments[i], maxCode ) )
+          starts[departments[i] + 1]++;
+      for ( int code = 0; code <= maxCode; code++ )
+        starts[code + 1] += starts[code];
+      int[] order = new int[starts[maxCode + 1]];
+      int[] next = Arrays.copyOf( starts, maxCode + 1 );
+      for ( int i = 0; i < rows; i++ )
+        if ( isKnown( departments[i], maxCode ) )
+          order[next[departments[i]]++] = i;
+      // Sort each department by id, packing (id, row) into one long.
+      long[] keys = new long[order.length];
+      for ( int code = 0; code <= maxCode; code++ ) {
+        for ( int i = starts[code]; i < starts[code + 1]; i++ )
+          keys[i] = (long) ids[order[i]] << 32 | order[i];
+        Arrays.sort( keys, starts[code], starts[code + 1] );
+      }
+      for ( int i = 0; i < order.length; i++ )
+        order[i] = (int) keys[i];
+      return order;
+    }
+
+    // Employees outside the department table can never be selected, so they are left out.
+    private boolean isKnown( final int code, final int maxCode ) {
+      return code >= 0 && code <= maxCode && !referenceData.getDepartmentName( code ).isEmpty();
+    }
+
+    // Codes and description indexes of the job (or pay frequency) table.
+    private int[][] codeTable( final boolean jobTable ) {
+      List<Integer> codes = new ArrayList<>();
+      int size = jobTable ? referenceData.getJobTableSize() : referenceData.getPayFrequencyTableSize();
+      for ( int code = 0; code < size; code++ ) {
+        String description = jobTable ? referenceData.getJobDescription( code ) : referenceData.getPayFrequency( code );
+        if ( !description.isEmpty() )
+          codes.add( code );
+      }
+      int[][] table = new int[2][codes.size()];
+      for ( int i = 0; i < codes.size(); i++ ) {
+        table[0][i] = codes.get( i );
+        table[1][i] = intern( jobTable ? referenceData.getJobDescription( codes.get( i ) ) : referenceData.getPayFrequency( codes.get( i ) ) );
+      }
+      return table;
+    }
+
+    private int intern( final String s ) {
+      if ( s == null )
+        return -1;
+      Integer index = stringIndex.get( s );
+      if ( index == null ) {
+        index = stringList.size();
+        stringList.add( s );
+        stringIndex.put( s, index );
+      }
+      return index;
+    }
+
+    private void grow() {
+      int size = ids.length * 2;
+      ids = Arrays.copyOf( ids, size );
+      departments = Arrays.copyOf( departments, size );
+      jobs = Arrays.copyOf( jobs, size );
+      payCodes = Arrays.copyOf( payCodes, size );
+      lastNames = Arrays.copyOf( lastNames, size );
+      firstNames = Arrays.copyOf( firstNames, size );
+      emails = Arrays.copyOf( emails, size );
+      telephones = Arrays.copyOf( telephones, size );
+      cents = Arrays.copyOf( cents, size );
+    }
+  }
+
+}
@@ -43,14 +43,43 @@
  *   02/23/2017: Initial release. JME
  *   03/05/2017: Made first name column editable. JME
  *   04/28/2017: Changed login functionality to allow 3 attempts. JME
+ *   10/18/2026: Release pooled database connections on exit.
+ *   10/18/2026: Load departments in the background.
+ *   10/18/2026: Optionally stream departments page by page.
+ *   10/18/2026: Use server-side prepared statements.
+ *   10/18/2026: Code tables loaded in one round trip, added refresh.
+ *   10/18/2026: Show the local snapshot at once, reconcile after login.
+ *   10/18/2026: Window shows first, startup stages run concurrently and are timed.
+ *   10/18/2026: Optionally follow other users' changes to the shown department.
+ *   10/18/2026: Department selection and FX thread responsiveness timed.
+ *   10/18/2026: Added all departments view, sorted by the database.
+ *   10/18/2026: Added indexed search box over the loaded department.
+ *   10/18/2026: Added payroll summary pane.
+ *   10/18/2026: Optionally prefetch every department in one query.
+ *   10/18/2026: Optionally query through the shared query service.
+ *   10/18/2026: Frames timed while the table scrolls.
+ *   10/18/2026: Stored procedure query plans checked after login.
+ *   10/18/2026: Snapshot browsing opt-in, saved after the prefetch.
+ *   10/18/2026: Query service mode logs in like the database does.
+ *   10/18/2026: Refresh reloads the code tables off the FX thread.
+ *   10/18/2026: Table stays read-only unless a database or service is open.
+ *   10/18/2026: Stop writes out queued first name edits.
  *************************************************************************/
+import java.io.IOException;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
-import javafx.collections.ObservableList;
+import javafx.collections.FXCollections;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.Scene;
@@ -62,11 +91,14 @@ import javafx.scene.control.ComboBox;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
 import javafx.scene.control.PasswordField;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.SplitPane;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.util.Pair;
@@ -74,11 +106,31 @@ import javafx.util.Pair;
 @SuppressWarnings( "unchecked" )
 public class EmployeeTableView extends Application {
   // Default url, user id and password. (during development append to database: "?verifyServerCertificate=false&useSSL=true")
-  private final String url = new String( "jdbc:mysql://localhost:3306/employeedb" );
+  // Server-side prepared statements let the pooled statement cache skip re-parsing on the server.
+  private final String url = new String( "jdbc:mysql://localhost:3306/employeedb?useServerPrepStmts=true" );
   private String userId = new String( "" ); // MySQL database user id.
   private String password = new String( "" );   // MySQL database user password.
-  private static List<Pair<Integer, String>> departments = new ArrayList<>(); // List of departments.
+  private static ReferenceData departments = ReferenceData.EMPTY; // Code tables the department combobox was filled from.
   private static int MAXIMUM_LOGIN_ATTEMPTS = 3; // Maximum number of failed MySQL database login attempts before termination.
+  private final static boolean STREAMING = Boolean.getBoolean( "employee.streaming" ); // Page large departments in on demand.
+  private final static boolean CHANGE_FEED = Boolean.getBoolean( "employee.changeFeed" ); // Poll for other users' changes.
+  private final static boolean PREFETCH = Boolean.getBoolean( "employee.prefetch" ); // Read every department once, after login.
+  private final static String SERVICE_URL = System.getProperty( "employee.service.url", "" ); // Query service in place of the database.
+  private final static String DATABASE = SERVICE_URL.isEmpty() ? "mySQL database" : SERVICE_URL; // Named in login errors.
+  private final static int SPARE_CONNECTIONS = Integer.getInteger( "employee.startup.connections", 2 ); // Opened while code tables load.
+  // Startup work runs here, its results are handed to the FX thread.
+  private final static ExecutorService STARTUP = Executors.newCachedThreadPool( r -> {
+    Thread t = new Thread( r, "employee-startup" );
+    t.setDaemon( true );
+    return t;
+  } );
+  private final static Executor FX_THREAD = Platform::runLater;
+  private final static String ALL_DEPARTMENTS = "All departments"; // Last combobox entry while online.
+  // Timed operations, see Metrics.java.
+  private final static Operation DEPARTMENT_SELECTED = Metrics.operation( "fx.departmentSelected" );
+  private final static Operation DEPARTMENT_SHOWN = Metrics.operation( "fx.departmentShown" );
+  private final static Operation DEPARTMENT_LOAD = Metrics.operation( "departmentLoad" );
+  private long selectedAt; // When the department being loaded was picked, FX thread only.
   
   /***************************************************************
    * JavaFX application start method. 
@@ -88,60 +140,26 @@ public class EmployeeTableView extends Application {
     // Create a TableView with a list of Employees.
     final TableView<Employee> table = new TableView<>();
 
-    Optional<Pair<String, String>> login;
-    if ( !EmployeeTableViewUtility.openDB( url, userId, password ) ) {
-      int loginAttempts=1;
-      while( true ) {
-        // Ask user for id/password, attempt access database.
-        login = loginDialog( userId, password );
-        if ( !login.isPresent() ) {
-          // User cancelled/closed login dialog.
-  	      alertDialog( "Program Termination", "User requested to cancel." );
-          System.exit( 0 );
-        }
-        // Fetch id & password.
-        login.ifPresent( loginPair -> {
-          userId = loginPair.getKey();
-  	      password = loginPair.getValue();
-        });
-        // Attempt to open db.
-        if ( !EmployeeTableViewUtility.openDB( url, userId, password ) ) {
-          // Login failed, clear password.
-          password = ""; 
-          if ( ++loginAttempts > MAXIMUM_LOGIN_ATTEMPTS ) {
-            // Exceeded maximum number of incorrect login attempts.
-  	  	    alertDialog( "Database Access Error", "Cannot open mySQL database!" );
-            System.exit( 0 );
-          }
-        } else
-          break; // MySQL login was successful.
-      }
-    }
-
-    // Get all departments, job type descriptions and pay frequency descriptions from the DB.
-    departments = EmployeeTableViewUtility.getDepartments();
-    if ( !EmployeeTableViewUtility.getJobTypes() ) {
-      // Failure loading job types.
-	  alertDialog( "Database Access Error", "Cannot locate job types inside mySQL database!" );
-      System.exit( 0 );
-    }
-    if ( !EmployeeTableViewUtility.getPayFrequencies() ) {
-      // Failure loading pay frequencies.
-  	  alertDialog( "Database Access Error", "Cannot locate pay frequencies inside mySQL database!" );
-      System.exit( 0 );
-    }
+    // Show the last snapshot straight away, if offline browsing is on and there is one.
+    long snapshotStart = System.nanoTime();
+    final boolean fromSnapshot = EmployeeTableViewUtility.openSnapshot();
+    StartupTimer.log( fromSnapshot ? "snapshot" : "no snapshot", snapshotStart );
 
     // Customize TableView.
     table.setPlaceholder( new Label( "Select a department above to view data." ) );
     table.setColumnResizePolicy( TableView.CONSTRAINED_RESIZE_POLICY );
-    // Make the table editable.
-	table.setEditable( true );
+    // Made editable once the database is open.
+	table.setEditable( false );
     // Add columns to the TableView, in correct order, with First Name Column as editable.
     table.getColumns().addAll( 
       EmployeeTableViewUtility.getIdColumn(), 
       EmployeeTableViewUtility.getLastNameColumn()
     );
-	EmployeeTableViewUtility.addFirstNameColumn( table ); // Editable column.
+    // Search box, filters the loaded department through an index.
+    final TextField tfSearch = new TextField();
+    tfSearch.setPromptText( "Search name, email or phone" );
+    final EmployeeSearchFilter search = new EmployeeSearchFilter( table, tfSearch );
+	EmployeeTableViewUtility.addFirstNameColumn( table, search::update ); // Editable column.
     table.getColumns().addAll( 
       EmployeeTableViewUtility.getJobTypeColumn(),
       EmployeeTableViewUtility.getPayColumn(),
@@ -149,28 +167,97 @@ public class EmployeeTableView extends Application {
       EmployeeTableViewUtility.getEmailColumn(),
       EmployeeTableViewUtility.getTelephoneColumn()
     );
+    ScrollFrameTimer.watch( table );
 
     // Set combobox label.
     Label lblDepartments = new Label( "Department:" );
     // Setup combobox.
     final ComboBox<String> cbDeptSelector = new ComboBox<>(); 
-    for ( Pair<Integer, String> p : departments ) {
-      try {
-        cbDeptSelector.getItems().add( p.getValue().toString() );
-      } catch ( Exception ex ) {
-        // Throw up an error dialog and terminate program.
-        alertDialog( "Data Error", "Department list ComboBox data corrupted!" );
-        Platform.exit();
-      }
-    }
+    // Background loader, fills table when the query returns.
+    final EmployeeListService employeeLoader = new EmployeeListService();
+    // Applies other users' changes to the loaded rows, keeping the user's sort.
+    final EmployeeChangeFeed changeFeed = new EmployeeChangeFeed( () -> {
+      if ( !table.getSortOrder().isEmpty() )
+        table.sort();
+      search.rebuild();
+    } );
+    employeeLoader.setOnSucceeded( e -> 
+      showDepartment( table, search, changeFeed, employeeLoader.getDepartment(), employeeLoader.getValue() ) 
+    );
+    employeeLoader.setOnFailed( e -> 
+      table.setPlaceholder( new Label( "Unable to load department data." ) ) 
+    );
+    // Streaming loader, appends pages as the user scrolls.
+    final EmployeePageLoader pageLoader = new EmployeePageLoader( table );
+    // Every employee, fetched a window at a time in the table's sort order.
+    final EmployeeWindowList allEmployees = new EmployeeWindowList( () -> 
+      table.setPlaceholder( new Label( "No employees." ) ) 
+    );
+    // Header clicks re-query the all departments view, other views sort in memory.
+    table.setSortPolicy( t -> {
+      if ( t.getItems() != allEmployees )
+        return TableView.DEFAULT_SORT_POLICY.call( t );
+      allEmployees.sort( t.getSortOrder() );
+      return true;
+    } );
    	// Listener fires when combobox is changed.
     cbDeptSelector.setOnAction( e -> { 
-      table.getItems().clear();
-      int selection = departments.get( cbDeptSelector.getSelectionModel().selectedIndexProperty().getValue() ).getKey();
-      // Retrieve appropriate list of employees.
-      ObservableList<Employee> employeeList = EmployeeTableViewUtility.EmployeeGetList( selection );
-      // Fill table with list.
-      table.getItems().addAll( employeeList );
+      selectedAt = System.nanoTime();
+      try {
+        changeFeed.stop();
+        search.reset();
+        if ( table.getItems() == allEmployees ) {
+          allEmployees.close();
+          table.setItems( FXCollections.observableArrayList() );
+        }
+        table.getItems().clear();
+        table.setPlaceholder( loadingPlaceholder() );
+        int index = cbDeptSelector.getSelectionModel().getSelectedIndex();
+        if ( index < 0 )
+          return; // Selection cleared by a refresh.
+        if ( index == departments.getDepartmentCount() ) {
+          pageLoader.cancel();
+          employeeLoader.cancel();
+          allEmployees.open( table.getSortOrder() );
+          table.setItems( allEmployees );
+          return;
+        }
+        int selection = departments.getDepartmentCode( index );
+        // The feed starts from now, so a local copy could miss earlier changes.
+        if ( CHANGE_FEED )
+          EmployeeTableViewUtility.invalidateDepartment( selection );
+        // Prefetched departments show at once, with no load to wait for.
+        List<Employee> prefetched = EmployeeTableViewUtility.getPrefetched( selection );
+        if ( prefetched != null ) {
+          pageLoader.cancel();
+          employeeLoader.cancel();
+          showDepartment( table, search, changeFeed, selection, prefetched );
+          return;
+        }
+        // Retrieve appropriate list of employees, cancelling any load still in progress.
+        if ( STREAMING && EmployeeTableViewUtility.isOnline() ) {
+          pageLoader.start( selection );
+        } else {
+          employeeLoader.setDepartment( selection );
+          employeeLoader.restart();
+        }
+      } finally {
+        DEPARTMENT_SELECTED.end( selectedAt );
+      }
+    } );
+
+    // Refresh button, reloads code tables in background without a restart.
+    Button btRefresh = new Button( "_Refresh" );
+    btRefresh.setOnAction( event -> {
+      btRefresh.setDisable( true );
+      CompletableFuture.supplyAsync( EmployeeTableViewUtility::loadReferenceData, STARTUP ).thenAcceptAsync( loaded -> {
+        btRefresh.setDisable( false );
+        if ( !loaded ) {
+          alertDialog( "Database Access Error", "Cannot refresh departments, job types or pay frequencies!" );
+          return;
+        }
+        refillDepartments( cbDeptSelector, table );
+      }, FX_THREAD );
     } );
 
     // Cancel button.
@@ -179,15 +266,21 @@ public class EmployeeTableView extends Application {
     btCancel.setOnAction( event -> Platform.exit() );
 
     // Add nodes to first HBox pane.
-    HBox hBox1 = new HBox( lblDepartments, cbDeptSelector );
+    HBox hBox1 = new HBox( lblDepartments, cbDeptSelector, new Label( "Search:" ), tfSearch );
     hBox1.setSpacing( 10 );
     hBox1.setAlignment( Pos.CENTER );
     // Add nodes to second HBox pane.
-    HBox hBox2 = new HBox( btCancel );
+    HBox hBox2 = new HBox( btRefresh, btCancel );
+    hBox2.setSpacing( 10 );
     hBox2.setAlignment( Pos.BOTTOM_RIGHT );
     // Add nodes to VBox pane.
     VBox vBox = new VBox( 10 );
-    vBox.getChildren().addAll( hBox1, table, hBox2 );
+    // Payroll figures beside the table.
+    final PayrollSummaryPane payroll = new PayrollSummaryPane( table );
+    SplitPane split = new SplitPane( table, payroll );
+    split.setDividerPositions( 0.6 );
+    VBox.setVgrow( split, Priority.ALWAYS );
+    vBox.getChildren().addAll( hBox1, split, hBox2 );
     vBox.setAlignment( Pos.CENTER );
 
     // Add bling.
@@ -203,7 +296,247 @@ public class EmployeeTableView extends Application {
     Scene scene = new Scene( vBox );
     stage.setScene( scene );
     stage.setTitle( "Employee TableView" );
+    // Departments from the snapshot, or a disabled combobox until they arrive.
+    fillDepartments( cbDeptSelector );
+    btRefresh.setDisable( true );
     stage.show();
+    Metrics.startFxProbe();
+    new AnimationTimer() {
+      @Override
+      public void handle( final long now ) {
+        StartupTimer.mark( "first frame" );
+        stop();
+      }
+    }.start();
+
+    // Login, then load everything else, without holding up the FX thread.
+    final long loginStart = System.nanoTime();
+    login( fromSnapshot ).thenAcceptAsync( online -> {
+      StartupTimer.log( "login", loginStart );
+      if ( !online ) {
+        // No database, browse the snapshot read-only.
+        stage.setTitle( "Employee TableView (offline)" );
+        return;
+      }
+      // Edits need somewhere to go, never editable while browsing the snapshot.
+      table.setEditable( EmployeeTableViewUtility.isOnline() || EmployeeTableViewUtility.isServed() );
+      btRefresh.setDisable( false );
+      loadInBackground( fromSnapshot, cbDeptSelector, table );
+      payroll.refresh();
+    }, FX_THREAD );
+  }
+
+  /***************************************************************
+   * Show a department's employees, once loaded or prefetched.
+   **************************************************************/
+  private void showDepartment( final TableView<Employee> table, final EmployeeSearchFilter search,
+                               final EmployeeChangeFeed changeFeed, final int department, final List<Employee> employees ) {
+    final long start = System.nanoTime();
+    table.setPlaceholder( new Label( "No employees in this department." ) );
+    table.getItems().setAll( employees );
+    DEPARTMENT_SHOWN.end( start, table.getItems().size() );
+    search.index();
+    // Selection to rows on screen, database and FX queue wait included.
+    DEPARTMENT_LOAD.end( selectedAt, table.getItems().size() );
+    if ( CHANGE_FEED && EmployeeTableViewUtility.isOnline() )
+      changeFeed.start( department, table.getItems() );
+  }
+
+  /***************************************************************
+   * JavaFX application stop method. 
+   **************************************************************/
+  @Override
+  public void stop() {
+    EmployeeTableViewUtility.shutdown();
+  }
+
+  /***************************************************************
+   * Open the database, asking for a user id and password until
+   * login succeeds. Completes with false if the user gives up and
+   * a snapshot was opened (-Demployee.offline=true), otherwise
+   * terminates. Connection
+   * attempts run in background, dialogs on the FX thread. The
+   * query service checks the same user id and password.
+   **************************************************************/
+  private CompletableFuture<Boolean> login( final boolean offlineAllowed ) {
+    return openDB().thenComposeAsync( opened ->
+      opened ? CompletableFuture.completedFuture( true ) : loginAttempt( 1, offlineAllowed ), FX_THREAD );
+  }
+
+  private CompletableFuture<Boolean> loginAttempt( final int loginAttempts, final boolean offlineAllowed ) {
+    // Ask user for id/password, attempt access database.
+    Optional<Pair<String, String>> login = loginDialog( userId, password );
+    if ( !login.isPresent() ) {
+      // User cancelled/closed login dialog.
+      if ( offlineAllowed )
+        return CompletableFuture.completedFuture( false );
+      alertDialog( "Program Termination", "User requested to cancel." );
+      System.exit( 0 );
+    }
+    // Fetch id & password.
+    login.ifPresent( loginPair -> {
+      userId = loginPair.getKey();
+      password = loginPair.getValue();
+    });
+    // Attempt to open db.
+    return openDB().thenComposeAsync( opened -> {
+      if ( opened )
+        return CompletableFuture.completedFuture( true ); // MySQL login was successful.
+      // Login failed, clear password.
+      password = "";
+      if ( loginAttempts >= MAXIMUM_LOGIN_ATTEMPTS ) {
+        // Exceeded maximum number of incorrect login attempts.
+        if ( offlineAllowed ) {
+          alertDialog( "Database Access Error", "Cannot open " + DATABASE + "! Browsing the local snapshot offline." );
+          return CompletableFuture.completedFuture( false );
+        }
+        alertDialog( "Database Access Error", "Cannot open " + DATABASE + "!" );
+        System.exit( 0 );
+      }
+      return loginAttempt( loginAttempts + 1, offlineAllowed );
+    }, FX_THREAD );
+  }
+
+  private CompletableFuture<Boolean> openDB() {
+    final String id = userId, pwd = password;
+    if ( !SERVICE_URL.isEmpty() )
+      return CompletableFuture.supplyAsync(
+        StartupTimer.timed( "connect", () -> EmployeeTableViewUtility.openService( SERVICE_URL, id, pwd ) ), STARTUP );
+    return CompletableFuture.supplyAsync(
+      StartupTimer.timed( "connect", () -> EmployeeTableViewUtility.openDB( url, id, pwd ) ), STARTUP );
+  }
+
+  /***************************************************************
+   * Startup after login. The code tables load while spare pool
+   * connections are opened, each on its own connection. The
+   * combobox fills as soon as the code tables arrive, then the
+   * snapshot, if offline browsing is on, is saved for next time.
+   **************************************************************/
+  private static void loadInBackground( final boolean fromSnapshot, final ComboBox<String> cbDeptSelector, final TableView<Employee> table ) {
+    final List<CompletableFuture<?>> stages = new ArrayList<>();
+    // Get all departments, job type descriptions and pay frequency descriptions from the DB.
+    CompletableFuture<Boolean> codes = CompletableFuture.supplyAsync(
+      StartupTimer.timed( "reference data", EmployeeTableViewUtility::loadReferenceData ), STARTUP );
+    stages.add( codes );
+    for ( int i = 1; i <= SPARE_CONNECTIONS; i++ )
+      stages.add( CompletableFuture.supplyAsync( StartupTimer.timed( "spare connection " + i, () -> {
+        try {
+          EmployeeTableViewUtility.prestartConnection();
+          return null;
+        } catch ( SQLException ex ) {
+          throw new CompletionException( ex );
+        }
+      } ), STARTUP ) );
+
+    stages.add( codes.thenAcceptAsync( loaded -> {
+      if ( !loaded ) {
+        if ( !fromSnapshot ) {
+          // Failure loading code tables.
+          alertDialog( "Database Access Error", "Cannot locate departments, job types or pay frequencies inside mySQL database!" );
+          System.exit( 0 );
+        }
+        return; // Keep the snapshot's.
+      }
+      refillDepartments( cbDeptSelector, table );
+      StartupTimer.mark( "departments shown" );
+    }, FX_THREAD ) );
+
+    // One streamed query for every department, rather than one per selection.
+    CompletableFuture<?> prefetched = codes;
+    if ( PREFETCH && EmployeeTableViewUtility.isOnline() ) {
+      prefetched = codes.thenAcceptAsync( loaded -> {
+        if ( !loaded )
+          return;
+        long start = System.nanoTime();
+        try {
+          EmployeeTableViewUtility.prefetchAllEmployees();
+        } catch ( SQLException ex ) {
+          throw new CompletionException( ex );
+        } finally {
+          StartupTimer.log( "prefetch", start );
+        }
+      }, STARTUP );
+      stages.add( prefetched );
+    }
+
+    // After the prefetch, so its roster is written out rather than read again; if it failed, the snapshot reads its own.
+    stages.add( prefetched.handle( ( done, ex ) -> codes.join() ).thenApplyAsync( loaded -> {
+      if ( !loaded )
+        return 0L;
+      long start = System.nanoTime();
+      try {
+        return EmployeeTableViewUtility.saveSnapshot();
+      } catch ( SQLException | IOException ex ) {
+        throw new CompletionException( ex );
+      } finally {
+        StartupTimer.log( "snapshot save", start );
+      }
+    }, STARTUP ) );
+
+    // A missing index makes every department load scan the employee table.
+    if ( QueryPlanCheck.ENABLED && EmployeeTableViewUtility.isOnline() )
+      stages.add( CompletableFuture.supplyAsync( StartupTimer.timed( "query plans", () -> {
+        try {
+          return EmployeeTableViewUtility.checkQueryPlans();
+        } catch ( SQLException ex ) {
+          throw new CompletionException( ex );
+        }
+      } ), STARTUP ).thenAcceptAsync( problems -> {
+        if ( problems.isEmpty() )
+          return;
+        for ( String problem : problems )
+          System.err.println( "Query plan: " + problem );
+        alertDialog( "Query Plan Error", "Stored procedures are scanning or sorting tables without an index, apply the schema migrations (EmployeeMigrate)!"
+          + System.lineSeparator() + String.join( System.lineSeparator(), problems ) );
+      }, FX_THREAD ) );
+
+    CompletableFuture.allOf( stages.toArray( new CompletableFuture<?>[stages.size()] ) ).whenComplete( ( done, ex ) -> {
+      if ( ex != null )
+        System.err.println( "Startup stage failed: " + ( ex.getCause() == null ? ex : ex.getCause() ).getMessage() );
+      StartupTimer.mark( "startup complete" );
+    } );
+  }
+
+  /***************************************************************
+   * Refill department combobox after the code tables changed,
+   * keeping the same department selected if it still exists.
+   **************************************************************/
+  private static void refillDepartments( final ComboBox<String> cbDeptSelector, final TableView<Employee> table ) {
+    int index = cbDeptSelector.getSelectionModel().getSelectedIndex();
+    boolean all = index >= 0 && index == departments.getDepartmentCount();
+    int code = ( index < 0 || all ? -1 : departments.getDepartmentCode( index ) );
+    fillDepartments( cbDeptSelector );
+    for ( int i = 0; i < departments.getDepartmentCount(); i++ )
+      if ( departments.getDepartmentCode( i ) == code )
+        cbDeptSelector.getSelectionModel().select( i );
+    if ( all && cbDeptSelector.getItems().size() > departments.getDepartmentCount() )
+      cbDeptSelector.getSelectionModel().selectLast();
+    table.refresh(); // Descriptions may have changed.
+  }
+
+  /***************************************************************
+   * Fill department combobox from the current code tables. 
+   **************************************************************/
+  private static void fillDepartments( final ComboBox<String> cbDeptSelector ) {
+    departments = EmployeeTableViewUtility.getReferenceData();
+    cbDeptSelector.getItems().clear();
+    for ( int i = 0; i < departments.getDepartmentCount(); i++ )
+      cbDeptSelector.getItems().add( departments.getDepartmentName( departments.getDepartmentCode( i ) ) );
+    // Needs the database to sort and window the rows.
+    if ( !departments.isEmpty() && EmployeeTableViewUtility.isOnline() )
+      cbDeptSelector.getItems().add( ALL_DEPARTMENTS );
+    // Nothing to choose until the code tables arrive.
+    cbDeptSelector.setDisable( departments.isEmpty() );
+    cbDeptSelector.setPromptText( departments.isEmpty() ? "Loading..." : "" );
+  }
+
+  /***************************************************************
+   * Placeholder shown while a department is loading.
+   **************************************************************/
+  private static Label loadingPlaceholder() {
+    ProgressIndicator spinner = new ProgressIndicator();
+    spinner.setMaxSize( 24, 24 );
+    return new Label( "Loading department...", spinner );
   }
 
   /***************************************************************
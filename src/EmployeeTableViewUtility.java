@@ -19,157 +19,874 @@
  *   02/23/2017: Initial release. JME
  *   03/05/2017: Made first name column editable. JME
  *   04/28/2017: Added title case utility method. JME
+ *   10/18/2026: Queries borrow from a connection pool.
+ *   10/18/2026: Cache employee lists by department.
+ *   10/18/2026: Added keyset paged department query.
+ *   10/18/2026: First name edits are written behind in batches.
+ *   10/18/2026: Reuse cached statements for every query.
+ *   10/18/2026: Code tables loaded together into ReferenceData.
+ *   10/18/2026: Employee pay held as cents.
+ *   10/18/2026: Title case delegates to memoized TitleCase.
+ *   10/18/2026: Exposed row mapping and reference data for benchmarks.
+ *   10/18/2026: Added streaming employee export.
+ *   10/18/2026: Browse a local snapshot until (or without) login.
+ *   10/18/2026: Spare connections can be opened during startup.
+ *   10/18/2026: Employee rows mapped by precompiled column index.
+ *   10/18/2026: Added department change feed query.
+ *   10/18/2026: Queries timed into Metrics operations.
+ *   10/18/2026: Added sorted window query, pay sorts by amount.
+ *   10/18/2026: First name edits reported, for the search index.
+ *   10/18/2026: Added batched employee inserts for bulk import.
+ *   10/18/2026: Added payroll aggregation queries.
+ *   10/18/2026: Whole roster can be prefetched in one query.
+ *   10/18/2026: Queries can be served by the query service instead of JDBC.
+ *   10/18/2026: Columns read fields directly, descriptions shared per code.
+ *   10/18/2026: Added schema migrations and the query plan check.
+ *   10/18/2026: Snapshot only with employee.offline, saved from the roster.
+ *   10/18/2026: EmployeeGetList throws when the department can't be read.
+ *   10/18/2026: Queries without a database connection fail with "Not connected."
+ *   10/18/2026: Pay cells show the employee's formatted pay instead of reformatting it.
+ *   10/18/2026: Added shutdown, which also stops the write-behind queue.
+ *   10/18/2026: The query service is opened with the user's login.
+ *   10/18/2026: A page that can't be read throws instead of coming back empty.
  *************************************************************************/
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.Tooltip;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.TableColumn.CellEditEvent;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.control.cell.TextFieldTableCell;
-import javafx.util.Pair;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class EmployeeTableViewUtility {
-  // ArrayLists hold job and pay frequency descriptions.
-  private final static List<String> jobDescriptions = new ArrayList<String>();
-  private final static List<String> payFrequencies = new ArrayList<String>();
-  private static Connection connection; // MySQL database connection object.
+  // Department, job and pay frequency descriptions.
+  private static volatile ReferenceData referenceData = ReferenceData.EMPTY;
+  private static volatile ConnectionPool pool; // Pool of MySQL database connections, null while offline.
+  private static volatile EmployeeServiceClient service; // Query service used instead of the pool, if any.
+  private static volatile EmployeeSnapshot snapshot; // Local copy of the database, served while offline.
+  // Offline browsing keeps employee data on disk, so it is opt-in.
+  private final static boolean OFFLINE = Boolean.getBoolean( "employee.offline" );
+  // Snapshot location, an empty property disables it.
+  private final static String SNAPSHOT_FILE = !OFFLINE ? "" : System.getProperty( "employee.snapshot.file",
+    Paths.get( System.getProperty( "user.home" ), ".employee-tableview", "snapshot.bin" ).toString() );
+  private final static EmployeeCache employeeCache = new EmployeeCache(); // Recently viewed departments.
+  private static volatile EmployeeRoster roster = EmployeeRoster.EMPTY; // Prefetched departments, if any.
+  private final static FirstNameWriteQueue firstNameWriter = new FirstNameWriteQueue(); // Pending first name edits.
+  private static boolean saveAlertPending = false; // One alert per failed batch, FX thread only.
+  private final static String UPDATE_FIRST_NAME = "UPDATE employee SET first_name = ? WHERE employee_id = ?";
+  // Same rows as sp_all_employees, which can't take an ORDER BY or LIMIT.
+  private final static String ALL_EMPLOYEES = "SELECT * FROM employee";
+  private final static String COUNT_EMPLOYEES = "SELECT COUNT(*) FROM employee";
+  // Timed operations, see Metrics.java.
+  private final static Operation OPEN_DB = Metrics.operation( "openDB" );
+  private final static Operation LOAD_REFERENCE_DATA = Metrics.operation( "loadReferenceData" );
+  private final static Operation GET_LIST = Metrics.operation( "EmployeeGetList" );
+  private final static Operation GET_LIST_EXECUTE = Metrics.operation( "EmployeeGetList.execute" );
+  private final static Operation GET_PAGE = Metrics.operation( "EmployeeGetPage" );
+  private final static Operation GET_CHANGES = Metrics.operation( "EmployeeGetChanges" );
+  private final static Operation GET_WINDOW = Metrics.operation( "EmployeeGetWindow" );
+  private final static Operation STREAM = Metrics.operation( "streamEmployees" );
+  private final static Operation READ_EMPLOYEES = Metrics.operation( "readEmployees" );
+  private final static Operation UPDATE_NAME = Metrics.operation( "updateFirstName" );
+  private final static Operation UPDATE_NAMES = Metrics.operation( "updateFirstNames" );
+  private final static Operation ADD_EMPLOYEES = Metrics.operation( "addEmployees" );
+  private final static Operation PREFETCH = Metrics.operation( "prefetchAllEmployees" );
+  private final static Operation PAYROLL = Metrics.operation( "PayrollGetSummary" );
+  private final static Operation PAYROLL_PERCENTILES = Metrics.operation( "PayrollGetPercentiles" );
 
   /***************************************************************
    * Open MySQL database. 
    **************************************************************/
   public static boolean openDB( final String url, final String userId, final String password ) {
-    // Open mysql database connection.
+    // Discard pool from any previous (failed) login attempt.
+    closeDB();
+    // Open mysql database connection pool, borrowing once to verify login.
+    final long start = System.nanoTime();
+    ConnectionPool candidate = new ConnectionPool( url, userId, password );
     try {
       //Class.forName( "com.mysql.jdbc.Driver" ); // Not required.
-      connection = DriverManager.getConnection( url, userId, password );
+      candidate.borrow().close();
+      pool = candidate;
+      OPEN_DB.end( start );
       return true;
     } catch ( Exception ex ) {
+      candidate.close();
+      OPEN_DB.failed( start );
       return false;
     }
   }
 
   /***************************************************************
-   * Retrieve a list of MySQL Employee database department fields. 
+   * Close MySQL database connection pool. 
    **************************************************************/
-  public final static List<Pair<Integer, String>> getDepartments() {
-    final List<Pair<Integer, String>> departments = new ArrayList<>();
+  public static void closeDB() {
+    // Write out any edits still waiting in the queue.
+    firstNameWriter.flush();
+    if ( pool != null ) {
+      pool.close();
+      pool = null;
+    }
+    service = null;
+    roster = EmployeeRoster.EMPTY;
+  }
 
-    try ( CallableStatement statement = connection.prepareCall( "{ call sp_all_departments() }" ) ) {
-      ResultSet resultSet = statement.executeQuery();
-      while ( resultSet.next() ) {
-      	int index = resultSet.getInt( "department_code" );
-      	String name = resultSet.getString( "department_name" );
-    	// Using pair because MySQL returns data in alphabetical order.
-        departments.add( new Pair<Integer, String>( index, name ) );
-      }
-    } catch ( SQLException ex ) {
-      System.err.println( "Department exception " + ex.getMessage() );
-	  EmployeeTableView.alertDialog( "Database Access Error", "Cannot locate departments inside mySQL database!" );
-      System.exit( 0 );
+  /***************************************************************
+   * Write out the remaining edits, stop the write-behind queue and
+   * close the database, when the program ends. closeDB only
+   * flushes, it is also called between login attempts.
+   **************************************************************/
+  public static void shutdown() {
+    firstNameWriter.close();
+    closeDB();
+  }
+
+  /***************************************************************
+   * Use a query service (see EmployeeQueryService) instead of
+   * opening the database, logging in with the MySQL user id and
+   * password. Department lists, code tables and first name edits
+   * then go through the service; features that need the database
+   * itself stay unavailable, as when offline.
+   **************************************************************/
+  public static boolean openService( final String url, final String userId, final String password ) {
+    closeDB();
+    final long start = System.nanoTime();
+    EmployeeServiceClient candidate = new EmployeeServiceClient( url, userId, password );
+    try {
+      candidate.ping();
+      service = candidate;
+      OPEN_DB.end( start );
+      return true;
+    } catch ( IOException ex ) {
+      System.err.println( "Query service exception " + ex.getMessage() );
+      OPEN_DB.failed( start );
+      return false;
     }
-    // Put into ascending order using a lambda comparator.
-    Collections.sort( departments, ( a, b ) -> a.getKey().compareTo( b.getKey() ) );
-    return departments;
   }
 
   /***************************************************************
-   * Retrieve MySQL Employee database job type fields. 
+   * Retrieve MySQL Employee database department, job type and pay
+   * frequency fields in one round trip. Also used to refresh them.
    **************************************************************/
-  public final static boolean getJobTypes() {
-    try ( Statement statement = connection.createStatement() ) {
-      // execute our query, and get a java resultset
-        ResultSet resultSet = statement.executeQuery( "SELECT * FROM job_type" );
-        while ( resultSet.next() ) {
-          String description = resultSet.getString( "Job_type_description" );
-          jobDescriptions.add( description );
+  public final static boolean loadReferenceData() {
+    final long start = System.nanoTime();
+    EmployeeServiceClient remote = service;
+    if ( pool == null && remote != null ) {
+      try {
+        ReferenceData data = remote.getReferenceData();
+        if ( data.isEmpty() ) {
+          LOAD_REFERENCE_DATA.failed( start );
+          return false;
         }
+        referenceData = data;
+        LOAD_REFERENCE_DATA.end( start );
+        return true;
+      } catch ( IOException ex ) {
+        LOAD_REFERENCE_DATA.failed( start );
+        System.err.println( "Reference data exception " + ex.getMessage() );
+        return false;
+      }
+    }
+    try ( PooledConnection pooled = connected().borrow() ) {
+      ReferenceData data = ReferenceData.load( pooled );
+      if ( data.isEmpty() ) {
+        LOAD_REFERENCE_DATA.failed( start );
+        return false;
+      }
+      referenceData = data; // Swap in new snapshot.
+      LOAD_REFERENCE_DATA.end( start );
     } catch ( SQLException ex ) {
-      System.err.println( "Job type exception " + ex.getMessage() );
+      LOAD_REFERENCE_DATA.failed( start );
+      System.err.println( "Reference data exception " + ex.getMessage() );
       return false;
     }
     return true;
   }
 
-  public final static String getJobDescription( final int jCode ) {
-    return jobDescriptions.get( jCode - 1 );  // Array index is 0-based.
+  /***************************************************************
+   * Map the local snapshot and use its code tables until the
+   * database has been reached. Returns false if there is none or
+   * offline browsing is off.
+   **************************************************************/
+  public final static boolean openSnapshot() {
+    if ( SNAPSHOT_FILE.isEmpty() || !Files.exists( Paths.get( SNAPSHOT_FILE ) ) )
+      return false;
+    try {
+      EmployeeSnapshot opened = EmployeeSnapshot.open( Paths.get( SNAPSHOT_FILE ) );
+      if ( opened.getReferenceData().isEmpty() )
+        return false;
+      snapshot = opened;
+      referenceData = opened.getReferenceData();
+      return true;
+    } catch ( IOException ex ) {
+      System.err.println( "Snapshot exception " + ex.getMessage() );
+      return false;
+    }
   }
 
   /***************************************************************
-   * Retrieve MySQL Employee database pay frequency fields. 
+   * Apply the schema migrations in directory that the database
+   * hasn't had yet, returning those applied. See SchemaMigrations.
    **************************************************************/
-  public final static boolean getPayFrequencies() {
-    try ( Statement statement = connection.createStatement() ) {
-      // execute our query, and get a java resultset
-        ResultSet resultSet = statement.executeQuery( "SELECT * FROM pay_frequency" );
-        while ( resultSet.next() ) {
-          String description =  resultSet.getString( "pay_freq_description" );
-          payFrequencies.add( description );
+  public final static List<SchemaMigrations.Script> migrateSchema( final Path directory, final int baseline ) throws SQLException, IOException {
+    List<SchemaMigrations.Script> scripts = SchemaMigrations.scan( directory );
+    try ( PooledConnection pooled = connected().borrow() ) {
+      return SchemaMigrations.migrate( pooled.getConnection(), scripts, baseline );
+    }
+  }
+
+  // Stored procedure plans that scan instead of using an index, see QueryPlanCheck.
+  public final static List<String> checkQueryPlans() throws SQLException {
+    try ( PooledConnection pooled = connected().borrow() ) {
+      return QueryPlanCheck.check( pooled.getConnection() );
+    }
+  }
+
+  /***************************************************************
+   * Rebuild the local snapshot, using the code tables already
+   * loaded. The prefetched roster is written out if it is whole,
+   * otherwise every employee is read from the database. Returns
+   * the number of employees saved.
+   **************************************************************/
+  public final static long saveSnapshot() throws SQLException, IOException {
+    if ( SNAPSHOT_FILE.isEmpty() || pool == null )
+      return 0;
+    Path path = Paths.get( SNAPSHOT_FILE );
+    final ReferenceData codes = referenceData;
+    final Map<Integer, List<Employee>> prefetched = roster.getAll( codes );
+    long rows = 0;
+    try ( EmployeeSnapshot.Writer writer = new EmployeeSnapshot.Writer( path, codes ) ) {
+      if ( prefetched == null )
+        rows = streamEmployees( -1, writer );
+      else
+        for ( Map.Entry<Integer, List<Employee>> entry : prefetched.entrySet() ) {
+          for ( Employee employee : entry.getValue() )
+            writer.add( entry.getKey(), employee );
+          rows += entry.getValue().size();
         }
-    } catch ( SQLException ex ) {
-      System.err.println( "Pay frequency exception " + ex.getMessage() );
-      return false;
     }
-    return true;
+    snapshot = EmployeeSnapshot.open( path );
+    return rows;
+  }
+
+  /***************************************************************
+   * Open a spare pooled connection ahead of need.
+   **************************************************************/
+  public final static void prestartConnection() throws SQLException {
+    ConnectionPool current = pool;
+    if ( current != null )
+      current.prestart();
+  }
+
+  public final static EmployeeSnapshot getSnapshot() { return snapshot; }
+  public final static boolean isOnline() { return pool != null; }
+  public final static boolean isServed() { return service != null; }
+
+  // The database pool, or a clear error when browsing a snapshot offline or after closeDB.
+  private static ConnectionPool connected() throws SQLException {
+    ConnectionPool current = pool;
+    if ( current == null )
+      throw new SQLException( "Not connected." );
+    return current;
+  }
+
+  public final static ReferenceData getReferenceData() { return referenceData; }
+  public final static void setReferenceData( final ReferenceData data ) { referenceData = data; }
+
+  public final static String getJobDescription( final int jCode ) {
+    return referenceData.getJobDescription( jCode );
   }
 
   public final static String getPayFrequency( final int pCode ) {
-    return payFrequencies.get( pCode - 1 ); // Array index is 0-based.
+    return referenceData.getPayFrequency( pCode );
   }
 
   /***************************************************************
    * Retrieve MySQL Employee fields and insert into collection 
-   * of (observableList) of the Employee class. 
+   * of (observableList) of the Employee class. Throws if the
+   * department can't be read, so the caller can tell a failure
+   * from an empty department.
    **************************************************************/
-  public final static ObservableList<Employee> EmployeeGetList( final int departmentNumber ) {
-    final ObservableList<Employee> employeeList = FXCollections.<Employee>observableArrayList();
+  public final static ObservableList<Employee> EmployeeGetList( final int departmentNumber ) throws SQLException {
+    final long start = System.nanoTime();
+    // Serve prefetched or recently viewed departments without a database round trip.
+    List<Employee> cached = roster.get( departmentNumber );
+    if ( cached == null )
+      cached = employeeCache.get( departmentNumber );
+    if ( cached != null ) {
+      GET_LIST.end( start, cached.size() );
+      return FXCollections.<Employee>observableArrayList( cached );
+    }
+    // Browsing offline, fall back to the snapshot.
+    EmployeeSnapshot local = snapshot;
+    if ( pool == null && service == null ) {
+      List<Employee> employees = local == null ? new ArrayList<>() : local.getEmployees( departmentNumber );
+      GET_LIST.end( start, employees.size() );
+      return FXCollections.<Employee>observableArrayList( employees );
+    }
+
+    try {
+      List<Employee> employees = EmployeeGetDepartment( departmentNumber );
+      // Only complete results are cached.
+      employeeCache.put( departmentNumber, employees );
+      GET_LIST.end( start, employees.size() );
+      return FXCollections.observableList( employees );
+    } catch ( SQLException ex ) {
+      GET_LIST.failed( start );
+      System.err.println( "SQL exception " + ex.getMessage() );
+      throw ex;
+    }
+  }
 
-    try ( CallableStatement statement = connection.prepareCall( "{ call sp_employees_in_dept( ? ) }" ) ) {
+  /***************************************************************
+   * Query a department's employees, from the query service when
+   * using one. Bypasses every local copy.
+   **************************************************************/
+  public final static List<Employee> EmployeeGetDepartment( final int departmentNumber ) throws SQLException {
+    EmployeeServiceClient remote = service;
+    if ( pool == null && remote != null ) {
+      try {
+        return remote.getEmployees( departmentNumber );
+      } catch ( IOException ex ) {
+        throw new SQLException( "Query service: " + ex.getMessage(), ex );
+      }
+    }
+    final List<Employee> employees = new ArrayList<>();
+    try ( PooledConnection pooled = connected().borrow() ) {
+      CallableStatement statement = pooled.prepareCall( "{ call sp_employees_in_dept( ? ) }" );
       statement.setString( 1, String.valueOf( departmentNumber ) ); // Insert department number to fetch.
-      ResultSet resultSet = statement.executeQuery();
-      while ( resultSet.next() ) {
-        // Extract the following data from the MySQL DB table.
-        int id = resultSet.getInt( "employee_id" );
-        String lName = resultSet.getString( "last_name" );
-        String fName = resultSet.getString( "first_name" );
-        int jCode = resultSet.getInt( "job_type_code" );
-        String email = resultSet.getString( "email_address" );
-        String tele = resultSet.getString( "telephone" );
-        double pay = resultSet.getInt( "pay" );
-        int pCode = resultSet.getInt( "pay_freq_code" );
-        employeeList.add( new Employee( id, fName, lName, jCode, pCode, pay, email, tele ) );
+      final long executed = System.nanoTime();
+      try ( ResultSet resultSet = statement.executeQuery() ) {
+        GET_LIST_EXECUTE.end( executed );
+        readEmployees( resultSet, employees );
+      }
+    }
+    return employees;
+  }
+
+  /***************************************************************
+   * Retrieve one page of a department's employees, in employee id
+   * order, starting after the supplied id (use 0 for first page).
+   * Throws if the page can't be read, so the caller can tell a
+   * failure from the end of the department.
+   **************************************************************/
+  public final static List<Employee> EmployeeGetPage( final int departmentNumber, final int afterId, final int pageSize ) throws SQLException {
+    final long start = System.nanoTime();
+    EmployeeSnapshot local = snapshot;
+    if ( pool == null ) {
+      List<Employee> page = local == null ? new ArrayList<>() : local.getEmployees( departmentNumber, afterId, pageSize );
+      GET_PAGE.end( start, page.size() );
+      return page;
+    }
+    final List<Employee> page = new ArrayList<>( pageSize );
+
+    try ( PooledConnection pooled = connected().borrow() ) {
+      CallableStatement statement = pooled.prepareCall( "{ call sp_employees_in_dept_page( ?, ?, ? ) }" );
+      statement.setInt( 1, departmentNumber );
+      statement.setInt( 2, afterId );
+      statement.setInt( 3, pageSize );
+      try ( ResultSet resultSet = statement.executeQuery() ) {
+        readEmployees( resultSet, page );
       }
+      GET_PAGE.end( start, page.size() );
     } catch ( SQLException ex ) {
-      System.err.println( "SQL exception " + ex.getMessage() );
+      GET_PAGE.failed( start );
+      System.err.println( "SQL page exception " + ex.getMessage() );
+      throw ex;
+    }
+    return page;
+  }
+
+  /***************************************************************
+   * Stream a department's employees (all employees when the
+   * department is negative) row by row to a writer, without
+   * building Employee objects. Returns the number of rows written.
+   **************************************************************/
+  public final static long streamEmployees( final int departmentNumber, final EmployeeRowWriter writer ) throws SQLException, IOException {
+    final String sql = departmentNumber < 0 ? "{ call sp_all_employees() }" : "{ call sp_employees_in_dept( ? ) }";
+    final long start = System.nanoTime();
+    long rows = 0;
+
+    try ( PooledConnection pooled = connected().borrow() ) {
+      Connection connection = pooled.getConnection();
+      // One-off forward-only statement, streaming needs its own settings.
+      try ( CallableStatement statement = connection.prepareCall( sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY ) ) {
+        if ( departmentNumber >= 0 )
+          statement.setInt( 1, departmentNumber );
+        // Connector/J only streams rows for a fetch size of MIN_VALUE, other drivers take a hint.
+        boolean mysql = connection.getMetaData().getDriverName().toLowerCase().contains( "mysql" );
+        statement.setFetchSize( mysql ? Integer.MIN_VALUE : 1000 );
+        try ( ResultSet resultSet = statement.executeQuery() ) {
+          while ( resultSet.next() ) {
+            writer.write( resultSet );
+            rows++;
+          }
+        }
+      }
+    } catch ( SQLException | IOException | RuntimeException ex ) {
+      STREAM.failed( start );
+      throw ex;
+    }
+    STREAM.end( start, rows );
+    return rows;
+  }
+
+  /***************************************************************
+   * Retrieve a department's changes since a watermark (null for
+   * just the server time). Requires the change tracking migration.
+   **************************************************************/
+  public final static EmployeeChanges EmployeeGetChanges( final int departmentNumber, final Timestamp since ) throws SQLException {
+    final long start = System.nanoTime();
+    try ( PooledConnection pooled = connected().borrow() ) {
+      CallableStatement statement = pooled.prepareCall( "{ call sp_employee_changes( ?, ? ) }" );
+      statement.setInt( 1, departmentNumber );
+      if ( since == null )
+        statement.setNull( 2, Types.TIMESTAMP );
+      else
+        statement.setTimestamp( 2, since );
+      if ( !statement.execute() )
+        throw new SQLException( "sp_employee_changes returned no results." );
+
+      Timestamp watermark;
+      try ( ResultSet resultSet = statement.getResultSet() ) {
+        if ( !resultSet.next() )
+          throw new SQLException( "sp_employee_changes returned no watermark." );
+        watermark = resultSet.getTimestamp( 1 );
+      }
+      List<Employee> changed = new ArrayList<>();
+      if ( statement.getMoreResults() )
+        try ( ResultSet resultSet = statement.getResultSet() ) {
+          readEmployees( resultSet, changed );
+        }
+      Set<Integer> removed = new HashSet<>();
+      if ( statement.getMoreResults() )
+        try ( ResultSet resultSet = statement.getResultSet() ) {
+          while ( resultSet.next() )
+            removed.add( resultSet.getInt( 1 ) );
+        }
+      // Drain the procedure's trailing update count.
+      boolean more = statement.getMoreResults();
+      while ( more || statement.getUpdateCount() != -1 )
+        more = statement.getMoreResults();
+
+      // Whatever is cached for the department is now stale.
+      if ( !changed.isEmpty() || !removed.isEmpty() )
+        invalidateDepartment( departmentNumber );
+      GET_CHANGES.end( start, changed.size() + removed.size() );
+      return new EmployeeChanges( watermark, changed, removed );
+    } catch ( SQLException | RuntimeException ex ) {
+      GET_CHANGES.failed( start );
+      throw ex;
+    }
+  }
+
+  /***************************************************************
+   * Number of employees in the company.
+   **************************************************************/
+  public final static int EmployeeCount() throws SQLException {
+    try ( PooledConnection pooled = connected().borrow() ) {
+      PreparedStatement statement = pooled.prepareStatement( COUNT_EMPLOYEES );
+      try ( ResultSet resultSet = statement.executeQuery() ) {
+        return resultSet.next() ? resultSet.getInt( 1 ) : 0;
+      }
+    }
+  }
+
+  /***************************************************************
+   * Retrieve a window of all employees, sorted by the database.
+   * Each order gets its own cached statement, the sort columns
+   * can't be parameters.
+   **************************************************************/
+  public final static List<Employee> EmployeeGetWindow( final EmployeeOrder order, final int offset, final int limit ) throws SQLException {
+    final long start = System.nanoTime();
+    final List<Employee> window = new ArrayList<>( limit );
+    try ( PooledConnection pooled = connected().borrow() ) {
+      PreparedStatement statement = pooled.prepareStatement( ALL_EMPLOYEES + " ORDER BY " + order.toSql() + " LIMIT ? OFFSET ?" );
+      statement.setInt( 1, limit );
+      statement.setInt( 2, offset );
+      try ( ResultSet resultSet = statement.executeQuery() ) {
+        readEmployees( resultSet, window );
+      }
+    } catch ( SQLException | RuntimeException ex ) {
+      GET_WINDOW.failed( start );
+      throw ex;
+    }
+    GET_WINDOW.end( start, window.size() );
+    return window;
+  }
+
+  /***************************************************************
+   * Add the remaining rows of an employee query to a collection,
+   * returning the number added. Column positions are resolved once
+   * per result shape.
+   **************************************************************/
+  public final static int readEmployees( final ResultSet resultSet, final Collection<? super Employee> employees ) throws SQLException {
+    final long start = System.nanoTime();
+    RowMapper<Employee> mapper = EmployeeRowMapper.forResultSet( resultSet );
+    int rows = 0;
+    while ( resultSet.next() ) {
+      employees.add( mapper.map( resultSet ) );
+      rows++;
     }
-    return employeeList;
+    READ_EMPLOYEES.end( start, rows );
+    return rows;
+  }
+
+  /***************************************************************
+   * Build an Employee from the current row of an employee query.
+   * Looks columns up by name, loops should use readEmployees.
+   **************************************************************/
+  public final static Employee getEmployee( final ResultSet resultSet ) throws SQLException {
+    // Extract the following data from the MySQL DB table.
+    int id = resultSet.getInt( "employee_id" );
+    String lName = resultSet.getString( "last_name" );
+    String fName = resultSet.getString( "first_name" );
+    int jCode = resultSet.getInt( "job_type_code" );
+    String email = resultSet.getString( "email_address" );
+    String tele = resultSet.getString( "telephone" );
+    long cents = Math.round( resultSet.getDouble( "pay" ) * 100.0 );
+    int pCode = resultSet.getInt( "pay_freq_code" );
+    return new Employee( id, fName, lName, jCode, pCode, cents, email, tele );
   }
 
   /***************************************************************
    * Update MySQL Employee first name field. 
    **************************************************************/
   public final static void updateFirstName( final int id, final String fName ) {
-  	try {
-      PreparedStatement statement = connection.prepareStatement( "UPDATE employee SET first_name = ? WHERE employee_id = ?" );
+    final long start = System.nanoTime();
+    if ( pool == null && service != null ) {
+      try {
+        updateFirstNames( Collections.singletonMap( id, fName ) );
+      } catch ( SQLException ex ) {
+        System.err.println( "SQL UPDATE exception "  + ex.getMessage() );
+      }
+      return;
+    }
+  	try ( PooledConnection pooled = connected().borrow() ) {
+      PreparedStatement statement = pooled.prepareStatement( UPDATE_FIRST_NAME );
       statement.setString( 1, fName.toLowerCase() ); // Insert appropriate name and id for updating.
       statement.setInt( 2, id );
       statement.executeUpdate();
+      // Cached copy of this employee's department is now stale.
+      invalidateEmployee( id );
+      UPDATE_NAME.end( start, 1 );
 	} catch ( SQLException ex ) {
+      UPDATE_NAME.failed( start );
       System.err.println( "SQL UPDATE exception "  + ex.getMessage() );
 	}
   }
   
+  /***************************************************************
+   * Update several MySQL Employee first name fields in one batch
+   * and a single transaction. Nothing is written if any fails.
+   **************************************************************/
+  public final static void updateFirstNames( final Map<Integer, String> fNames ) throws SQLException {
+    final long start = System.nanoTime();
+    EmployeeServiceClient remote = service;
+    if ( pool == null && remote != null ) {
+      try {
+        remote.updateFirstNames( fNames );
+      } catch ( IOException ex ) {
+        UPDATE_NAMES.failed( start );
+        throw new SQLException( "Query service: " + ex.getMessage(), ex );
+      }
+      UPDATE_NAMES.end( start, fNames.size() );
+      for ( int id : fNames.keySet() )
+        invalidateEmployee( id );
+      return;
+    }
+    try ( PooledConnection pooled = connected().borrow() ) {
+      Connection connection = pooled.getConnection();
+      connection.setAutoCommit( false );
+      PreparedStatement statement = pooled.prepareStatement( UPDATE_FIRST_NAME );
+      try {
+        for ( Map.Entry<Integer, String> entry : fNames.entrySet() ) {
+          statement.setString( 1, entry.getValue().toLowerCase() );
+          statement.setInt( 2, entry.getKey() );
+          statement.addBatch();
+        }
+        statement.executeBatch();
+        connection.commit();
+      } catch ( SQLException ex ) {
+        statement.clearBatch();
+        connection.rollback();
+        throw ex;
+      } finally {
+        connection.setAutoCommit( true );
+      }
+    } catch ( SQLException | RuntimeException ex ) {
+      UPDATE_NAMES.failed( start );
+      throw ex;
+    }
+    UPDATE_NAMES.end( start, fNames.size() );
+    // Cached copies of these employees' departments are now stale.
+    for ( int id : fNames.keySet() )
+      invalidateEmployee( id );
+  }
+
+  /***************************************************************
+   * Insert employees through sp_add_employee (see migration V003)
+   * in a single transaction, sending them to the server in batches
+   * of batchSize calls. Nothing is inserted if any fails. Connector/J
+   * only rewrites batched INSERTs into one statement; a batch of
+   * CALLs still costs a round trip per row, so the commit size and
+   * the number of writers matter more than the batch size.
+   **************************************************************/
+  public final static int addEmployees( final List<EmployeeImportRow> rows, final int batchSize ) throws SQLException {
+    final long start = System.nanoTime();
+    try ( PooledConnection pooled = connected().borrow() ) {
+      Connection connection = pooled.getConnection();
+      connection.setAutoCommit( false );
+      CallableStatement statement = pooled.prepareCall( "{ call sp_add_employee( ?, ?, ?, ?, ?, ?, ?, ? ) }" );
+      try {
+        int batched = 0;
+        for ( EmployeeImportRow row : rows ) {
+          statement.setString( 1, row.getLastName() );
+          statement.setString( 2, row.getFirstName() );
+          statement.setInt( 3, row.getJobCode() );
+          statement.setInt( 4, row.getDepartmentCode() );
+          statement.setString( 5, row.getEmail() );
+          statement.setString( 6, row.getTelephone() );
+          statement.setBigDecimal( 7, BigDecimal.valueOf( row.getPayCents(), 2 ) );
+          statement.setInt( 8, row.getPayCode() );
+          statement.addBatch();
+          if ( ++batched == batchSize ) {
+            statement.executeBatch();
+            batched = 0;
+          }
+        }
+        if ( batched > 0 )
+          statement.executeBatch();
+        connection.commit();
+      } catch ( SQLException ex ) {
+        statement.clearBatch();
+        connection.rollback();
+        throw ex;
+      } finally {
+        connection.setAutoCommit( true );
+      }
+    } catch ( SQLException | RuntimeException ex ) {
+      ADD_EMPLOYEES.failed( start );
+      throw ex;
+    }
+    ADD_EMPLOYEES.end( start, rows.size() );
+    // Cached copies of these departments are now incomplete.
+    Set<Integer> departments = new HashSet<>();
+    for ( EmployeeImportRow row : rows )
+      if ( departments.add( row.getDepartmentCode() ) )
+        invalidateDepartment( row.getDepartmentCode() );
+    return rows.size();
+  }
+
+  /***************************************************************
+   * Read every employee with sp_all_employees in one streamed
+   * query and partition them by department, so departments are
+   * then served without a round trip each. Every department in
+   * the code tables gets a bucket, empty ones included. Returns
+   * the number of employees read.
+   **************************************************************/
+  public final static int prefetchAllEmployees() throws SQLException {
+    final long start = System.nanoTime();
+    final ReferenceData codes = referenceData;
+    final Map<Integer, List<Employee>> buckets = new HashMap<>( codes.getDepartmentCount() * 2 );
+    for ( int i = 0; i < codes.getDepartmentCount(); i++ )
+      buckets.put( codes.getDepartmentCode( i ), new ArrayList<>() );
+    int rows = 0;
+
+    try ( PooledConnection pooled = connected().borrow() ) {
+      Connection connection = pooled.getConnection();
+      // One-off forward-only statement, streaming needs its own settings.
+      try ( CallableStatement statement = connection.prepareCall( "{ call sp_all_employees() }",
+              ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY ) ) {
+        // Connector/J only streams rows for a fetch size of MIN_VALUE, other drivers take a hint.
+        boolean mysql = connection.getMetaData().getDriverName().toLowerCase().contains( "mysql" );
+        statement.setFetchSize( mysql ? Integer.MIN_VALUE : 1000 );
+        try ( ResultSet resultSet = statement.executeQuery() ) {
+          RowMapper<Employee> mapper = EmployeeRowMapper.forResultSet( resultSet );
+          int department = RowMapper.findColumn( resultSet.getMetaData(), "department_code" );
+          while ( resultSet.next() ) {
+            buckets.computeIfAbsent( resultSet.getInt( department ), code -> new ArrayList<>() ).add( mapper.map( resultSet ) );
+            rows++;
+          }
+        }
+      }
+    } catch ( SQLException | RuntimeException ex ) {
+      PREFETCH.failed( start );
+      throw ex;
+    }
+    for ( Map.Entry<Integer, List<Employee>> entry : buckets.entrySet() )
+      entry.setValue( Collections.unmodifiableList( entry.getValue() ) );
+    roster = new EmployeeRoster( buckets, System.currentTimeMillis(), employeeCache.getTtl() );
+    PREFETCH.end( start, rows );
+    return rows;
+  }
+
+  /***************************************************************
+   * Prefetched (read-only) employees of a department, or null if
+   * the department must be queried.
+   **************************************************************/
+  public final static List<Employee> getPrefetched( final int departmentNumber ) {
+    return roster.get( departmentNumber );
+  }
+
+  /***************************************************************
+   * Forget any copy of a department held locally.
+   **************************************************************/
+  public final static void invalidateDepartment( final int departmentNumber ) {
+    roster.invalidate( departmentNumber );
+    employeeCache.invalidate( departmentNumber );
+  }
+
+  private static void invalidateEmployee( final int id ) {
+    roster.invalidateEmployee( id );
+    employeeCache.invalidateEmployee( id );
+  }
+
+  /***************************************************************
+   * Annualized payroll counts, totals, means and extremes per
+   * department and job type, aggregated by the database. Requires
+   * the annual factor migration (V004).
+   **************************************************************/
+  public final static PayrollSummary PayrollGetSummary() throws SQLException {
+    final long start = System.nanoTime();
+    try ( PooledConnection pooled = connected().borrow() ) {
+      CallableStatement statement = pooled.prepareCall( "{ call sp_payroll_summary() }" );
+      if ( !statement.execute() )
+        throw new SQLException( "sp_payroll_summary returned no results." );
+      List<PayrollStats> byDepartment, byJob = new ArrayList<>();
+      try ( ResultSet resultSet = statement.getResultSet() ) {
+        byDepartment = readPayrollStats( resultSet );
+      }
+      if ( statement.getMoreResults() )
+        try ( ResultSet resultSet = statement.getResultSet() ) {
+          byJob = readPayrollStats( resultSet );
+        }
+      double[] factors = new double[0];
+      if ( statement.getMoreResults() )
+        try ( ResultSet resultSet = statement.getResultSet() ) {
+          while ( resultSet.next() ) {
+            int code = resultSet.getInt( 1 );
+            if ( code >= factors.length )
+              factors = Arrays.copyOf( factors, code + 1 );
+            factors[code] = resultSet.getDouble( 2 );
+          }
+        }
+      // Drain the procedure's trailing update count.
+      boolean more = statement.getMoreResults();
+      while ( more || statement.getUpdateCount() != -1 )
+        more = statement.getMoreResults();
+      PAYROLL.end( start, byDepartment.size() + byJob.size() );
+      return new PayrollSummary( byDepartment, byJob, factors );
+    } catch ( SQLException | RuntimeException ex ) {
+      PAYROLL.failed( start );
+      throw ex;
+    }
+  }
+
+  /***************************************************************
+   * Add percentiles to a payroll summary, from every employee's
+   * annual pay. Only the two group codes and the amount are read.
+   **************************************************************/
+  public final static PayrollSummary PayrollGetPercentiles( final PayrollSummary summary ) throws SQLException {
+    final long start = System.nanoTime();
+    Map<Integer, PayrollSummary.Values> byDepartment = new HashMap<>(), byJob = new HashMap<>();
+    long rows = 0;
+    try ( PooledConnection pooled = connected().borrow() ) {
+      CallableStatement statement = pooled.prepareCall( "{ call sp_annual_pay() }" );
+      try ( ResultSet resultSet = statement.executeQuery() ) {
+        while ( resultSet.next() ) {
+          int department = resultSet.getInt( 1 ), job = resultSet.getInt( 2 );
+          long cents = resultSet.getBigDecimal( 3 ).movePointRight( 2 ).longValue();
+          byDepartment.computeIfAbsent( department, code -> new PayrollSummary.Values() ).add( cents );
+          byJob.computeIfAbsent( job, code -> new PayrollSummary.Values() ).add( cents );
+          rows++;
+        }
+      }
+      // Drain the procedure's trailing update count.
+      boolean more = statement.getMoreResults();
+      while ( more || statement.getUpdateCount() != -1 )
+        more = statement.getMoreResults();
+    } catch ( SQLException | RuntimeException ex ) {
+      PAYROLL_PERCENTILES.failed( start );
+      throw ex;
+    }
+    PayrollSummary result = summary.withPercentiles( toArrays( byDepartment ), toArrays( byJob ) );
+    PAYROLL_PERCENTILES.end( start, rows );
+    return result;
+  }
+
+  private static List<PayrollStats> readPayrollStats( final ResultSet resultSet ) throws SQLException {
+    List<PayrollStats> stats = new ArrayList<>();
+    while ( resultSet.next() ) {
+      String name = resultSet.getString( "group_name" );
+      stats.add( new PayrollStats( resultSet.getInt( "group_code" ), name == null ? "(none)" : name,
+        resultSet.getLong( "employees" ), cents( resultSet, "total_pay" ), resultSet.getDouble( "mean_pay" ) * 100.0,
+        cents( resultSet, "minimum_pay" ), cents( resultSet, "maximum_pay" ),
+        PayrollStats.UNKNOWN, PayrollStats.UNKNOWN, PayrollStats.UNKNOWN ) );
+    }
+    return stats;
+  }
+
+  private static long cents( final ResultSet resultSet, final String column ) throws SQLException {
+    BigDecimal amount = resultSet.getBigDecimal( column );
+    return amount == null ? PayrollStats.UNKNOWN : amount.movePointRight( 2 ).setScale( 0, RoundingMode.HALF_UP ).longValue();
+  }
+
+  private static Map<Integer, long[]> toArrays( final Map<Integer, PayrollSummary.Values> groups ) {
+    Map<Integer, long[]> arrays = new HashMap<>( groups.size() * 2 );
+    for ( Map.Entry<Integer, PayrollSummary.Values> entry : groups.entrySet() )
+      arrays.put( entry.getKey(), entry.getValue().toArray() );
+    return arrays;
+  }
+
+  /***************************************************************
+   * Employee list cache, exposed for hit/miss statistics.
+   **************************************************************/
+  public final static EmployeeCache getEmployeeCache() { return employeeCache; }
+
+  /***************************************************************
+   * True while a first name edit of the employee awaits writing.
+   **************************************************************/
+  public final static boolean hasPendingEdit( final int id ) { return firstNameWriter.isPending( id ); }
+
+  /***************************************************************
+   * Statement cache prepare hits and misses, over all connections.
+   **************************************************************/
+  public final static long getStatementCacheHits() { return StatementCache.getHitCount(); }
+  public final static long getStatementCacheMisses() { return StatementCache.getMissCount(); }
+
+  /***************************************************************
+   * Idle pooled connections, zero while offline.
+   **************************************************************/
+  public final static int getIdleConnectionCount() {
+    ConnectionPool current = pool;
+    return current == null ? 0 : current.getIdleCount();
+  }
+
   /***************************************************************
    * Callbacks for the tableview columns.
    **************************************************************/
@@ -177,7 +894,8 @@ public class EmployeeTableViewUtility {
     TableColumn<Employee, Integer> idCol = new TableColumn<>( "Id" );
     idCol.setPrefWidth( 50 );
     idCol.setStyle( "-fx-alignment: CENTER;" );
-    idCol.setCellValueFactory( new PropertyValueFactory<>( "EmployeeId" ) );
+    idCol.setCellValueFactory( EmployeeCells.of( Employee::getEmployeeId ) );
+    idCol.setUserData( EmployeeOrder.Key.ID ); // Sortable by the database.
     return idCol;
   }
 
@@ -188,12 +906,18 @@ public class EmployeeTableViewUtility {
     fNameCol.setGraphic( fNameLabel );
     fNameCol.setPrefWidth( 100 );
     fNameCol.setSortable( false );
-    fNameCol.setCellValueFactory( new PropertyValueFactory<>( "firstName" ) );
+    // Plain value, so the row's firstName property is only created if it's edited.
+    fNameCol.setCellValueFactory( EmployeeCells.of( Employee::getFirstName ) );
     return fNameCol;
   }
 
   // Add edit capability to column.  
   public final static void addFirstNameColumn( final TableView<Employee> table ) {
+    addFirstNameColumn( table, null );
+  }
+
+  // As above, telling onEdited about each employee whose name changed (or was put back).
+  public final static void addFirstNameColumn( final TableView<Employee> table, final Consumer<Employee> onEdited ) {
 	TableColumn<Employee, String> fNameCol = EmployeeTableViewUtility.getFirstNameColumn();
 	// Use TextFieldTableCell to produce editable column.
 	fNameCol.setCellFactory( TextFieldTableCell.<Employee>forTableColumn() );
@@ -202,6 +926,8 @@ public class EmployeeTableViewUtility {
     fNameCol.setOnEditCommit( new EventHandler<CellEditEvent<Employee, String>>() {
       @Override
       public void handle( CellEditEvent<Employee, String> t ) {
+        if ( t.getRowValue() == null )
+          return; // Row of the all employees view not fetched yet.
         int id = t.getTableView().getItems().get( t.getTablePosition().getRow() ).getEmployeeId();
         // Post a confirmation alert.
         Alert alert = new Alert( AlertType.CONFIRMATION );
@@ -211,8 +937,25 @@ public class EmployeeTableViewUtility {
         Optional<ButtonType> result = alert.showAndWait();
         // Make change permanent to database?
         if ( result.get() == ButtonType.OK ) {
-          ((Employee) t.getTableView().getItems().get( t.getTablePosition().getRow() ) ).setFirstName( t.getNewValue() );
-          EmployeeTableViewUtility.updateFirstName( id, t.getNewValue() );
+          final Employee employee = t.getRowValue();
+          final String oldName = t.getOldValue();
+          employee.setFirstName( t.getNewValue() );
+          if ( onEdited != null )
+            onEdited.accept( employee );
+          // Written later in a batch, put the old name back if that fails.
+          firstNameWriter.submit( id, t.getNewValue(), null, ex -> Platform.runLater( () -> {
+            employee.setFirstName( oldName );
+            if ( onEdited != null )
+              onEdited.accept( employee );
+            table.refresh();
+            if ( !saveAlertPending ) {
+              saveAlertPending = true;
+              Platform.runLater( () -> {
+                EmployeeTableView.alertDialog( "Database Access Error", "Unable to save first name changes!" );
+                saveAlertPending = false;
+              } );
+            }
+          } ) );
         } else {
           table.refresh(); // Discard update and refresh previous data.
         }
@@ -223,7 +966,8 @@ public class EmployeeTableViewUtility {
   public final static TableColumn<Employee, String> getLastNameColumn() {
     TableColumn<Employee, String> lNameCol = new TableColumn<>( "Last Name" );
     lNameCol.setPrefWidth( 100 );
-    lNameCol.setCellValueFactory( new PropertyValueFactory<>("lastName" ) );
+    lNameCol.setCellValueFactory( EmployeeCells.of( Employee::getLastName ) );
+    lNameCol.setUserData( EmployeeOrder.Key.LAST_NAME );
     return lNameCol;
   }
 
@@ -238,10 +982,10 @@ public class EmployeeTableViewUtility {
     jobTypeCodeCol.setPrefWidth( 50 );
     jobTypeCodeCol.setSortable( false );
     jobTypeCodeCol.setStyle( "-fx-alignment: CENTER;" );
-    jobTypeCodeCol.setCellValueFactory( new PropertyValueFactory<>( "jobCode" ) );
+    jobTypeCodeCol.setCellValueFactory( EmployeeCells.code( Employee::getJobCode ) );
     jobTypeCodeDescriptionCol.setPrefWidth( 125 );
     jobTypeCodeDescriptionCol.setSortable( false );
-    jobTypeCodeDescriptionCol.setCellValueFactory( new PropertyValueFactory<>( "jobDescription" ) );
+    jobTypeCodeDescriptionCol.setCellValueFactory( EmployeeCells.jobDescription() );
     return jobTypeCol;
   }
 
@@ -256,18 +1000,30 @@ public class EmployeeTableViewUtility {
     payFrequencyCodeCol.setPrefWidth( 50 );
     payFrequencyCodeCol.setStyle( "-fx-alignment: CENTER;" );
     payFrequencyCodeCol.setSortable( false );
-    payFrequencyCodeCol.setCellValueFactory( new PropertyValueFactory<>( "payCode" ) );
+    payFrequencyCodeCol.setCellValueFactory( EmployeeCells.code( Employee::getPayCode ) );
     payFrequencyDescriptionCol.setPrefWidth( 200 );
     payFrequencyDescriptionCol.setSortable( false );
-    payFrequencyDescriptionCol.setCellValueFactory( new PropertyValueFactory<>( "payFrequencyDescription" ) );
+    payFrequencyDescriptionCol.setCellValueFactory( EmployeeCells.payFrequencyDescription() );
     return payFrequencyCol;
   }
 
-  public final static TableColumn<Employee, String> getPayColumn() {
-    TableColumn<Employee, String> payCol = new TableColumn<>( "Pay" );
+  // Pay holds cents, so it sorts by amount rather than as text.
+  public final static TableColumn<Employee, Long> getPayColumn() {
+    TableColumn<Employee, Long> payCol = new TableColumn<>( "Pay" );
     payCol.setPrefWidth( 100 );
     payCol.setStyle( "-fx-alignment: CENTER-RIGHT;" );
-    payCol.setCellValueFactory( new PropertyValueFactory<>( "salary" ) );
+    payCol.setCellValueFactory( EmployeeCells.of( Employee::getPayCents ) );
+    payCol.setCellFactory( column -> new TableCell<Employee, Long>() {
+      @Override
+      protected void updateItem( final Long cents, final boolean empty ) {
+        super.updateItem( cents, empty );
+        // The value is for sorting, the row's employee keeps the formatted pay.
+        final int index = getIndex();
+        final List<Employee> items = getTableView() == null ? null : getTableView().getItems();
+        setText( empty || items == null || index < 0 || index >= items.size() ? null : items.get( index ).getSalary() );
+      }
+    } );
+    payCol.setUserData( EmployeeOrder.Key.PAY );
     return payCol;
   }
 
@@ -275,7 +1031,7 @@ public class EmployeeTableViewUtility {
     TableColumn<Employee, String> emailCol = new TableColumn<>( "Email" );
     emailCol.setPrefWidth( 200 );
     emailCol.setSortable( false );
-    emailCol.setCellValueFactory( new PropertyValueFactory<>( "email" ) );
+    emailCol.setCellValueFactory( EmployeeCells.of( Employee::getEmail ) );
     return emailCol;
   }
 
@@ -283,7 +1039,7 @@ public class EmployeeTableViewUtility {
     TableColumn<Employee, String> telephoneCol = new TableColumn<>( "Telephone" );
     telephoneCol.setPrefWidth( 100 );
     telephoneCol.setSortable( false );
-    telephoneCol.setCellValueFactory( new PropertyValueFactory<>( "telephone" ) );
+    telephoneCol.setCellValueFactory( EmployeeCells.of( Employee::getTelephone ) );
     return telephoneCol;
   }
 
@@ -291,20 +1047,7 @@ public class EmployeeTableViewUtility {
    * Utility method that changes string to title case.
    **************************************************************/
   public final static String toTitleCase( final String s ) {
-    final String delimiters = " '-/"; // The character following these gets capitalized.
-    boolean nextChar = true;          // Capitalize first character.
-    StringBuilder sb = new StringBuilder();
-
-    // Walk string char by char.
-    for ( char c : s.toCharArray() ) {
-      c = ( nextChar ? Character.toUpperCase( c ) : Character.toLowerCase( c ) );
-      sb.append( c );
-      if ( delimiters.indexOf( c ) >= 0 ) //nextChar = delimiters.indexOf( c ) >= 0;
-        nextChar = true;
-      else
-        nextChar = false;
-    }
-    return sb.toString();
+    return TitleCase.apply( s );
   }
 
 }
\ No newline at end of file
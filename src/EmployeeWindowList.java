@@ -0,0 +1,200 @@
+/*************************************************************************
+ * Title: Employee Window List
+ * File: EmployeeWindowList.java
+ * Date: 10/18/2026
+ *
+ * Read-only list of every employee in the company that only holds the
+ * rows near what the table is showing. Its size is the row count; rows
+ * are fetched a window at a time, in the table's sort order, the first
+ * time the table asks for one. Until a window arrives its rows read as
+ * null, which the table draws as empty rows, and when it arrives the
+ * rows are replaced so the cells redraw. Sorting is done by the
+ * database: a new order just drops the held windows. Recently used
+ * windows are kept, the rest are dropped. For further information,
+ * see:
+ *   EmployeeOrder.java
+ *   EmployeeTableView.java
+ *
+ * Window size may be overridden with the system property
+ * employee.window.size.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.TableColumn;
+
+public class EmployeeWindowList extends ObservableListBase<Employee> {
+  public final static int WINDOW_SIZE = Integer.getInteger( "employee.window.size", 200 );
+  private final static int MAXIMUM_WINDOWS = 64;  // Windows held, about 13,000 rows by default.
+  // One thread, so windows are fetched in the order the table asked for them.
+  private final static ExecutorService EXECUTOR = Executors.newSingleThreadExecutor( r -> {
+    Thread t = new Thread( r, "employee-window-loader" );
+    t.setDaemon( true );
+    return t;
+  } );
+
+  // Access ordered, least recently shown window dropped first. FX thread only.
+  private final Map<Integer, List<Employee>> windows = new LinkedHashMap<Integer, List<Employee>>( 16, 0.75f, true ) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry( final Map.Entry<Integer, List<Employee>> eldest ) {
+      return size() > MAXIMUM_WINDOWS;
+    }
+  };
+  private final Set<Integer> requested = new HashSet<>(); // Windows fetching or failed, FX thread only.
+  private final Runnable onCounted;      // Run on the FX thread once the size is known.
+  private EmployeeOrder order = EmployeeOrder.BY_ID;
+  private int size = 0;
+  private volatile int generation = 0;   // Drops windows fetched for an older order.
+  private volatile int lastRequested = 0;
+
+  // Constructor.
+  public EmployeeWindowList( final Runnable onCounted ) {
+    this.onCounted = onCounted;
+  }
+
+  @Override
+  public int size() { return size; }
+
+  /***************************************************************
+   * Row at an index, or null while its window is on its way.
+   **************************************************************/
+  @Override
+  public Employee get( final int index ) {
+    if ( index < 0 || index >= size )
+      throw new IndexOutOfBoundsException( "Index " + index + ", size " + size );
+    int window = index / WINDOW_SIZE;
+    // Fetch the next window before it's needed.
+    if ( index % WINDOW_SIZE >= WINDOW_SIZE * 3 / 4 && ( window + 1 ) * WINDOW_SIZE < size )
+      request( window + 1 );
+    List<Employee> rows = windows.get( window );
+    if ( rows == null ) {
+      request( window );
+      return null;
+    }
+    int offset = index % WINDOW_SIZE;
+    return offset < rows.size() ? rows.get( offset ) : null;
+  }
+
+  /***************************************************************
+   * Count the employees and show them in the table's order. Call on
+   * the FX thread, before handing the list to a table.
+   **************************************************************/
+  public void open( final List<? extends TableColumn<Employee, ?>> sortOrder ) {
+    order = EmployeeOrder.of( sortOrder );
+    reset();
+    final int current = generation;
+    EXECUTOR.execute( () -> {
+      int count;
+      try {
+        count = EmployeeTableViewUtility.EmployeeCount();
+      } catch ( SQLException ex ) {
+        System.err.println( "SQL count exception " + ex.getMessage() );
+        count = 0;
+      }
+      final int rows = count;
+      Platform.runLater( () -> {
+        if ( current != generation )
+          return;
+        resize( rows );
+        if ( onCounted != null )
+          onCounted.run();
+      } );
+    } );
+  }
+
+  /***************************************************************
+   * Show the rows in a new order. Used as the table's sort policy.
+   **************************************************************/
+  public void sort( final List<? extends TableColumn<Employee, ?>> sortOrder ) {
+    EmployeeOrder newOrder = EmployeeOrder.of( sortOrder );
+    if ( newOrder.equals( order ) )
+      return;
+    order = newOrder;
+    reset();
+    replaced( 0, size );
+  }
+
+  /***************************************************************
+   * Drop every row held, when the table moves to another view.
+   **************************************************************/
+  public void close() {
+    reset();
+    resize( 0 );
+  }
+
+  private void reset() {
+    generation++;
+    windows.clear();
+    requested.clear();
+  }
+
+  // Fetch a window in the background, once.
+  private void request( final int window ) {
+    lastRequested = window;
+    if ( windows.containsKey( window ) || !requested.add( window ) )
+      return;
+    final int current = generation;
+    final EmployeeOrder fetchOrder = order;
+    EXECUTOR.execute( () -> {
+      // Scrolled well past it, or a new order, before its turn came.
+      if ( current != generation || Math.abs( window - lastRequested ) > MAXIMUM_WINDOWS / 2 ) {
+        Platform.runLater( () -> {
+          if ( current == generation )
+            requested.remove( window );
+        } );
+        return;
+      }
+      try {
+        final List<Employee> rows = EmployeeTableViewUtility.EmployeeGetWindow( fetchOrder, window * WINDOW_SIZE, WINDOW_SIZE );
+        Platform.runLater( () -> {
+          if ( current != generation )
+            return;
+          requested.remove( window );
+          windows.put( window, rows );
+          int from = window * WINDOW_SIZE;
+          replaced( from, Math.min( size, from + WINDOW_SIZE ) );
+        } );
+      } catch ( SQLException ex ) {
+        // Left in requested, so a broken window isn't retried until the next order.
+        System.err.println( "SQL window exception " + ex.getMessage() );
+      }
+    } );
+  }
+
+  // Tell the table rows from-to changed, so their cells redraw.
+  private void replaced( final int from, final int to ) {
+    if ( from >= to )
+      return;
+    beginChange();
+    nextReplace( from, to, Collections.<Employee>nCopies( to - from, null ) );
+    endChange();
+  }
+
+  private void resize( final int rows ) {
+    if ( rows == size )
+      return;
+    int old = size;
+    size = rows;
+    beginChange();
+    if ( old > 0 )
+      nextRemove( 0, Collections.<Employee>nCopies( old, null ) );
+    if ( rows > 0 )
+      nextAdd( 0, rows );
+    endChange();
+  }
+
+}
@@ -0,0 +1,231 @@
+/*************************************************************************
+ * Title: Employee Wire
+ * File: EmployeeWire.java
+ * Date: 10/18/2026
+ *
+ * Text encoding of code tables, employees and first name edits as the
+ * query service sends them: UTF-8, one record per line, fields
+ * separated by tabs. Backslash escapes tab, line feed, carriage return
+ * and itself; \N is a null field, as in MySQL's own tab separated
+ * output. Code table lines begin with D (department), J (job type) or
+ * P (pay frequency). For further information, see:
+ *   EmployeeQueryService.java
+ *   EmployeeServiceClient.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class EmployeeWire {
+  public final static String CONTENT_TYPE = "text/tab-separated-values; charset=utf-8";
+  private final static int EMPLOYEE_FIELDS = 8;
+
+  private EmployeeWire() {}
+
+  /***************************************************************
+   * Code tables.
+   **************************************************************/
+  public static byte[] encodeReferenceData( final ReferenceData codes ) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try ( Writer out = new OutputStreamWriter( bytes, StandardCharsets.UTF_8 ) ) {
+      for ( int i = 0; i < codes.getDepartmentCount(); i++ ) {
+        int code = codes.getDepartmentCode( i );
+        writeLine( out, "D", Integer.toString( code ), codes.getDepartmentName( code ) );
+      }
+      for ( int code = 0; code < codes.getJobTableSize(); code++ )
+        if ( codes.isJobCode( code ) )
+          writeLine( out, "J", Integer.toString( code ), codes.getJobDescription( code ) );
+      for ( int code = 0; code < codes.getPayFrequencyTableSize(); code++ )
+        if ( codes.isPayFrequency( code ) )
+          writeLine( out, "P", Integer.toString( code ), codes.getPayFrequency( code ) );
+    }
+    return bytes.toByteArray();
+  }
+
+  public static ReferenceData decodeReferenceData( final InputStream in ) throws IOException {
+    List<Integer> departments = new ArrayList<>();
+    String[] names = new String[0], jobs = new String[0], frequencies = new String[0];
+    BufferedReader reader = reader( in );
+    String line;
+    while ( ( line = reader.readLine() ) != null ) {
+      String[] fields = readLine( line, 3 );
+      int code = parseCode( fields[1] );
+      switch ( fields[0] ) {
+        case "D":
+          departments.add( code );
+          names = put( names, code, fields[2] );
+          break;
+        case "J":
+          jobs = put( jobs, code, fields[2] );
+          break;
+        case "P":
+          frequencies = put( frequencies, code, fields[2] );
+          break;
+        default:
+          throw new IOException( "Unknown code table " + fields[0] + "." );
+      }
+    }
+    int[] codes = new int[departments.size()];
+    for ( int i = 0; i < codes.length; i++ )
+      codes[i] = departments.get( i );
+    return new ReferenceData( codes, names, jobs, frequencies );
+  }
+
+  /***************************************************************
+   * Employees: id, first name, last name (both as displayed),
+   * job type code, pay frequency code, pay in cents, email
+   * address, telephone.
+   **************************************************************/
+  public static byte[] encodeEmployees( final List<Employee> employees ) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream( employees.size() * 96 + 16 );
+    try ( Writer out = new OutputStreamWriter( bytes, StandardCharsets.UTF_8 ) ) {
+      for ( Employee employee : employees )
+        writeLine( out,
+          Integer.toString( employee.getEmployeeId() ),
+          employee.getFirstName(),
+          employee.getLastName(),
+          Integer.toString( employee.getJobCode() ),
+          Integer.toString( employee.getPayCode() ),
+          Long.toString( employee.getPayCents() ),
+          employee.getEmailAddress(),
+          employee.getTelephone() );
+    }
+    return bytes.toByteArray();
+  }
+
+  public static List<Employee> decodeEmployees( final InputStream in ) throws IOException {
+    List<Employee> employees = new ArrayList<>();
+    BufferedReader reader = reader( in );
+    String line;
+    while ( ( line = reader.readLine() ) != null ) {
+      String[] f = readLine( line, EMPLOYEE_FIELDS );
+      try {
+        employees.add( new Employee( Integer.parseInt( f[0] ), f[1], f[2],
+          Integer.parseInt( f[3] ), Integer.parseInt( f[4] ), Long.parseLong( f[5] ), f[6], f[7] ) );
+      } catch ( NumberFormatException ex ) {
+        throw new IOException( "Bad employee line: " + line, ex );
+      }
+    }
+    return employees;
+  }
+
+  /***************************************************************
+   * First name edits: employee id, new first name.
+   **************************************************************/
+  public static byte[] encodeFirstNames( final Map<Integer, String> fNames ) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try ( Writer out = new OutputStreamWriter( bytes, StandardCharsets.UTF_8 ) ) {
+      for ( Map.Entry<Integer, String> entry : fNames.entrySet() )
+        writeLine( out, Integer.toString( entry.getKey() ), entry.getValue() );
+    }
+    return bytes.toByteArray();
+  }
+
+  public static Map<Integer, String> decodeFirstNames( final InputStream in ) throws IOException {
+    Map<Integer, String> fNames = new LinkedHashMap<>();
+    BufferedReader reader = reader( in );
+    String line;
+    while ( ( line = reader.readLine() ) != null ) {
+      String[] fields = readLine( line, 2 );
+      if ( fields[1] == null )
+        throw new IOException( "Missing first name for employee " + fields[0] + "." );
+      fNames.put( parseCode( fields[0] ), fields[1] );
+    }
+    return fNames;
+  }
+
+  // One record, fields escaped.
+  private static void writeLine( final Writer out, final String... fields ) throws IOException {
+    for ( int i = 0; i < fields.length; i++ ) {
+      if ( i > 0 )
+        out.write( '\t' );
+      String field = fields[i];
+      if ( field == null ) {
+        out.write( "\\N" );
+        continue;
+      }
+      for ( int j = 0; j < field.length(); j++ ) {
+        char c = field.charAt( j );
+        switch ( c ) {
+          case '\t': out.write( "\\t" ); break;
+          case '\n': out.write( "\\n" ); break;
+          case '\r': out.write( "\\r" ); break;
+          case '\\': out.write( "\\\\" ); break;
+          default:   out.write( c );
+        }
+      }
+    }
+    out.write( '\n' );
+  }
+
+  // Split and unescape one record, which must have exactly the expected fields.
+  private static String[] readLine( final String line, final int expected ) throws IOException {
+    String[] fields = new String[expected];
+    StringBuilder field = new StringBuilder();
+    int count = 0;
+    boolean escaped = false, isNull = false;
+    for ( int i = 0; i <= line.length(); i++ ) {
+      if ( i == line.length() || ( !escaped && line.charAt( i ) == '\t' ) ) {
+        if ( count == expected )
+          throw new IOException( "Expected " + expected + " fields: " + line );
+        fields[count++] = isNull ? null : field.toString();
+        field.setLength( 0 );
+        isNull = false;
+        continue;
+      }
+      char c = line.charAt( i );
+      if ( escaped ) {
+        escaped = false;
+        switch ( c ) {
+          case 't': field.append( '\t' ); break;
+          case 'n': field.append( '\n' ); break;
+          case 'r': field.append( '\r' ); break;
+          case 'N': isNull = true; break;
+          default:  field.append( c );
+        }
+      } else if ( c == '\\' ) {
+        escaped = true;
+      } else {
+        field.append( c );
+      }
+    }
+    if ( count != expected )
+      throw new IOException( "Expected " + expected + " fields: " + line );
+    return fields;
+  }
+
+  private static int parseCode( final String field ) throws IOException {
+    try {
+      return Integer.parseInt( field );
+    } catch ( NumberFormatException ex ) {
+      throw new IOException( "Bad code " + field + ".", ex );
+    }
+  }
+
+  // Table indexed by code, grown to fit.
+  private static String[] put( final String[] table, final int code, final String value ) throws IOException {
+    if ( code < 0 )
+      throw new IOException( "Negative code " + code + "." );
+    String[] result = code < table.length ? table : Arrays.copyOf( table, code + 1 );
+    result[code] = value;
+    return result;
+  }
+
+  private static BufferedReader reader( final InputStream in ) {
+    return new BufferedReader( new InputStreamReader( in, StandardCharsets.UTF_8 ) );
+  }
+
+}
@@ -0,0 +1,136 @@
+/*************************************************************************
+ * Title: First Name Write Queue
+ * File: FirstNameWriteQueue.java
+ * Date: 10/18/2026
+ *
+ * Write-behind queue for first name edits. Edits are held briefly and
+ * coalesced per employee, then written in one JDBC batch inside a single
+ * transaction, either on a timer or once enough edits have piled up.
+ * Each edit carries success/failure callbacks so the caller can revert
+ * the row if the batch is rolled back. Callbacks run on the flushing
+ * thread. For further information, see:
+ *   EmployeeTableViewUtility.java
+ *
+ * Flush interval and threshold may be overridden with the system
+ * properties employee.writeBehind.interval (ms) and
+ * employee.writeBehind.threshold.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Added isPending.
+ *   10/18/2026: close lets a running batch finish, called at shutdown.
+ *************************************************************************/
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class FirstNameWriteQueue {
+  public final static long DEFAULT_INTERVAL = Long.getLong( "employee.writeBehind.interval", 2000L );
+  public final static int DEFAULT_THRESHOLD = Integer.getInteger( "employee.writeBehind.threshold", 50 );
+
+  private final int threshold;
+  private final ScheduledExecutorService flusher;
+  private final Object flushLock = new Object();      // Keeps batches in submission order.
+  private Map<Integer, Edit> pending = new LinkedHashMap<>();
+
+  // A queued edit. Later edits of the same employee replace the name.
+  private final static class Edit {
+    final int id;
+    String firstName;
+    Runnable onSuccess;
+    final Consumer<Exception> onFailure;              // From first edit, reverts to the stored name.
+
+    Edit( final int id, final String firstName, final Runnable onSuccess, final Consumer<Exception> onFailure ) {
+      this.id = id;
+      this.firstName = firstName;
+      this.onSuccess = onSuccess;
+      this.onFailure = onFailure;
+    }
+  }
+
+  // Constructor.
+  public FirstNameWriteQueue() {
+    this( DEFAULT_INTERVAL, DEFAULT_THRESHOLD );
+  }
+
+  public FirstNameWriteQueue( final long interval, final int threshold ) {
+    this.threshold = threshold;
+    flusher = Executors.newSingleThreadScheduledExecutor( r -> {
+      Thread t = new Thread( r, "first-name-writer" );
+      t.setDaemon( true );
+      return t;
+    } );
+    flusher.scheduleWithFixedDelay( this::flush, interval, interval, TimeUnit.MILLISECONDS );
+  }
+
+  /***************************************************************
+   * Queue an edit. Either callback may be null.
+   **************************************************************/
+  public void submit( final int id, final String fName, final Runnable onSuccess, final Consumer<Exception> onFailure ) {
+    boolean full;
+    synchronized ( this ) {
+      Edit edit = pending.get( id );
+      if ( edit == null ) {
+        pending.put( id, new Edit( id, fName, onSuccess, onFailure ) );
+      } else {
+        // Coalesce, only the newest name is written.
+        edit.firstName = fName;
+        edit.onSuccess = onSuccess;
+      }
+      full = pending.size() >= threshold;
+    }
+    if ( full )
+      flusher.execute( this::flush );
+  }
+
+  public synchronized int size() { return pending.size(); }
+  public synchronized boolean isPending( final int id ) { return pending.containsKey( id ); }
+
+  /***************************************************************
+   * Write all queued edits now. Blocks until the batch completes.
+   **************************************************************/
+  public void flush() {
+    synchronized ( flushLock ) {
+      Map<Integer, Edit> batch;
+      synchronized ( this ) {
+        if ( pending.isEmpty() )
+          return;
+        batch = pending;
+        pending = new LinkedHashMap<>();
+      }
+
+      Map<Integer, String> names = new LinkedHashMap<>();
+      for ( Edit edit : batch.values() )
+        names.put( edit.id, edit.firstName );
+      List<Edit> edits = new ArrayList<>( batch.values() );
+      try {
+        EmployeeTableViewUtility.updateFirstNames( names );
+      } catch ( Exception ex ) {
+        System.err.println( "Write-behind exception " + ex.getMessage() );
+        for ( Edit edit : edits )
+          if ( edit.onFailure != null )
+            edit.onFailure.accept( ex );
+        return;
+      }
+      for ( Edit edit : edits )
+        if ( edit.onSuccess != null )
+          edit.onSuccess.run();
+    }
+  }
+
+  /***************************************************************
+   * Flush remaining edits and stop the timer, for good: call once
+   * when the program ends, while the database is still open. A
+   * batch already being written is allowed to finish.
+   **************************************************************/
+  public void close() {
+    flusher.shutdown();
+    flush();
+  }
+
+}
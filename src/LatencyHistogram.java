@@ -0,0 +1,83 @@
+/*************************************************************************
+ * Title: Latency Histogram
+ * File: LatencyHistogram.java
+ * Date: 10/18/2026
+ *
+ * Lock-free histogram of durations. Buckets are log-linear in
+ * microseconds, four per power of two, so any percentile is reported
+ * within 25% of the true value while recording stays a single atomic
+ * increment. Counts accumulate for the life of the application. For
+ * further information, see:
+ *   Operation.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LatencyHistogram {
+  private final static int BUCKETS = 4 + 4 * 40; // Up to 2^42 us, about 50 days.
+
+  private final AtomicLongArray counts = new AtomicLongArray( BUCKETS );
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator( Math::max, 0L );
+
+  public void record( final long nanos ) {
+    long value = Math.max( 0L, nanos );
+    counts.incrementAndGet( bucket( TimeUnit.NANOSECONDS.toMicros( value ) ) );
+    count.increment();
+    totalNanos.add( value );
+    maxNanos.accumulate( value );
+  }
+
+  public long getCount() { return count.sum(); }
+  public long getTotalNanos() { return totalNanos.sum(); }
+  public long getMaxNanos() { return maxNanos.get(); }
+
+  public double getMeanMillis() {
+    long n = count.sum();
+    return n == 0 ? 0.0 : totalNanos.sum() / 1e6 / n;
+  }
+
+  /***************************************************************
+   * Upper bound of the bucket holding the given percentile (0-100).
+   **************************************************************/
+  public double getPercentileMillis( final double percentile ) {
+    long[] snapshot = new long[BUCKETS];
+    long n = 0;
+    for ( int i = 0; i < BUCKETS; i++ )
+      n += snapshot[i] = counts.get( i );
+    if ( n == 0 )
+      return 0.0;
+    long rank = Math.max( 1L, (long) Math.ceil( percentile / 100.0 * n ) );
+    long seen = 0;
+    for ( int i = 0; i < BUCKETS; i++ ) {
+      seen += snapshot[i];
+      if ( seen >= rank )
+        return Math.min( upperBound( i ) / 1e3, maxNanos.get() / 1e6 );
+    }
+    return maxNanos.get() / 1e6;
+  }
+
+  // 0-3 us get a bucket each, then four buckets per power of two.
+  static int bucket( final long micros ) {
+    if ( micros < 4 )
+      return (int) micros;
+    int exponent = 63 - Long.numberOfLeadingZeros( micros );
+    int sub = (int) ( micros >>> ( exponent - 2 ) ) & 3;
+    return Math.min( BUCKETS - 1, 4 + ( exponent - 2 ) * 4 + sub );
+  }
+
+  // Exclusive upper bound of a bucket, in microseconds.
+  static long upperBound( final int bucket ) {
+    if ( bucket < 4 )
+      return bucket + 1;
+    int exponent = ( bucket - 4 ) / 4 + 2, sub = ( bucket - 4 ) % 4;
+    return (long) ( 4 + sub + 1 ) << ( exponent - 2 );
+  }
+
+}
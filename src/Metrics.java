@@ -0,0 +1,154 @@
+/*************************************************************************
+ * Title: Metrics
+ * File: Metrics.java
+ * Date: 10/18/2026
+ *
+ * Registry of timed operations and application counters, published as
+ * JMX MXBeans in the EmployeeTableView domain (browse them with
+ * jconsole or VisualVM) and dumped to standard error periodically.
+ * Database calls, row mapping and FX-thread work are timed separately,
+ * so a slow department can be traced to the server, the mapping or the
+ * rendering. The FX probe posts an empty task to the FX thread every
+ * 100 ms; how late it runs is how long the thread was busy. For further
+ * information, see:
+ *   Operation.java
+ *   EmployeeTableViewUtility.java
+ *
+ * Log interval may be overridden with the system property
+ * employee.metrics.logInterval (ms, 0 disables the dump).
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import javafx.application.Platform;
+
+public final class Metrics implements MetricsMXBean {
+  public final static String DOMAIN = "EmployeeTableView";
+  public final static long LOG_INTERVAL = Long.getLong( "employee.metrics.logInterval", 60000L );
+  private final static long PROBE_INTERVAL = 100L;     // Milliseconds between FX probes.
+  private final static long BLOCKED_THRESHOLD = 50L;   // Probe delay (ms) counted as blocked.
+
+  private final static Map<String, Operation> operations = new ConcurrentSkipListMap<>();
+  private final static Map<String, Long> logged = new ConcurrentSkipListMap<>();
+  private final static LongAdder employeesAllocated = new LongAdder();
+  private final static LongAdder fxBlockedNanos = new LongAdder();
+  private final static AtomicBoolean probePending = new AtomicBoolean();
+  private final static AtomicBoolean probeStarted = new AtomicBoolean();
+  // Daemon thread so metrics never keep the JVM alive.
+  private final static ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor( r -> {
+    Thread t = new Thread( r, "employee-metrics" );
+    t.setDaemon( true );
+    return t;
+  } );
+  private final static Operation FX_DELAY = operation( "fx.queueDelay" );
+
+  static {
+    register( "type=Metrics", new Metrics() );
+    if ( LOG_INTERVAL > 0 )
+      SCHEDULER.scheduleWithFixedDelay( Metrics::log, LOG_INTERVAL, LOG_INTERVAL, TimeUnit.MILLISECONDS );
+  }
+
+  private Metrics() {}
+
+  /***************************************************************
+   * The named operation, created and registered on first use.
+   **************************************************************/
+  public static Operation operation( final String name ) {
+    return operations.computeIfAbsent( name, n -> {
+      Operation operation = new Operation( n );
+      register( "type=Operation,name=" + ObjectName.quote( n ), operation );
+      return operation;
+    } );
+  }
+
+  // Called by the Employee constructor.
+  public static void employeeAllocated() {
+    employeesAllocated.increment();
+  }
+
+  /***************************************************************
+   * Start measuring FX thread responsiveness. Call once the FX
+   * toolkit is running; later calls do nothing.
+   **************************************************************/
+  public static void startFxProbe() {
+    if ( !probeStarted.compareAndSet( false, true ) )
+      return;
+    SCHEDULER.scheduleAtFixedRate( () -> {
+      if ( !probePending.compareAndSet( false, true ) )
+        return; // Previous probe still waiting, the thread is blocked.
+      final long posted = System.nanoTime();
+      Platform.runLater( () -> {
+        long delay = System.nanoTime() - posted;
+        FX_DELAY.end( posted );
+        if ( delay > TimeUnit.MILLISECONDS.toNanos( BLOCKED_THRESHOLD ) )
+          fxBlockedNanos.add( delay );
+        probePending.set( false );
+      } );
+    }, PROBE_INTERVAL, PROBE_INTERVAL, TimeUnit.MILLISECONDS );
+  }
+
+  /***************************************************************
+   * Write every operation used since the last dump, and the
+   * application counters, to standard error.
+   **************************************************************/
+  public static void log() {
+    StringBuilder sb = new StringBuilder();
+    for ( Operation operation : operations.values() ) {
+      long count = operation.getCount();
+      Long previous = logged.put( operation.getName(), count );
+      if ( count > 0 && ( previous == null || previous != count ) )
+        sb.append( "Metrics: " ).append( operation ).append( System.lineSeparator() );
+    }
+    if ( sb.length() == 0 )
+      return;
+    EmployeeCache cache = EmployeeTableViewUtility.getEmployeeCache();
+    sb.append( String.format( "Metrics: employees=%d fxBlocked=%d ms cache=%d/%d statements=%d/%d idle=%d",
+      employeesAllocated.sum(), TimeUnit.NANOSECONDS.toMillis( fxBlockedNanos.sum() ),
+      cache.getHitCount(), cache.getMissCount(), EmployeeTableViewUtility.getStatementCacheHits(),
+      EmployeeTableViewUtility.getStatementCacheMisses(), EmployeeTableViewUtility.getIdleConnectionCount() ) );
+    System.err.println( sb );
+  }
+
+  private static void register( final String properties, final Object bean ) {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName( DOMAIN + ":" + properties );
+      if ( !server.isRegistered( name ) )
+        server.registerMBean( bean, name );
+    } catch ( JMException ex ) {
+      System.err.println( "Metrics registration exception " + ex.getMessage() );
+    }
+  }
+
+  /***************************************************************
+   * MXBean attributes.
+   **************************************************************/
+  @Override public long getEmployeesAllocated() { return employeesAllocated.sum(); }
+  @Override public long getFxBlockedMillis() { return TimeUnit.NANOSECONDS.toMillis( fxBlockedNanos.sum() ); }
+  @Override public double getFxMaxDelayMillis() { return FX_DELAY.getMaxMillis(); }
+  @Override public long getDepartmentCacheHits() { return EmployeeTableViewUtility.getEmployeeCache().getHitCount(); }
+  @Override public long getDepartmentCacheMisses() { return EmployeeTableViewUtility.getEmployeeCache().getMissCount(); }
+  @Override public double getDepartmentCacheHitRatio() { return EmployeeTableViewUtility.getEmployeeCache().getHitRatio(); }
+  @Override public long getStatementCacheHits() { return EmployeeTableViewUtility.getStatementCacheHits(); }
+  @Override public long getStatementCacheMisses() { return EmployeeTableViewUtility.getStatementCacheMisses(); }
+  @Override public int getIdleConnections() { return EmployeeTableViewUtility.getIdleConnectionCount(); }
+
+  @Override
+  public void logNow() {
+    logged.clear();
+    log();
+  }
+
+}
@@ -0,0 +1,24 @@
+/*************************************************************************
+ * Title: Metrics MXBean
+ * File: MetricsMXBean.java
+ * Date: 10/18/2026
+ *
+ * JMX view of application-wide counters. Registered under
+ * EmployeeTableView:type=Metrics. For further information, see:
+ *   Metrics.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+public interface MetricsMXBean {
+  long getEmployeesAllocated();
+  long getFxBlockedMillis();
+  double getFxMaxDelayMillis();
+  long getDepartmentCacheHits();
+  long getDepartmentCacheMisses();
+  double getDepartmentCacheHitRatio();
+  long getStatementCacheHits();
+  long getStatementCacheMisses();
+  int getIdleConnections();
+  void logNow();
+}
@@ -0,0 +1,67 @@
+/*************************************************************************
+ * Title: Operation
+ * File: Operation.java
+ * Date: 10/18/2026
+ *
+ * Timing of one instrumented operation: a latency histogram of every
+ * call (failed calls included), the rows it produced and how many
+ * calls failed. Rows per second is rows over time spent inside the
+ * operation, so it measures the operation, not how often it is used.
+ * Callers take System.nanoTime() before the work and hand it to end()
+ * or failed(). For further information, see:
+ *   Metrics.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Operation implements OperationMXBean {
+  private final String name;
+  private final LatencyHistogram latency = new LatencyHistogram();
+  private final LongAdder rows = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+
+  // Constructor, see Metrics.operation().
+  Operation( final String name ) {
+    this.name = name;
+  }
+
+  public void end( final long start ) {
+    latency.record( System.nanoTime() - start );
+  }
+
+  public void end( final long start, final long rowCount ) {
+    latency.record( System.nanoTime() - start );
+    rows.add( rowCount );
+  }
+
+  public void failed( final long start ) {
+    latency.record( System.nanoTime() - start );
+    errors.increment();
+  }
+
+  @Override public String getName() { return name; }
+  @Override public long getCount() { return latency.getCount(); }
+  @Override public long getErrorCount() { return errors.sum(); }
+  @Override public long getRowCount() { return rows.sum(); }
+  @Override public double getMeanMillis() { return latency.getMeanMillis(); }
+  @Override public double getP50Millis() { return latency.getPercentileMillis( 50 ); }
+  @Override public double getP95Millis() { return latency.getPercentileMillis( 95 ); }
+  @Override public double getP99Millis() { return latency.getPercentileMillis( 99 ); }
+  @Override public double getMaxMillis() { return latency.getMaxNanos() / 1e6; }
+
+  @Override
+  public double getRowsPerSecond() {
+    long nanos = latency.getTotalNanos();
+    return nanos == 0 ? 0.0 : rows.sum() * 1e9 / nanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format( "%-26s n=%-7d err=%-4d mean=%8.2f p50=%8.2f p95=%8.2f p99=%8.2f max=%8.2f ms rows=%-9d rows/s=%.0f",
+      name, getCount(), getErrorCount(), getMeanMillis(), getP50Millis(), getP95Millis(), getP99Millis(),
+      getMaxMillis(), getRowCount(), getRowsPerSecond() );
+  }
+
+}
@@ -0,0 +1,25 @@
+/*************************************************************************
+ * Title: Operation MXBean
+ * File: OperationMXBean.java
+ * Date: 10/18/2026
+ *
+ * JMX view of one timed operation. Registered under
+ * EmployeeTableView:type=Operation,name=<operation>. For further
+ * information, see:
+ *   Operation.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+public interface OperationMXBean {
+  String getName();
+  long getCount();
+  long getErrorCount();
+  long getRowCount();
+  double getRowsPerSecond();
+  double getMeanMillis();
+  double getP50Millis();
+  double getP95Millis();
+  double getP99Millis();
+  double getMaxMillis();
+}
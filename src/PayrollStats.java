@@ -0,0 +1,101 @@
+/*************************************************************************
+ * Title: Payroll Stats
+ * File: PayrollStats.java
+ * Date: 10/18/2026
+ *
+ * Annualized pay figures of one group of employees (a department or a
+ * job type), in cents. Count, total, mean, minimum and maximum either
+ * come from the database or are computed here; percentiles are always
+ * computed here, from every annual pay in the group, and are -1 until
+ * then. For further information, see:
+ *   PayrollSummary.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.LongSummaryStatistics;
+import java.util.stream.LongStream;
+
+public final class PayrollStats {
+  public final static long UNKNOWN = -1L;
+  // Groups below this size are cheaper to compute on one thread.
+  private final static int PARALLEL_THRESHOLD = 8192;
+
+  private final int code;
+  private final String name;
+  private final long count;
+  private final long totalCents;
+  private final double meanCents;
+  private final long minimumCents;
+  private final long maximumCents;
+  private final long medianCents;
+  private final long p90Cents;
+  private final long p99Cents;
+
+  // Constructor.
+  public PayrollStats( final int code, final String name, final long count, final long totalCents, final double meanCents,
+                       final long minimumCents, final long maximumCents, final long medianCents, final long p90Cents, final long p99Cents ) {
+    this.code = code;
+    this.name = name;
+    this.count = count;
+    this.totalCents = totalCents;
+    this.meanCents = meanCents;
+    this.minimumCents = minimumCents;
+    this.maximumCents = maximumCents;
+    this.medianCents = medianCents;
+    this.p90Cents = p90Cents;
+    this.p99Cents = p99Cents;
+  }
+
+  /***************************************************************
+   * Every figure of a group, from its annual pays in cents.
+   **************************************************************/
+  public static PayrollStats of( final int code, final String name, final long[] annualCents ) {
+    LongStream values = LongStream.of( annualCents );
+    LongStream sorted = LongStream.of( annualCents );
+    if ( annualCents.length >= PARALLEL_THRESHOLD ) {
+      values = values.parallel();
+      sorted = sorted.parallel();
+    }
+    LongSummaryStatistics summary = values.summaryStatistics();
+    if ( summary.getCount() == 0 )
+      return new PayrollStats( code, name, 0, 0, 0.0, UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN );
+    long[] ordered = sorted.sorted().toArray();
+    return new PayrollStats( code, name, summary.getCount(), summary.getSum(), summary.getAverage(),
+      summary.getMin(), summary.getMax(), percentile( ordered, 50 ), percentile( ordered, 90 ), percentile( ordered, 99 ) );
+  }
+
+  /***************************************************************
+   * These figures with percentiles from the group's annual pays.
+   **************************************************************/
+  public PayrollStats withPercentiles( final long[] annualCents ) {
+    LongStream sorted = LongStream.of( annualCents );
+    if ( annualCents.length >= PARALLEL_THRESHOLD )
+      sorted = sorted.parallel();
+    long[] ordered = sorted.sorted().toArray();
+    return new PayrollStats( code, name, count, totalCents, meanCents, minimumCents, maximumCents,
+      percentile( ordered, 50 ), percentile( ordered, 90 ), percentile( ordered, 99 ) );
+  }
+
+  // Nearest rank.
+  private static long percentile( final long[] ordered, final int percent ) {
+    if ( ordered.length == 0 )
+      return UNKNOWN;
+    int rank = (int) Math.ceil( percent / 100.0 * ordered.length );
+    return ordered[Math.max( 0, rank - 1 )];
+  }
+
+  // Getters.
+  public int getCode() { return code; }
+  public String getName() { return name; }
+  public long getCount() { return count; }
+  public long getTotalCents() { return totalCents; }
+  public double getMeanCents() { return meanCents; }
+  public long getMinimumCents() { return minimumCents; }
+  public long getMaximumCents() { return maximumCents; }
+  public long getMedianCents() { return medianCents; }
+  public long getP90Cents() { return p90Cents; }
+  public long getP99Cents() { return p99Cents; }
+  public boolean hasPercentiles() { return medianCents != UNKNOWN; }
+
+}
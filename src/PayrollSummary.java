@@ -0,0 +1,100 @@
+/*************************************************************************
+ * Title: Payroll Summary
+ * File: PayrollSummary.java
+ * Date: 10/18/2026
+ *
+ * Annualized payroll per department and per job type. For the whole
+ * company the database does the counting and summing (see migration
+ * V004__pay_frequency_annual_factor.sql), then percentiles are added
+ * from every employee's annual pay, each group sorted on its own, the
+ * groups in parallel. For rows already loaded into the table
+ * everything is computed here with primitive streams. Annual pay is
+ * pay times the pay frequency's annual factor. For further
+ * information, see:
+ *   PayrollStats.java
+ *   PayrollSummaryPane.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public final class PayrollSummary {
+  public final static PayrollSummary EMPTY = new PayrollSummary(
+    Collections.<PayrollStats>emptyList(), Collections.<PayrollStats>emptyList(), new double[0] );
+
+  private final List<PayrollStats> byDepartment;
+  private final List<PayrollStats> byJob;
+  private final double[] annualFactors;   // Indexed by pay frequency code.
+
+  // Constructor.
+  public PayrollSummary( final List<PayrollStats> byDepartment, final List<PayrollStats> byJob, final double[] annualFactors ) {
+    this.byDepartment = byDepartment;
+    this.byJob = byJob;
+    this.annualFactors = annualFactors;
+  }
+
+  public List<PayrollStats> getByDepartment() { return byDepartment; }
+  public List<PayrollStats> getByJob() { return byJob; }
+
+  // Pay periods a year for a pay frequency, 1 when unknown.
+  public double getAnnualFactor( final int payCode ) {
+    return payCode >= 0 && payCode < annualFactors.length && annualFactors[payCode] > 0 ? annualFactors[payCode] : 1.0;
+  }
+
+  /***************************************************************
+   * The same figures with percentiles from each group's annual
+   * pays (cents, keyed by group code).
+   **************************************************************/
+  public PayrollSummary withPercentiles( final Map<Integer, long[]> departmentPay, final Map<Integer, long[]> jobPay ) {
+    return new PayrollSummary( withPercentiles( byDepartment, departmentPay ), withPercentiles( byJob, jobPay ), annualFactors );
+  }
+
+  private static List<PayrollStats> withPercentiles( final List<PayrollStats> groups, final Map<Integer, long[]> pay ) {
+    return groups.parallelStream()
+      .map( group -> group.withPercentiles( pay.getOrDefault( group.getCode(), new long[0] ) ) )
+      .collect( Collectors.toList() );
+  }
+
+  /***************************************************************
+   * Figures for loaded rows, by job type, computed here.
+   **************************************************************/
+  public PayrollStats[] summarize( final List<Employee> employees, final ReferenceData codes ) {
+    final Employee[] rows = employees.toArray( new Employee[employees.size()] );
+    final long[] annual = Arrays.stream( rows ).parallel()
+      .mapToLong( employee -> Math.round( employee.getPayCents() * getAnnualFactor( employee.getPayCode() ) ) )
+      .toArray();
+    Map<Integer, Values> groups = new TreeMap<>();
+    for ( int i = 0; i < rows.length; i++ )
+      groups.computeIfAbsent( rows[i].getJobCode(), code -> new Values() ).add( annual[i] );
+    List<PayrollStats> stats = new ArrayList<>( groups.size() + 1 );
+    stats.add( PayrollStats.of( -1, "All shown", annual ) );
+    groups.entrySet().parallelStream()
+      .map( entry -> PayrollStats.of( entry.getKey(), codes.getJobDescription( entry.getKey() ), entry.getValue().toArray() ) )
+      .forEachOrdered( stats::add );
+    return stats.toArray( new PayrollStats[stats.size()] );
+  }
+
+  /***************************************************************
+   * Growable list of annual pays, for grouping.
+   **************************************************************/
+  public static final class Values {
+    private long[] values = new long[16];
+    private int size = 0;
+
+    public void add( final long value ) {
+      if ( size == values.length )
+        values = Arrays.copyOf( values, size * 2 );
+      values[size++] = value;
+    }
+
+    public long[] toArray() { return Arrays.copyOf( values, size ); }
+  }
+
+}
@@ -0,0 +1,174 @@
+/*************************************************************************
+ * Title: Payroll Summary Pane
+ * File: PayrollSummaryPane.java
+ * Date: 10/18/2026
+ *
+ * Side pane showing annualized payroll figures by department, by job
+ * type, or for the rows the table is showing. Department and job type
+ * figures load in two steps: counts, totals, means and extremes are
+ * aggregated by the database and show at once, percentiles follow when
+ * every annual pay has been read and sorted. Shown rows are summarized
+ * here, from the loaded list. For further information, see:
+ *   PayrollSummary.java
+ *   EmployeeTableView.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.ToLongFunction;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+public class PayrollSummaryPane extends VBox {
+  private final static String BY_DEPARTMENT = "By department";
+  private final static String BY_JOB = "By job type";
+  private final static String SHOWN_ROWS = "Shown rows";
+  private final static Operation SUMMARIZE = Metrics.operation( "fx.payrollShownRows" );
+  // Shared daemon thread so payroll queries never keep the JVM alive.
+  private final static ExecutorService LOADER = Executors.newSingleThreadExecutor( r -> {
+    Thread t = new Thread( r, "payroll-summary-loader" );
+    t.setDaemon( true );
+    return t;
+  } );
+
+  private final TableView<Employee> employees;
+  private final ChoiceBox<String> cbGrouping = new ChoiceBox<>( FXCollections.observableArrayList( BY_DEPARTMENT, BY_JOB, SHOWN_ROWS ) );
+  private final TableView<PayrollStats> table = new TableView<>();
+  private final Label lblStatus = new Label();
+  private PayrollSummary summary = PayrollSummary.EMPTY;  // FX thread only.
+  private int generation = 0;                              // FX thread only, drops loads overtaken by a refresh.
+
+  // Constructor.
+  public PayrollSummaryPane( final TableView<Employee> employees ) {
+    super( 10 );
+    this.employees = employees;
+    table.setPlaceholder( new Label( "Connect to the database for payroll figures." ) );
+    table.setColumnResizePolicy( TableView.CONSTRAINED_RESIZE_POLICY );
+    TableColumn<PayrollStats, String> group = new TableColumn<>( "Group" );
+    group.setCellValueFactory( p -> new ReadOnlyStringWrapper( p.getValue().getName() ) );
+    TableColumn<PayrollStats, Long> count = new TableColumn<>( "Employees" );
+    count.setCellValueFactory( p -> new ReadOnlyObjectWrapper<>( p.getValue().getCount() ) );
+    table.getColumns().add( group );
+    table.getColumns().add( count );
+    table.getColumns().add( payColumn( "Total", PayrollStats::getTotalCents ) );
+    table.getColumns().add( payColumn( "Mean", stats -> Math.round( stats.getMeanCents() ) ) );
+    table.getColumns().add( payColumn( "Min", PayrollStats::getMinimumCents ) );
+    table.getColumns().add( payColumn( "Max", PayrollStats::getMaximumCents ) );
+    table.getColumns().add( payColumn( "Median", PayrollStats::getMedianCents ) );
+    table.getColumns().add( payColumn( "P90", PayrollStats::getP90Cents ) );
+    table.getColumns().add( payColumn( "P99", PayrollStats::getP99Cents ) );
+
+    cbGrouping.getSelectionModel().select( BY_DEPARTMENT );
+    cbGrouping.setOnAction( e -> show() );
+    Button btRefresh = new Button( "Re_calculate" );
+    btRefresh.setOnAction( e -> refresh() );
+    HBox hBox = new HBox( 10, new Label( "Payroll:" ), cbGrouping, btRefresh );
+    hBox.setAlignment( Pos.CENTER_LEFT );
+    getChildren().addAll( hBox, table, lblStatus );
+    VBox.setVgrow( table, Priority.ALWAYS );
+    // Shown rows follow the table as departments load.
+    final InvalidationListener rowsChanged = obs -> {
+      if ( SHOWN_ROWS.equals( cbGrouping.getValue() ) )
+        show();
+    };
+    employees.getItems().addListener( rowsChanged );
+    employees.itemsProperty().addListener( ( obs, oldItems, newItems ) -> {
+      if ( oldItems != null )
+        oldItems.removeListener( rowsChanged );
+      if ( newItems != null )
+        newItems.addListener( rowsChanged );
+      rowsChanged.invalidated( obs );
+    } );
+  }
+
+  /***************************************************************
+   * Reload department and job type figures from the database.
+   * Call on the FX thread, once online.
+   **************************************************************/
+  public void refresh() {
+    if ( !EmployeeTableViewUtility.isOnline() ) {
+      show();
+      return;
+    }
+    final int current = ++generation;
+    lblStatus.setText( "Loading payroll totals..." );
+    LOADER.execute( () -> {
+      try {
+        final PayrollSummary totals = EmployeeTableViewUtility.PayrollGetSummary();
+        Platform.runLater( () -> deliver( current, totals, "Loading percentiles..." ) );
+        final PayrollSummary complete = EmployeeTableViewUtility.PayrollGetPercentiles( totals );
+        Platform.runLater( () -> deliver( current, complete, "" ) );
+      } catch ( SQLException ex ) {
+        System.err.println( "Payroll summary exception " + ex.getMessage() );
+        Platform.runLater( () -> {
+          if ( current == generation )
+            lblStatus.setText( "Unable to load payroll figures." );
+        } );
+      }
+    } );
+  }
+
+  private void deliver( final int current, final PayrollSummary loaded, final String status ) {
+    if ( current != generation )
+      return;
+    summary = loaded;
+    lblStatus.setText( status );
+    show();
+  }
+
+  // Fill the table for the chosen grouping.
+  private void show() {
+    String grouping = cbGrouping.getValue();
+    if ( SHOWN_ROWS.equals( grouping ) ) {
+      List<Employee> rows = employees.getItems();
+      if ( rows instanceof EmployeeWindowList ) {
+        // Mostly not loaded, department figures cover it.
+        table.setPlaceholder( new Label( "Choose a department to summarize its rows." ) );
+        table.getItems().clear();
+        return;
+      }
+      final long start = System.nanoTime();
+      table.getItems().setAll( summary.summarize( rows, EmployeeTableViewUtility.getReferenceData() ) );
+      SUMMARIZE.end( start, rows.size() );
+      return;
+    }
+    table.setPlaceholder( new Label( EmployeeTableViewUtility.isOnline()
+      ? "No payroll figures." : "Connect to the database for payroll figures." ) );
+    table.getItems().setAll( BY_JOB.equals( grouping ) ? summary.getByJob() : summary.getByDepartment() );
+  }
+
+  // Right aligned $USD column, "..." until the figure is known.
+  private static TableColumn<PayrollStats, Long> payColumn( final String title, final ToLongFunction<PayrollStats> cents ) {
+    TableColumn<PayrollStats, Long> column = new TableColumn<>( title );
+    column.setCellValueFactory( p -> new ReadOnlyObjectWrapper<>( cents.applyAsLong( p.getValue() ) ) );
+    column.setCellFactory( c -> new TableCell<PayrollStats, Long>() {
+      @Override
+      protected void updateItem( final Long value, final boolean empty ) {
+        super.updateItem( value, empty );
+        setText( empty || value == null ? null
+          : value == PayrollStats.UNKNOWN ? "\u2026" : Employee.formatPay( value ) );
+      }
+    } );
+    column.setStyle( "-fx-alignment: CENTER-RIGHT;" );
+    return column;
+  }
+
+}
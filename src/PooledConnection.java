@@ -0,0 +1,66 @@
+/*************************************************************************
+ * Title: Pooled Connection
+ * File: PooledConnection.java
+ * Date: 10/18/2026
+ *
+ * A connection on loan from a ConnectionPool. Use with try-with-resources
+ * so the connection is always returned. For further information, see:
+ *   ConnectionPool.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Added per-connection statement cache.
+ *   10/18/2026: Only the first close of a loan returns the connection.
+ *   10/18/2026: Removed invalidate, connections are validated when borrowed.
+ *************************************************************************/
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class PooledConnection implements AutoCloseable {
+  private final ConnectionPool pool;
+  private final Connection connection; // Physical MySQL connection.
+  private final StatementCache statements; // Lives as long as the connection.
+  private long lastUsed = System.currentTimeMillis();
+  private final AtomicBoolean onLoan = new AtomicBoolean(); // Borrowed and not yet closed.
+
+  // Constructor.
+  PooledConnection( final ConnectionPool pool, final Connection connection ) {
+    this.pool = pool;
+    this.connection = connection;
+    statements = new StatementCache( connection );
+  }
+
+  public Connection getConnection() { return connection; }
+
+  // Cached statements, owned by this connection. Don't close them.
+  public PreparedStatement prepareStatement( final String sql ) throws SQLException {
+    return statements.prepareStatement( sql );
+  }
+  public CallableStatement prepareCall( final String sql ) throws SQLException {
+    return statements.prepareCall( sql );
+  }
+
+  // Return connection to the pool. Closing again does nothing, a second release would free a permit twice.
+  @Override
+  public void close() {
+    if ( onLoan.compareAndSet( true, false ) )
+      pool.release( this );
+  }
+
+  long getLastUsed() { return lastUsed; }
+  void touch() { lastUsed = System.currentTimeMillis(); }
+  void lend() { onLoan.set( true ); }
+
+  void closePhysical() {
+    statements.clear();
+    try {
+      connection.close();
+    } catch ( SQLException ex ) {
+      // Nothing useful to do, connection is being discarded anyway.
+    }
+  }
+
+}
@@ -0,0 +1,161 @@
+/*************************************************************************
+ * Title: Query Plan Check
+ * File: QueryPlanCheck.java
+ * Date: 10/18/2026
+ *
+ * Startup check that the stored procedures the application calls per
+ * request reach the employee tables through an index, so a missing
+ * migration shows up as an error rather than as departments that load
+ * slower as the company grows. Each procedure's definition is read
+ * with SHOW CREATE PROCEDURE, its parameters are replaced by sample
+ * values, and every SELECT in its body is run through EXPLAIN. A
+ * step fails if it scans a checked table with no usable index, or
+ * sorts its rows (Using filesort) instead of reading them in index
+ * order. The checked tables are those that grow with the company, and
+ * department, which sp_all_departments sorts by name on every login;
+ * the other code tables are not read per request. Procedures that read
+ * every row by design (sp_all_employees and the payroll procedures)
+ * are left out. A procedure that doesn't exist is reported like a
+ * plan that scans. For further information, see:
+ *   migrations/V005__query_indexes.sql
+ *   SchemaMigrations.java
+ *
+ * The check may be turned off with -Demployee.planCheck=false.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Checks the department table, and sorts as well as scans.
+ *   10/18/2026: A missing procedure is a problem, not skipped.
+ *************************************************************************/
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class QueryPlanCheck {
+  public final static boolean ENABLED = !"false".equals( System.getProperty( "employee.planCheck" ) );
+  // Called for each department shown, page read or change poll.
+  private final static List<String> PROCEDURES = Arrays.asList(
+    "sp_employees_in_dept", "sp_employees_in_dept_page", "sp_employee_changes", "sp_all_departments" );
+  // Tables that grow with the company, and department, read in name order by sp_all_departments.
+  private final static List<String> CHECKED_TABLES = Arrays.asList( "employee", "employee_tombstone", "department" );
+  private final static Pattern HEADER = Pattern.compile( "(?is).*?\\bprocedure\\s+[`\\w.]+\\s*\\((.*?)\\)[^()]*?((?:begin|select)\\b.*)$" );
+  // MySQL's ER_SP_DOES_NOT_EXIST.
+  private final static int NO_SUCH_PROCEDURE = 1305;
+  private final static Pattern PARAMETER = Pattern.compile( "(?is)\\s*(?:inout\\s+|in\\s+|out\\s+)?`?(\\w+)`?\\s+(\\w+).*" );
+
+  private QueryPlanCheck() {}
+
+  /***************************************************************
+   * Problems found, empty if every plan uses an index. A procedure
+   * that doesn't exist (its migration not applied) is a problem;
+   * one whose definition the user may not see is reported to
+   * standard error and skipped.
+   **************************************************************/
+  public static List<String> check( final Connection connection ) throws SQLException {
+    List<String> problems = new ArrayList<>();
+    try ( Statement statement = connection.createStatement() ) {
+      for ( String procedure : PROCEDURES ) {
+        List<String> selects;
+        try ( ResultSet resultSet = statement.executeQuery( "show create procedure " + procedure ) ) {
+          String definition = resultSet.next() ? resultSet.getString( "Create Procedure" ) : null;
+          if ( definition == null )
+            throw new SQLException( "definition not visible to this user." );
+          selects = selects( definition );
+        } catch ( SQLException ex ) {
+          if ( ex.getErrorCode() == NO_SUCH_PROCEDURE ) {
+            problems.add( procedure + " does not exist." );
+            continue;
+          }
+          System.err.println( "Query plan of " + procedure + " not checked: " + ex.getMessage() );
+          continue;
+        }
+        for ( String select : selects )
+          problems.addAll( explain( statement, procedure, select ) );
+      }
+    }
+    return problems;
+  }
+
+  /***************************************************************
+   * SELECT statements of a procedure, parameters replaced by
+   * sample values of their types.
+   **************************************************************/
+  static List<String> selects( final String definition ) throws SQLException {
+    Matcher m = HEADER.matcher( definition );
+    if ( !m.matches() )
+      throw new SQLException( "can't read its definition." );
+    String body = m.group( 2 );
+    for ( String parameter : splitParameters( m.group( 1 ) ) ) {
+      Matcher p = PARAMETER.matcher( parameter );
+      if ( p.matches() )
+        body = body.replaceAll( "(?i)(?<![\\w.`])" + p.group( 1 ) + "(?!\\w)", Matcher.quoteReplacement( sample( p.group( 2 ) ) ) );
+    }
+    body = body.replaceAll( "(?is)^begin\\b|\\bend\\s*$", "" );
+    List<String> selects = new ArrayList<>();
+    for ( String sql : body.split( ";" ) )
+      if ( sql.trim().toLowerCase().startsWith( "select" ) )
+        selects.add( sql.trim() );
+    return selects;
+  }
+
+  // Parameters split on commas outside parentheses, e.g. NUMERIC(12,2).
+  private static List<String> splitParameters( final String list ) {
+    List<String> parameters = new ArrayList<>();
+    int depth = 0, from = 0;
+    for ( int i = 0; i < list.length(); i++ ) {
+      char c = list.charAt( i );
+      if ( c == '(' )
+        depth++;
+      else if ( c == ')' )
+        depth--;
+      else if ( c == ',' && depth == 0 ) {
+        parameters.add( list.substring( from, i ) );
+        from = i + 1;
+      }
+    }
+    if ( !list.trim().isEmpty() )
+      parameters.add( list.substring( from ) );
+    return parameters;
+  }
+
+  // An argument the optimizer treats like a real one: an existing department, a recent watermark.
+  private static String sample( final String type ) {
+    switch ( type.toLowerCase() ) {
+      case "tinyint": case "smallint": case "mediumint": case "int": case "integer": case "bigint":
+      case "decimal": case "numeric":
+        return "1";
+      case "timestamp": case "datetime":
+        return "now(3)";
+      case "date":
+        return "curdate()";
+      default:
+        return "''";
+    }
+  }
+
+  // Steps of one statement's plan that scan or sort a checked table without an index.
+  private static List<String> explain( final Statement statement, final String procedure, final String select ) throws SQLException {
+    List<String> problems = new ArrayList<>();
+    try ( ResultSet plan = statement.executeQuery( "explain " + select ) ) {
+      while ( plan.next() ) {
+        String table = plan.getString( "table" );
+        if ( table == null || !CHECKED_TABLES.contains( table.replace( "`", "" ).toLowerCase() ) )
+          continue;
+        // A table with few rows may be scanned although an index exists, that's the optimizer's call.
+        boolean scan = plan.getString( "key" ) == null && plan.getString( "possible_keys" ) == null && "ALL".equals( plan.getString( "type" ) );
+        String extra = plan.getString( "Extra" );
+        boolean filesort = extra != null && extra.contains( "Using filesort" );
+        if ( scan || filesort )
+          problems.add( procedure + ( scan ? " scans " : " sorts " ) + table + " without an index: " + select.replaceAll( "\\s+", " " ) );
+      }
+    }
+    return problems;
+  }
+
+}
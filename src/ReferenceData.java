@@ -0,0 +1,153 @@
+/*************************************************************************
+ * Title: Reference Data
+ * File: ReferenceData.java
+ * Date: 10/18/2026
+ *
+ * Immutable snapshot of the department, job type and pay frequency code
+ * tables. All three are read in one round trip (sp_reference_data
+ * returns three result sets) into arrays indexed directly by code, so
+ * gaps such as the missing department #5 cost nothing and every lookup
+ * is a bounds check and an array read. A refresh builds a new snapshot
+ * and swaps it in. For further information, see:
+ *   EmployeeTableViewUtility.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Exposed code table sizes for the snapshot.
+ *   10/18/2026: Code table rows read with a compiled row mapper.
+ *   10/18/2026: Added code checks for imports.
+ *************************************************************************/
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class ReferenceData {
+  public final static ReferenceData EMPTY = new ReferenceData( new int[0], new String[0], new String[0], new String[0] );
+  // (code, description) rows of any code table, the code is the column labelled *_code.
+  private final static RowMapperCache<Map.Entry<Integer, String>> CODE_ROWS = new RowMapperCache<>( metaData -> {
+    int code = -1, description = -1;
+    for ( int i = 1; i <= metaData.getColumnCount(); i++ ) {
+      if ( code < 0 && metaData.getColumnLabel( i ).toLowerCase().endsWith( "_code" ) )
+        code = i;
+      else if ( description < 0 )
+        description = i;
+    }
+    if ( code < 0 || description < 0 )
+      throw new SQLException( "Code table needs a *_code column and a description column." );
+    final int codeColumn = code, descriptionColumn = description;
+    return resultSet -> new AbstractMap.SimpleImmutableEntry<>( resultSet.getInt( codeColumn ), resultSet.getString( descriptionColumn ) );
+  } );
+
+  private final int[] departmentCodes;       // Ascending, for the combobox.
+  private final String[] departmentNames;    // Indexed by department code.
+  private final String[] jobDescriptions;    // Indexed by job type code.
+  private final String[] payFrequencies;     // Indexed by pay frequency code.
+
+  // Constructor.
+  public ReferenceData(
+    final int[] departmentCodes,
+    final String[] departmentNames,
+    final String[] jobDescriptions,
+    final String[] payFrequencies
+  ) {
+    this.departmentCodes = departmentCodes;
+    this.departmentNames = departmentNames;
+    this.jobDescriptions = jobDescriptions;
+    this.payFrequencies = payFrequencies;
+  }
+
+  /***************************************************************
+   * Read all three code tables in a single round trip.
+   **************************************************************/
+  public static ReferenceData load( final PooledConnection pooled ) throws SQLException {
+    CallableStatement statement = pooled.prepareCall( "{ call sp_reference_data() }" );
+    if ( !statement.execute() )
+      throw new SQLException( "sp_reference_data returned no results." );
+
+    List<Integer> codes = new ArrayList<>();
+    String[] departments;
+    try ( ResultSet resultSet = statement.getResultSet() ) {
+      departments = readCodeTable( resultSet, codes );
+    }
+    if ( !statement.getMoreResults() )
+      throw new SQLException( "sp_reference_data returned no job types." );
+    String[] jobs;
+    try ( ResultSet resultSet = statement.getResultSet() ) {
+      jobs = readCodeTable( resultSet, null );
+    }
+    if ( !statement.getMoreResults() )
+      throw new SQLException( "sp_reference_data returned no pay frequencies." );
+    String[] frequencies;
+    try ( ResultSet resultSet = statement.getResultSet() ) {
+      frequencies = readCodeTable( resultSet, null );
+    }
+    // Drain the procedure's trailing update count.
+    boolean more = statement.getMoreResults();
+    while ( more || statement.getUpdateCount() != -1 )
+      more = statement.getMoreResults();
+
+    int[] departmentCodes = new int[codes.size()];
+    for ( int i = 0; i < departmentCodes.length; i++ )
+      departmentCodes[i] = codes.get( i );
+    return new ReferenceData( departmentCodes, departments, jobs, frequencies );
+  }
+
+  // Read (code, description) rows into an array indexed by code.
+  private static String[] readCodeTable( final ResultSet resultSet, final List<Integer> codes ) throws SQLException {
+    List<String> table = new ArrayList<>();
+    RowMapper<Map.Entry<Integer, String>> mapper = CODE_ROWS.forResultSet( resultSet );
+    while ( resultSet.next() ) {
+      Map.Entry<Integer, String> row = mapper.map( resultSet );
+      int code = row.getKey();
+      if ( code < 0 )
+        throw new SQLException( "Negative code " + code + " in reference table." );
+      while ( table.size() <= code )
+        table.add( null ); // Gap, no such code.
+      table.set( code, row.getValue() );
+      if ( codes != null )
+        codes.add( code );
+    }
+    return table.toArray( new String[table.size()] );
+  }
+
+  /***************************************************************
+   * Departments in ascending code order.
+   **************************************************************/
+  public int getDepartmentCount() { return departmentCodes.length; }
+  public int getDepartmentCode( final int index ) { return departmentCodes[index]; }
+  public String getDepartmentName( final int code ) { return lookup( departmentNames, code ); }
+
+  /***************************************************************
+   * Code lookups, empty string for unknown codes.
+   **************************************************************/
+  public String getJobDescription( final int code ) { return lookup( jobDescriptions, code ); }
+  public String getPayFrequency( final int code ) { return lookup( payFrequencies, code ); }
+
+  // One past the highest job type (pay frequency) code.
+  public int getJobTableSize() { return jobDescriptions.length; }
+  public int getPayFrequencyTableSize() { return payFrequencies.length; }
+
+  public boolean isEmpty() { return departmentCodes.length == 0; }
+
+  /***************************************************************
+   * Code checks, for validating rows before they are inserted.
+   **************************************************************/
+  public boolean isDepartment( final int code ) { return contains( departmentNames, code ); }
+  public boolean isJobCode( final int code ) { return contains( jobDescriptions, code ); }
+  public boolean isPayFrequency( final int code ) { return contains( payFrequencies, code ); }
+
+  private static boolean contains( final String[] table, final int code ) {
+    return code >= 0 && code < table.length && table[code] != null;
+  }
+
+  private static String lookup( final String[] table, final int code ) {
+    if ( code < 0 || code >= table.length || table[code] == null )
+      return "";
+    return table[code];
+  }
+
+}
@@ -0,0 +1,43 @@
+/*************************************************************************
+ * Title: Row Mapper
+ * File: RowMapper.java
+ * Date: 10/18/2026
+ *
+ * Turns the current row of a ResultSet into an object using column
+ * positions resolved in advance, so the per-row work is plain indexed
+ * getters with no column name lookups. Mappers are compiled from a
+ * query's ResultSetMetaData and cached per result shape by
+ * RowMapperCache. For further information, see:
+ *   RowMapperCache.java
+ *   EmployeeRowMapper.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+public interface RowMapper<T> {
+
+  // Map the current row.
+  T map( ResultSet resultSet ) throws SQLException;
+
+  /*************************************************************************
+   * Builds a mapper for one result shape.
+   *************************************************************************/
+  interface Compiler<T> {
+    RowMapper<T> compile( ResultSetMetaData metaData ) throws SQLException;
+  }
+
+  /***************************************************************
+   * Position of a column by label, ignoring case.
+   **************************************************************/
+  static int findColumn( final ResultSetMetaData metaData, final String label ) throws SQLException {
+    for ( int i = 1; i <= metaData.getColumnCount(); i++ )
+      if ( metaData.getColumnLabel( i ).equalsIgnoreCase( label ) )
+        return i;
+    throw new SQLException( "Result has no column " + label + "." );
+  }
+
+}
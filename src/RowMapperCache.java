@@ -0,0 +1,58 @@
+/*************************************************************************
+ * Title: Row Mapper Cache
+ * File: RowMapperCache.java
+ * Date: 10/18/2026
+ *
+ * Compiled row mappers keyed by result shape (column labels and types),
+ * so a query's columns are resolved once, not once per execution. The
+ * cache is cleared if it ever fills, which only happens if callers
+ * produce an unbounded variety of shapes. For further information, see:
+ *   RowMapper.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RowMapperCache<T> {
+  private final static int MAXIMUM_SHAPES = 64;
+
+  private final RowMapper.Compiler<T> compiler;
+  private final Map<String, RowMapper<T>> mappers = new ConcurrentHashMap<>();
+
+  // Constructor.
+  public RowMapperCache( final RowMapper.Compiler<T> compiler ) {
+    this.compiler = compiler;
+  }
+
+  /***************************************************************
+   * Mapper for a result set, compiled on first sight of its shape.
+   **************************************************************/
+  public RowMapper<T> forResultSet( final ResultSet resultSet ) throws SQLException {
+    ResultSetMetaData metaData = resultSet.getMetaData();
+    String shape = shapeOf( metaData );
+    RowMapper<T> mapper = mappers.get( shape );
+    if ( mapper == null ) {
+      // Compiling twice in a race is harmless.
+      mapper = compiler.compile( metaData );
+      if ( mappers.size() >= MAXIMUM_SHAPES )
+        mappers.clear();
+      mappers.put( shape, mapper );
+    }
+    return mapper;
+  }
+
+  public int size() { return mappers.size(); }
+
+  private static String shapeOf( final ResultSetMetaData metaData ) throws SQLException {
+    StringBuilder shape = new StringBuilder( 128 );
+    for ( int i = 1; i <= metaData.getColumnCount(); i++ )
+      shape.append( metaData.getColumnLabel( i ).toLowerCase() ).append( ':' ).append( metaData.getColumnType( i ) ).append( ',' );
+    return shape.toString();
+  }
+
+}
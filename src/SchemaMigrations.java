@@ -0,0 +1,232 @@
+/*************************************************************************
+ * Title: Schema Migrations
+ * File: SchemaMigrations.java
+ * Date: 10/18/2026
+ *
+ * Versioned schema changes. Scripts are named V<version>__<name>.sql
+ * (see the migrations directory) and applied once each, in version
+ * order; the schema_version table records which have run, with a
+ * checksum so a script edited after it was applied is reported rather
+ * than silently skipped. Version 1 is the original create script
+ * (Create&PopulateEmployeeDB.sql), run by hand: a database with no
+ * schema_version table is recorded at a baseline version and only
+ * later scripts run. Scripts are split into statements as the mysql
+ * client would, honouring "delimiter" lines, so stored procedures and
+ * triggers need no changes. MySQL can't roll back DDL: a failed script
+ * stays unrecorded and must be finished by hand. For further
+ * information, see:
+ *   EmployeeMigrate.java
+ *   QueryPlanCheck.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+public final class SchemaMigrations {
+  public final static int BASELINE = 1; // The original create script.
+  private final static Pattern SCRIPT_NAME = Pattern.compile( "V(\\d+)__(\\w+)\\.sql" );
+  private final static Pattern DELIMITER = Pattern.compile( "(?i)delimiter\\s+(\\S+)\\s*" );
+  private final static String LOCK = "employeedb.schema_migration";
+  private final static int LOCK_TIMEOUT = 30;  // Seconds to wait for another migration to finish.
+
+  // A script found in the migrations directory.
+  public final static class Script {
+    final int version;
+    final String description;
+    final Path path;
+
+    Script( final int version, final String description, final Path path ) {
+      this.version = version;
+      this.description = description;
+      this.path = path;
+    }
+
+    public int getVersion() { return version; }
+    public String getDescription() { return description; }
+    @Override public String toString() { return path.getFileName().toString(); }
+  }
+
+  private SchemaMigrations() {}
+
+  /***************************************************************
+   * Scripts in directory, in version order.
+   **************************************************************/
+  public static List<Script> scan( final Path directory ) throws IOException {
+    TreeMap<Integer, Script> scripts = new TreeMap<>();
+    try ( DirectoryStream<Path> files = Files.newDirectoryStream( directory, "V*.sql" ) ) {
+      for ( Path file : files ) {
+        Matcher m = SCRIPT_NAME.matcher( file.getFileName().toString() );
+        if ( !m.matches() )
+          throw new IOException( "Migration " + file.getFileName() + " is not named V<version>__<name>.sql." );
+        int version = Integer.parseInt( m.group( 1 ) );
+        Script previous = scripts.put( version, new Script( version, m.group( 2 ).replace( '_', ' ' ), file ) );
+        if ( previous != null )
+          throw new IOException( "Migrations " + previous + " and " + file.getFileName() + " share version " + version + "." );
+      }
+    }
+    return new ArrayList<>( scripts.values() );
+  }
+
+  /***************************************************************
+   * Apply every script newer than the database, returning those
+   * applied. A database never migrated before is first recorded
+   * at baseline, the newest version already applied by hand.
+   **************************************************************/
+  public static List<Script> migrate( final Connection connection, final List<Script> scripts, final int baseline ) throws SQLException, IOException {
+    final List<Script> applied = new ArrayList<>();
+    lock( connection );
+    try ( Statement statement = connection.createStatement() ) {
+      statement.execute(
+        "create table if not exists schema_version (" +
+        " version INT PRIMARY KEY," +
+        " description VARCHAR(100) NOT NULL," +
+        " checksum BIGINT NOT NULL," +
+        " applied_at TIMESTAMP NOT NULL default CURRENT_TIMESTAMP )" );
+      Map<Integer, Long> recorded = recorded( connection );
+      if ( recorded.isEmpty() ) {
+        record( connection, baseline, "baseline", 0 );
+        recorded.put( baseline, 0L );
+      }
+      int first = Integer.MAX_VALUE, current = 0;
+      for ( int version : recorded.keySet() ) {
+        first = Math.min( first, version );
+        current = Math.max( current, version );
+      }
+
+      for ( Script script : scripts ) {
+        if ( script.version < first )
+          continue; // Part of the baseline.
+        String text = read( script.path );
+        long checksum = checksum( text );
+        Long appliedChecksum = recorded.get( script.version );
+        if ( appliedChecksum != null ) {
+          if ( appliedChecksum != 0 && appliedChecksum != checksum )
+            throw new SQLException( "Migration " + script + " was changed after it was applied." );
+          continue;
+        }
+        if ( script.version < current )
+          throw new SQLException( "Migration " + script + " is older than the schema (version " + current + ") but was never applied." );
+        for ( String sql : split( text ) ) {
+          try {
+            statement.execute( sql );
+          } catch ( SQLException ex ) {
+            throw new SQLException( "Migration " + script + " failed, finish it by hand and rerun: " + ex.getMessage()
+              + System.lineSeparator() + sql, ex.getSQLState(), ex.getErrorCode(), ex );
+          }
+        }
+        record( connection, script.version, script.description, checksum );
+        current = script.version;
+        applied.add( script );
+      }
+    } finally {
+      unlock( connection );
+    }
+    return applied;
+  }
+
+  /***************************************************************
+   * Statements of a script, as the mysql client sends them. Whole
+   * line comments are dropped; "delimiter x" changes the statement
+   * terminator until the next delimiter line.
+   **************************************************************/
+  public static List<String> split( final String script ) {
+    List<String> statements = new ArrayList<>();
+    StringBuilder sb = new StringBuilder();
+    String delimiter = ";";
+    for ( String line : script.split( "\r?\n" ) ) {
+      String trimmed = line.trim();
+      if ( sb.length() == 0 && ( trimmed.isEmpty() || trimmed.startsWith( "--" ) || trimmed.startsWith( "#" ) ) )
+        continue;
+      Matcher m = DELIMITER.matcher( trimmed );
+      if ( sb.length() == 0 && m.matches() ) {
+        delimiter = m.group( 1 );
+        continue;
+      }
+      if ( trimmed.startsWith( "--" ) )
+        continue;
+      sb.append( line ).append( '\n' );
+      if ( trimmed.endsWith( delimiter ) ) {
+        String sql = sb.toString().trim();
+        sql = sql.substring( 0, sql.length() - delimiter.length() ).trim();
+        if ( !sql.isEmpty() )
+          statements.add( sql );
+        sb.setLength( 0 );
+      }
+    }
+    if ( sb.toString().trim().length() > 0 )
+      statements.add( sb.toString().trim() ); // Unterminated last statement.
+    return statements;
+  }
+
+  // Versions applied so far, with their checksums (0 for the baseline).
+  private static Map<Integer, Long> recorded( final Connection connection ) throws SQLException {
+    Map<Integer, Long> recorded = new HashMap<>();
+    try ( Statement statement = connection.createStatement();
+          ResultSet resultSet = statement.executeQuery( "select version, checksum from schema_version" ) ) {
+      while ( resultSet.next() )
+        recorded.put( resultSet.getInt( 1 ), resultSet.getLong( 2 ) );
+    }
+    return recorded;
+  }
+
+  private static void record( final Connection connection, final int version, final String description, final long checksum ) throws SQLException {
+    try ( PreparedStatement statement = connection.prepareStatement(
+            "insert into schema_version (version, description, checksum) values (?, ?, ?)" ) ) {
+      statement.setInt( 1, version );
+      statement.setString( 2, description );
+      statement.setLong( 3, checksum );
+      statement.executeUpdate();
+    }
+  }
+
+  // Two migrations at once would apply the same scripts twice.
+  private static void lock( final Connection connection ) throws SQLException {
+    try ( PreparedStatement statement = connection.prepareStatement( "select get_lock(?, ?)" ) ) {
+      statement.setString( 1, LOCK );
+      statement.setInt( 2, LOCK_TIMEOUT );
+      try ( ResultSet resultSet = statement.executeQuery() ) {
+        if ( !resultSet.next() || resultSet.getInt( 1 ) != 1 )
+          throw new SQLException( "Another schema migration is running." );
+      }
+    }
+  }
+
+  private static void unlock( final Connection connection ) {
+    try ( PreparedStatement statement = connection.prepareStatement( "select release_lock(?)" ) ) {
+      statement.setString( 1, LOCK );
+      statement.executeQuery().close();
+    } catch ( SQLException ex ) {
+      System.err.println( "Schema migration unlock exception " + ex.getMessage() );
+    }
+  }
+
+  private static String read( final Path path ) throws IOException {
+    return new String( Files.readAllBytes( path ), StandardCharsets.UTF_8 );
+  }
+
+  // Line endings ignored, so a checkout's CRLF conversion doesn't count as a change.
+  private static long checksum( final String text ) {
+    CRC32 crc = new CRC32();
+    crc.update( text.replace( "\r\n", "\n" ).getBytes( StandardCharsets.UTF_8 ) );
+    return crc.getValue();
+  }
+
+}
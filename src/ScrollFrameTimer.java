@@ -0,0 +1,72 @@
+/*************************************************************************
+ * Title: Scroll Frame Timer
+ * File: ScrollFrameTimer.java
+ * Date: 10/18/2026
+ *
+ * Times the frames drawn while a table scrolls, as the fx.scrollFrame
+ * operation (see Metrics.java): each sample is the interval between two
+ * pulses, so 16.7 ms is smooth at 60 Hz and anything much longer is a
+ * visible stutter. The timer only runs while the table is scrolled by
+ * the wheel, touchpad, keyboard or scroll bar, and stops once it has
+ * been still for a quarter of a second, so idle frames don't dilute
+ * the figures. For further information, see:
+ *   EmployeeCells.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.concurrent.TimeUnit;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TableView;
+import javafx.scene.input.ScrollEvent;
+
+public final class ScrollFrameTimer extends AnimationTimer {
+  private final static Operation SCROLL_FRAME = Metrics.operation( "fx.scrollFrame" );
+  private final static long IDLE = TimeUnit.MILLISECONDS.toNanos( 250 ); // Stillness that ends a scroll.
+
+  private long lastScrolled;    // FX thread only, as are the others.
+  private long lastFrame;       // Zero until the first frame of a scroll.
+  private boolean running;
+
+  private ScrollFrameTimer() {}
+
+  /***************************************************************
+   * Time the frames while table scrolls. Call on the FX thread.
+   **************************************************************/
+  public static void watch( final TableView<?> table ) {
+    final ScrollFrameTimer timer = new ScrollFrameTimer();
+    table.addEventFilter( ScrollEvent.SCROLL, event -> timer.scrolled() );
+    // The scroll bar moves however the table is scrolled, it exists once the skin does.
+    table.skinProperty().addListener( ( observable, oldSkin, newSkin ) -> {
+      for ( Node node : table.lookupAll( ".scroll-bar" ) )
+        if ( node instanceof ScrollBar && ( (ScrollBar) node ).getOrientation() == Orientation.VERTICAL )
+          ( (ScrollBar) node ).valueProperty().addListener( value -> timer.scrolled() );
+    } );
+  }
+
+  private void scrolled() {
+    lastScrolled = System.nanoTime();
+    if ( !running ) {
+      running = true;
+      lastFrame = 0;
+      start();
+    }
+  }
+
+  @Override
+  public void handle( final long now ) {
+    long time = System.nanoTime();
+    if ( lastFrame != 0 )
+      SCROLL_FRAME.end( lastFrame );
+    lastFrame = time;
+    if ( time - lastScrolled > IDLE ) {
+      running = false;
+      stop();
+    }
+  }
+
+}
@@ -0,0 +1,59 @@
+/*************************************************************************
+ * Title: Startup Timer
+ * File: StartupTimer.java
+ * Date: 10/18/2026
+ *
+ * Logs how long each application startup stage takes, and how long
+ * after JVM launch it finished, to standard error. Off unless the
+ * application is started with -Demployee.startup.timing=true. For
+ * further information, see:
+ *   EmployeeTableView.java
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *   10/18/2026: Logs only when employee.startup.timing is set.
+ *************************************************************************/
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public final class StartupTimer {
+  public final static boolean ENABLED = Boolean.getBoolean( "employee.startup.timing" );
+  private final static long LAUNCHED = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+  private StartupTimer() {}
+
+  /***************************************************************
+   * Wrap a stage so its duration is logged when it finishes.
+   **************************************************************/
+  public static <T> Supplier<T> timed( final String stage, final Supplier<T> work ) {
+    if ( !ENABLED )
+      return work;
+    return () -> {
+      long start = System.nanoTime();
+      try {
+        return work.get();
+      } finally {
+        log( stage, start );
+      }
+    };
+  }
+
+  // Log a stage that began at the given System.nanoTime().
+  public static void log( final String stage, final long start ) {
+    if ( !ENABLED )
+      return;
+    System.err.printf( "Startup: %-20s %6d ms, %6d ms after launch [%s]%n", stage,
+      TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ),
+      System.currentTimeMillis() - LAUNCHED, Thread.currentThread().getName() );
+  }
+
+  // Log a milestone with no duration of its own.
+  public static void mark( final String milestone ) {
+    if ( !ENABLED )
+      return;
+    System.err.printf( "Startup: %-20s %6s     %6d ms after launch%n", milestone, "",
+      System.currentTimeMillis() - LAUNCHED );
+  }
+
+}
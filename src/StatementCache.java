@@ -0,0 +1,123 @@
+/*************************************************************************
+ * Title: Statement Cache
+ * File: StatementCache.java
+ * Date: 10/18/2026
+ *
+ * Per-connection cache of prepared and callable statements keyed by SQL
+ * text. The least recently used statement is closed once the cache is
+ * full. Statements handed out by the cache belong to it and must not be
+ * closed by the caller (close the ResultSet instead). Hit and miss
+ * counts are totalled over every connection. For further information,
+ * see:
+ *   PooledConnection.java
+ *
+ * Cache size may be overridden with the system property
+ * employee.statementCache.size.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StatementCache {
+  public final static int DEFAULT_MAXIMUM_SIZE = Integer.getInteger( "employee.statementCache.size", 32 );
+  private final static AtomicLong hits = new AtomicLong();
+  private final static AtomicLong misses = new AtomicLong();
+
+  private final Connection connection;
+  private final Map<String, PreparedStatement> statements;
+
+  // Constructor.
+  public StatementCache( final Connection connection ) {
+    this( connection, DEFAULT_MAXIMUM_SIZE );
+  }
+
+  public StatementCache( final Connection connection, final int maximumSize ) {
+    this.connection = connection;
+    // Access-ordered map, so the eldest entry is the least recently used.
+    statements = new LinkedHashMap<String, PreparedStatement>( 16, 0.75f, true ) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry( final Map.Entry<String, PreparedStatement> eldest ) {
+        if ( size() > maximumSize ) {
+          closeQuietly( eldest.getValue() );
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /***************************************************************
+   * Return cached prepared statement for sql, preparing if needed.
+   **************************************************************/
+  public PreparedStatement prepareStatement( final String sql ) throws SQLException {
+    PreparedStatement statement = lookup( sql );
+    if ( statement == null ) {
+      statement = connection.prepareStatement( sql );
+      statements.put( sql, statement );
+    }
+    return statement;
+  }
+
+  /***************************************************************
+   * Return cached callable statement for sql, preparing if needed.
+   **************************************************************/
+  public CallableStatement prepareCall( final String sql ) throws SQLException {
+    PreparedStatement statement = lookup( sql );
+    if ( statement instanceof CallableStatement )
+      return (CallableStatement) statement;
+    CallableStatement callable = connection.prepareCall( sql );
+    closeQuietly( statements.put( sql, callable ) );
+    return callable;
+  }
+
+  /***************************************************************
+   * Close every cached statement.
+   **************************************************************/
+  public void clear() {
+    for ( PreparedStatement statement : statements.values() )
+      closeQuietly( statement );
+    statements.clear();
+  }
+
+  public int size() { return statements.size(); }
+
+  // Statistics, over all connections.
+  public static long getHitCount() { return hits.get(); }
+  public static long getMissCount() { return misses.get(); }
+
+  // Fetch a reusable statement, discarding any the driver has closed.
+  private PreparedStatement lookup( final String sql ) throws SQLException {
+    PreparedStatement statement = statements.get( sql );
+    if ( statement != null && statement.isClosed() ) {
+      statements.remove( sql );
+      statement = null;
+    }
+    if ( statement == null ) {
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    statement.clearParameters();
+    return statement;
+  }
+
+  private static void closeQuietly( final PreparedStatement statement ) {
+    if ( statement == null )
+      return;
+    try {
+      statement.close();
+    } catch ( SQLException ex ) {
+      // Statement is being discarded anyway.
+    }
+  }
+
+}
@@ -0,0 +1,46 @@
+/*************************************************************************
+ * Title: String Pool
+ * File: StringPool.java
+ * Date: 10/18/2026
+ *
+ * Bounded canonicalizing pool for strings that repeat across many rows
+ * (shared telephone numbers, empty email addresses, common names), so
+ * each distinct value is held once. When the pool fills it is simply
+ * cleared, which only costs some duplication. For further information,
+ * see:
+ *   Employee.java
+ *
+ * Pool size may be overridden with the system property
+ * employee.stringPool.size.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class StringPool {
+  private final static int MAXIMUM_SIZE = Integer.getInteger( "employee.stringPool.size", 65536 );
+  private final static ConcurrentHashMap<String, String> pool = new ConcurrentHashMap<>();
+
+  private StringPool() {}
+
+  /***************************************************************
+   * Return the pooled instance equal to s (null stays null).
+   **************************************************************/
+  public static String dedupe( final String s ) {
+    if ( s == null )
+      return null;
+    if ( s.isEmpty() )
+      return "";
+    String pooled = pool.get( s );
+    if ( pooled != null )
+      return pooled;
+    if ( pool.size() >= MAXIMUM_SIZE )
+      pool.clear();
+    pooled = pool.putIfAbsent( s, s );
+    return pooled == null ? s : pooled;
+  }
+
+  public static int size() { return pool.size(); }
+
+}
@@ -0,0 +1,81 @@
+/*************************************************************************
+ * Title: Title Case
+ * File: TitleCase.java
+ * Date: 10/18/2026
+ *
+ * Title casing for names and descriptions. The character following a
+ * space, apostrophe, hyphen or slash is capitalized, all others are
+ * lower cased. Input that is already title-cased ASCII is returned as
+ * is, and converted values are memoized in a bounded cache, so the
+ * repeated job descriptions and common names seen while scrolling
+ * produce no garbage. For further information, see:
+ *   EmployeeTableViewUtility.java
+ *
+ * Cache size may be overridden with the system property
+ * employee.titleCase.cacheSize.
+ *************************************************************************
+ * Change Log:
+ *   10/18/2026: Initial release.
+ *************************************************************************/
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class TitleCase {
+  private final static int MAXIMUM_SIZE = Integer.getInteger( "employee.titleCase.cacheSize", 4096 );
+  private final static ConcurrentHashMap<String, String> memo = new ConcurrentHashMap<>();
+
+  private TitleCase() {}
+
+  /***************************************************************
+   * Return s in title case.
+   **************************************************************/
+  public static String apply( final String s ) {
+    if ( s == null || isTitleCase( s ) )
+      return s;
+    String cased = memo.get( s );
+    if ( cased == null ) {
+      cased = convert( s );
+      if ( memo.size() >= MAXIMUM_SIZE )
+        memo.clear(); // Crude, but keeps the cache bounded.
+      memo.put( s, cased );
+    }
+    return cased;
+  }
+
+  public static int cacheSize() { return memo.size(); }
+
+  // The character following these gets capitalized.
+  private static boolean isDelimiter( final char c ) {
+    return c == ' ' || c == '\'' || c == '-' || c == '/';
+  }
+
+  /***************************************************************
+   * ASCII fast path, true if converting would change nothing. Any
+   * non-ASCII character sends the string down the slow path.
+   **************************************************************/
+  private static boolean isTitleCase( final String s ) {
+    boolean nextChar = true; // Capitalize first character.
+    for ( int i = 0, n = s.length(); i < n; i++ ) {
+      char c = s.charAt( i );
+      if ( c >= 0x80 )
+        return false;
+      if ( nextChar ? ( c >= 'a' && c <= 'z' ) : ( c >= 'A' && c <= 'Z' ) )
+        return false;
+      nextChar = isDelimiter( c );
+    }
+    return true;
+  }
+
+  // Walk string char by char.
+  private static String convert( final String s ) {
+    final char[] chars = s.toCharArray();
+    boolean nextChar = true; // Capitalize first character.
+    for ( int i = 0; i < chars.length; i++ ) {
+      char c = chars[i];
+      c = ( nextChar ? Character.toUpperCase( c ) : Character.toLowerCase( c ) );
+      chars[i] = c;
+      nextChar = isDelimiter( c );
+    }
+    return new String( chars );
+  }
+
+}
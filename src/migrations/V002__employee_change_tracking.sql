@@ -0,0 +1,58 @@
+-- Migration 002: employee change tracking.
+--
+-- Adds a last-modified time to every employee row and a tombstone
+-- table recording rows that left a department (deleted, or moved to
+-- another department), so clients can poll for changes since a
+-- watermark instead of re-reading whole departments.
+-- Requires MySQL 5.6.5 or later (fractional second timestamps).
+
+alter table employee
+	add column updated_at TIMESTAMP(3) NOT NULL
+	default CURRENT_TIMESTAMP(3) on update CURRENT_TIMESTAMP(3);
+
+drop table if exists employee_tombstone;
+
+create table employee_tombstone
+(
+    employee_id     INT,
+    department_code TINYINT,
+    deleted_at      TIMESTAMP(3) NOT NULL default CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (employee_id, department_code)
+);
+
+delimiter $$
+create trigger tr_employee_deleted after delete on employee
+for each row
+begin
+	if old.department_code is not null then
+		insert into employee_tombstone (employee_id, department_code, deleted_at)
+		values (old.employee_id, old.department_code, now(3))
+		on duplicate key update deleted_at = now(3);
+	end if;
+end $$
+delimiter ;
+
+delimiter $$
+create trigger tr_employee_moved after update on employee
+for each row
+begin
+	if old.department_code is not null and not (old.department_code <=> new.department_code) then
+		insert into employee_tombstone (employee_id, department_code, deleted_at)
+		values (old.employee_id, old.department_code, now(3))
+		on duplicate key update deleted_at = now(3);
+	end if;
+end $$
+delimiter ;
+
+-- Changes to one department after a watermark. Returns three result
+-- sets: the server time to use as the next watermark (read first), the
+-- rows inserted or updated, and the ids of rows that left. A null
+-- watermark returns only the server time.
+delimiter $$
+create procedure sp_employee_changes(in dept TINYINT, in since TIMESTAMP(3))
+begin
+	select now(3) as watermark;
+	select * from employee where department_code = dept and since is not null and updated_at > since;
+	select employee_id from employee_tombstone where department_code = dept and since is not null and deleted_at > since;
+end $$
+delimiter ;
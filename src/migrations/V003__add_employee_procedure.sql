@@ -0,0 +1,22 @@
+-- Migration 003: employee insert procedure.
+--
+-- The original sp_add_employee (CreateAndPopulateEmployeeDB.sql) was
+-- written for an older schema and sets no email, telephone or pay
+-- frequency. This one fills every column of the current employee
+-- table; the employee id is generated. Used by EmployeeImport.
+
+drop procedure if exists sp_add_employee;
+
+delimiter $$
+create procedure sp_add_employee(in lastName VARCHAR(20), in firstName VARCHAR(12),
+								in jobTypeCode TINYINT, in deptCode TINYINT,
+								in emailAddress VARCHAR(32), in telephoneNumber VARCHAR(15),
+								in periodicPay NUMERIC(12,2), in payFreqCode TINYINT)
+begin
+	insert into employee
+		(last_name, first_name, job_type_code, department_code,
+		 email_address, telephone, pay, pay_freq_code)
+	values (lastName, firstName, jobTypeCode, deptCode,
+		 emailAddress, telephoneNumber, periodicPay, payFreqCode);
+end $$
+delimiter ;
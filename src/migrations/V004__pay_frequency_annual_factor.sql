@@ -0,0 +1,64 @@
+-- Migration 004: annualized pay.
+--
+-- Adds the number of pay periods a year each pay frequency's pay
+-- figure covers, so pay can be annualized as pay * annual_factor.
+-- The seeded employees' pay is already an annual amount for every
+-- frequency, so the existing codes start at 1; a frequency whose pay
+-- is per period would be set to its periods per year (26 for every
+-- 2 weeks). Also adds the payroll aggregation procedures.
+
+alter table pay_frequency
+	add column annual_factor NUMERIC(8,4) NOT NULL default 1;
+
+update pay_frequency set annual_factor = 1 where pay_freq_code in (1, 2, 3);
+
+-- Annualized payroll aggregates. Returns three result sets: per
+-- department, per job type (code, name, employees, total, minimum,
+-- maximum and mean annual pay), and each pay frequency's factor.
+-- Employees without a pay figure are left out.
+drop procedure if exists sp_payroll_summary;
+
+delimiter $$
+create procedure sp_payroll_summary()
+begin
+	select e.department_code as group_code, d.department_name as group_name, count(*) as employees,
+		sum(round(e.pay * coalesce(f.annual_factor, 1), 2)) as total_pay,
+		min(round(e.pay * coalesce(f.annual_factor, 1), 2)) as minimum_pay,
+		max(round(e.pay * coalesce(f.annual_factor, 1), 2)) as maximum_pay,
+		avg(round(e.pay * coalesce(f.annual_factor, 1), 2)) as mean_pay
+	from employee e
+		left join pay_frequency f on f.pay_freq_code = e.pay_freq_code
+		left join department d on d.department_code = e.department_code
+	where e.pay is not null
+	group by e.department_code, d.department_name
+	order by e.department_code;
+
+	select e.job_type_code as group_code, j.job_type_description as group_name, count(*) as employees,
+		sum(round(e.pay * coalesce(f.annual_factor, 1), 2)) as total_pay,
+		min(round(e.pay * coalesce(f.annual_factor, 1), 2)) as minimum_pay,
+		max(round(e.pay * coalesce(f.annual_factor, 1), 2)) as maximum_pay,
+		avg(round(e.pay * coalesce(f.annual_factor, 1), 2)) as mean_pay
+	from employee e
+		left join pay_frequency f on f.pay_freq_code = e.pay_freq_code
+		left join job_type j on j.job_type_code = e.job_type_code
+	where e.pay is not null
+	group by e.job_type_code, j.job_type_description
+	order by e.job_type_code;
+
+	select pay_freq_code, annual_factor from pay_frequency order by pay_freq_code;
+end $$
+delimiter ;
+
+-- Annual pay of every employee, just the grouping codes and the
+-- amount, for percentiles computed by the client.
+drop procedure if exists sp_annual_pay;
+
+delimiter $$
+create procedure sp_annual_pay()
+begin
+	select e.department_code, e.job_type_code, round(e.pay * coalesce(f.annual_factor, 1), 2) as annual_pay
+	from employee e
+		left join pay_frequency f on f.pay_freq_code = e.pay_freq_code
+	where e.pay is not null;
+end $$
+delimiter ;
@@ -0,0 +1,26 @@
+-- Migration 005: query indexes.
+--
+-- Secondary indexes for the queries the application runs per request,
+-- so their cost follows the rows returned rather than the size of the
+-- company. Checked at startup with EXPLAIN (see QueryPlanCheck.java).
+--
+-- Department lists and pages (sp_employees_in_dept,
+-- sp_employees_in_dept_page): one seek, then rows in employee id order.
+-- It also enforces department_FK, so MySQL drops the index it made for
+-- that constraint.
+create index idx_employee_department on employee (department_code, employee_id);
+
+-- Rows changed in a department since a watermark (sp_employee_changes).
+create index idx_employee_department_updated on employee (department_code, updated_at);
+
+-- Rows that left a department since a watermark (sp_employee_changes).
+-- Covering: InnoDB appends the primary key, which holds employee_id.
+create index idx_tombstone_department_deleted on employee_tombstone (department_code, deleted_at);
+
+-- The all departments view sorted by last name or pay reads its window
+-- in index order instead of sorting the whole table.
+create index idx_employee_last_name on employee (last_name, employee_id);
+create index idx_employee_pay on employee (pay, employee_id);
+
+-- sp_all_departments orders by name. Covering, the code is the primary key.
+create index idx_department_name on department (department_name);
@@ -0,0 +1,34 @@
+-- Migration 006: employee tombstone retention.
+--
+-- employee_tombstone gains a row for every employee deleted or moved
+-- out of a department, and nothing removed them. Clients only ask for
+-- tombstones newer than their last poll (seconds ago), so rows older
+-- than a week are deleted: sp_prune_employee_tombstones does it in
+-- batches, and an event runs it every hour. The event needs the event
+-- scheduler (event_scheduler=ON, the default from MySQL 8.0); without
+-- it, call the procedure from cron instead.
+
+-- Old tombstones, found without scanning the table.
+create index idx_tombstone_deleted on employee_tombstone (deleted_at);
+
+-- Delete tombstones older than retention_days, a batch at a time so
+-- the change feed's reads are never blocked for long.
+delimiter $$
+create procedure sp_prune_employee_tombstones(in retention_days INT)
+begin
+	repeat
+		delete from employee_tombstone
+		where deleted_at < now(3) - interval retention_days day
+		limit 10000;
+	until row_count() < 10000 end repeat;
+end $$
+delimiter ;
+
+delimiter $$
+create event ev_prune_employee_tombstones
+on schedule every 1 hour
+do
+begin
+	call sp_prune_employee_tombstones(7);
+end $$
+delimiter ;
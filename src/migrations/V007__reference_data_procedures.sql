@@ -0,0 +1,32 @@
+-- Migration 007: reference data and paging procedures.
+--
+-- Procedures the application calls that were added to the create
+-- script (Create&PopulateEmployeeDB.sql) after databases had already
+-- been built from it. The create script is the baseline, version 1,
+-- and is never re-run, so they are dropped and created again here;
+-- a database built from the newer script gets the same definitions.
+
+-- The department, job type and pay frequency code tables in one round
+-- trip, as three result sets (see ReferenceData.java).
+drop procedure if exists sp_reference_data;
+
+delimiter $$
+create procedure sp_reference_data()
+begin
+	select department_code, department_name from department order by department_code;
+	select job_type_code, job_type_description from job_type order by job_type_code;
+	select pay_freq_code, pay_freq_description from pay_frequency order by pay_freq_code;
+end $$
+delimiter ;
+
+-- One page of a department in id order, for streaming large departments
+-- (EmployeeGetPage); uses the department/id index from migration 005.
+drop procedure if exists sp_employees_in_dept_page;
+
+delimiter $$
+create procedure sp_employees_in_dept_page(in dept TINYINT, in after_id INT, in page_size INT)
+begin
+	select * from employee where department_code = dept and employee_id > after_id 
+	order by employee_id limit page_size;
+end $$
+delimiter ;